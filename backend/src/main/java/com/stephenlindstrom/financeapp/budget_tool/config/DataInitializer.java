@@ -1,6 +1,5 @@
 package com.stephenlindstrom.financeapp.budget_tool.config;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.AbstractMap;
@@ -20,6 +19,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.model.Budget;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
 import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.BudgetRepository;
@@ -27,6 +27,7 @@ import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository
 import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.UserRepository;
 import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
+import com.stephenlindstrom.financeapp.budget_tool.service.MonthlyRollupService;
 
 @Configuration
 @Profile("demo")
@@ -39,7 +40,8 @@ public class DataInitializer {
     JwtService jwtService,
     CategoryRepository categoryRepository,
     BudgetRepository budgetRepository,
-    TransactionRepository transactionRepository
+    TransactionRepository transactionRepository,
+    MonthlyRollupService monthlyRollupService
   ) {
     return args -> {
       String username = "demoUser";
@@ -57,7 +59,7 @@ public class DataInitializer {
         });
         
         // Print token for demo use
-        String jwt = jwtService.generateToken(username);
+        String jwt = jwtService.generateToken(user.getId(), username);
         System.out.println("Preloaded demo user: " + username + " / " + password);
         System.out.println("Demo JWT token: Bearer " + jwt);
 
@@ -80,6 +82,8 @@ public class DataInitializer {
                 .build())
         .collect(Collectors.toMap(Category::getName, categoryRepository::save));
 
+        Random random = new Random();
+
         // Create budgets
         List<Budget> demoBudgets = new ArrayList<>();
 
@@ -89,35 +93,35 @@ public class DataInitializer {
         for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
           demoBudgets.add(Budget.builder()
                   .month(month)
-                  .value(BigDecimal.valueOf(500 + (Math.random() * 100 - 50)))
+                  .value(Money.ofCents(45_000 + random.nextInt(10_000)))
                   .category(categories.get("Groceries"))
                   .user(user)
                   .build());
 
           demoBudgets.add(Budget.builder()
                   .month(month)
-                  .value(BigDecimal.valueOf(1200))
+                  .value(Money.ofCents(120_000))
                   .category(categories.get("Rent"))
                   .user(user)
                   .build());
 
           demoBudgets.add(Budget.builder()
                   .month(month)
-                  .value(BigDecimal.valueOf(3000 + (Math.random() * 400 - 200)))
+                  .value(Money.ofCents(280_000 + random.nextInt(40_000)))
                   .category(categories.get("Salary"))
                   .user(user)
                   .build());
 
           demoBudgets.add(Budget.builder()
                   .month(month)
-                  .value(BigDecimal.valueOf(150 + (Math.random() * 50)))
+                  .value(Money.ofCents(15_000 + random.nextInt(5_000)))
                   .category(categories.get("Dining"))
                   .user(user)
                   .build());
           
           demoBudgets.add(Budget.builder()
                   .month(month)
-                  .value(BigDecimal.valueOf(100 + (Math.random() * 30)))
+                  .value(Money.ofCents(10_000 + random.nextInt(3_000)))
                   .category(categories.get("Utilities"))
                   .user(user)
                   .build());
@@ -128,8 +132,6 @@ public class DataInitializer {
         
         // Create transactions
         List<Transaction> demoTransactions = new ArrayList<>();
-        
-        Random random = new Random();
 
         for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
           int year = month.getYear();
@@ -137,7 +139,7 @@ public class DataInitializer {
 
           demoTransactions.add(Transaction.builder()
                     .description("Monthly Paycheck")
-                    .amount(BigDecimal.valueOf(2900 + random.nextInt(400)))
+                    .amount(Money.ofCents((2900 + random.nextInt(400)) * 100L))
                     .date(LocalDate.of(year, mon, 1))
                     .category(categories.get("Salary"))
                     .type(categories.get("Salary").getType())
@@ -146,7 +148,7 @@ public class DataInitializer {
 
           demoTransactions.add(Transaction.builder()
                     .description("Rent Payment")
-                    .amount(BigDecimal.valueOf(1200))
+                    .amount(Money.ofCents(120_000))
                     .date(LocalDate.of(year, mon, 1))
                     .category(categories.get("Rent"))
                     .type(categories.get("Rent").getType())
@@ -156,7 +158,7 @@ public class DataInitializer {
           for (int i = 0; i < 3 + random.nextInt(3); i++) {
             demoTransactions.add(Transaction.builder()
                     .description("Grocery Store")
-                    .amount(BigDecimal.valueOf(40 + random.nextInt(60)))
+                    .amount(Money.ofCents((40 + random.nextInt(60)) * 100L))
                     .date(LocalDate.of(year, mon, 1 + random.nextInt(27)))
                     .category(categories.get("Groceries"))
                     .type(categories.get("Groceries").getType())
@@ -167,7 +169,7 @@ public class DataInitializer {
           for (int i = 0; i < 2 + random.nextInt(3); i++) {
             demoTransactions.add(Transaction.builder()
                     .description("Restaurant")
-                    .amount(BigDecimal.valueOf(20 + random.nextInt(30)))
+                    .amount(Money.ofCents((20 + random.nextInt(30)) * 100L))
                     .date(LocalDate.of(year, mon, 1 + random.nextInt(27)))
                     .category(categories.get("Dining"))
                     .type(categories.get("Dining").getType())
@@ -177,7 +179,7 @@ public class DataInitializer {
 
           demoTransactions.add(Transaction.builder()
                   .description("Electric Bill")
-                  .amount(BigDecimal.valueOf(70 + random.nextInt(100)))
+                  .amount(Money.ofCents((70 + random.nextInt(100)) * 100L))
                   .date(LocalDate.of(year, mon, 10))
                   .category(categories.get("Utilities"))
                   .type(categories.get("Utilities").getType())
@@ -187,7 +189,7 @@ public class DataInitializer {
           if (random.nextBoolean()) {
             demoTransactions.add(Transaction.builder()
                     .description("Movie Theater")
-                    .amount(BigDecimal.valueOf(30 + random.nextInt(20)))
+                    .amount(Money.ofCents((30 + random.nextInt(20)) * 100L))
                     .date(LocalDate.of(year, mon, 1 + random.nextInt(27)))
                     .category(categories.get("Entertainment"))
                     .type(categories.get("Entertainment").getType())
@@ -198,7 +200,7 @@ public class DataInitializer {
           if (mon >= 6 && mon <= 8) {
             demoTransactions.add(Transaction.builder()
                     .description("Weekend Trip")
-                    .amount(BigDecimal.valueOf(200 + random.nextInt(300)))
+                    .amount(Money.ofCents((200 + random.nextInt(300)) * 100L))
                     .date(LocalDate.of(year, mon, 1 + random.nextInt(27)))
                     .category(categories.get("Travel"))
                     .type(categories.get("Travel").getType())
@@ -209,7 +211,7 @@ public class DataInitializer {
           if (mon == 2 || mon == 12) {
             demoTransactions.add(Transaction.builder()
                     .description("Gift Purchase")
-                    .amount(BigDecimal.valueOf(25 + random.nextInt(75)))
+                    .amount(Money.ofCents((25 + random.nextInt(75)) * 100L))
                     .date(LocalDate.of(year, mon, 1 + random.nextInt(27)))
                     .category(categories.get("Gifts"))
                     .type(categories.get("Gifts").getType())
@@ -220,6 +222,9 @@ public class DataInitializer {
 
         transactionRepository.saveAll(demoTransactions);
 
+        // Seeded directly through the repository, so derive the rollups afterwards
+        monthlyRollupService.rebuild(user);
+
       };
     }
   }
@@ -1,5 +1,10 @@
 package com.stephenlindstrom.financeapp.budget_tool.config;
 
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,13 +14,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.stephenlindstrom.financeapp.budget_tool.security.BCryptStrengthCalibrator;
+import com.stephenlindstrom.financeapp.budget_tool.security.BoundedPasswordEncoder;
 import com.stephenlindstrom.financeapp.budget_tool.security.JwtAuthFilter;
 import com.stephenlindstrom.financeapp.budget_tool.security.JwtAuthenticationEntryPoint;
+import com.stephenlindstrom.financeapp.budget_tool.security.PasswordHashingExecutor;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+  private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
   // Custom filter that intercepts requests to validate JWTs
   private final JwtAuthFilter jwtAuthFilter;
 
@@ -38,6 +50,8 @@ public class SecurityConfig {
       .exceptionHandling(ex -> ex
         .authenticationEntryPoint(jwtAuthenticationEntryPoint))
       .authorizeHttpRequests(auth -> auth
+        // Streamed responses finish on an async dispatch of a request that was already authorized
+        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
         .requestMatchers(
           "/api/auth/**",
           "/v3/api-docs/**",
@@ -49,8 +63,22 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * BCrypt running on the bounded hashing pool. The strength is fixed by
+   * {@code auth.bcrypt.strength} or, when that is 0, calibrated at startup so one hash
+   * takes about {@code auth.bcrypt.target-hash-time} on this host. Existing hashes keep
+   * verifying at the strength they were created with.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                         @Value("${auth.bcrypt.strength:0}") int strength,
+                                         @Value("${auth.bcrypt.target-hash-time:250ms}") Duration targetHashTime,
+                                         @Value("${auth.bcrypt.min-strength:10}") int minStrength,
+                                         @Value("${auth.bcrypt.max-strength:14}") int maxStrength) {
+    int effectiveStrength = strength > 0
+        ? strength
+        : BCryptStrengthCalibrator.calibrate(targetHashTime, minStrength, maxStrength);
+    log.info("Using BCrypt strength {}", effectiveStrength);
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(effectiveStrength), passwordHashingExecutor);
   }
 }
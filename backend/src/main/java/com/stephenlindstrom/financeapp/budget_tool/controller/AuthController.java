@@ -11,6 +11,8 @@ import com.stephenlindstrom.financeapp.budget_tool.dto.ErrorResponse;
 import com.stephenlindstrom.financeapp.budget_tool.dto.LoginRequest;
 import com.stephenlindstrom.financeapp.budget_tool.dto.SuccessResponse;
 import com.stephenlindstrom.financeapp.budget_tool.dto.UserRegistrationDTO;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.security.LoginRateLimiter;
 import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
 import com.stephenlindstrom.financeapp.budget_tool.service.UserService;
 
@@ -20,6 +22,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 /**
  * REST controller for authentication-related endpoints.
@@ -33,10 +36,12 @@ public class AuthController {
 
   private final UserService userService;
   private final JwtService jwtService;
+  private final LoginRateLimiter loginRateLimiter;
 
-  public AuthController(UserService userService, JwtService jwtService) {
+  public AuthController(UserService userService, JwtService jwtService, LoginRateLimiter loginRateLimiter) {
     this.userService = userService;
     this.jwtService = jwtService;
+    this.loginRateLimiter = loginRateLimiter;
   }
 
   @Operation(
@@ -72,6 +77,18 @@ public class AuthController {
             """
         )
       )
+    ),
+    @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests; retry after the Retry-After delay",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "OverloadedError", value = """
+            {
+              "message": "Too many authentication requests, try again shortly"
+            }
+            """
+        )
+      )
     )
   })
   @PostMapping("/register")
@@ -114,12 +131,39 @@ public class AuthController {
       )
     ),
     @ApiResponse(responseCode = "401", description = "Invalid username or password", 
-      content = @Content(schema = @Schema(implementation = String.class)))
+      content = @Content(schema = @Schema(implementation = String.class))),
+    @ApiResponse(responseCode = "429", description = "Too many failed login attempts for this username or from this address; retry after the Retry-After delay",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "RateLimitedError", value = """
+            {
+              "message": "Too many login attempts for this user"
+            }
+            """
+        )
+      )
+    ),
+    @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests; retry after the Retry-After delay",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "OverloadedError", value = """
+            {
+              "message": "Too many authentication requests, try again shortly"
+            }
+            """
+        )
+      )
+    )
   })
   @PostMapping("/login")
-  public ResponseEntity<SuccessResponse> login(@RequestBody @Valid LoginRequest loginRequest) {
-      userService.authenticateUser(loginRequest.getUsername(), loginRequest.getPassword());
-      String token = jwtService.generateToken(loginRequest.getUsername());
+  public ResponseEntity<SuccessResponse> login(@RequestBody @Valid LoginRequest loginRequest, HttpServletRequest request) {
+      // Rejected before any password hashing happens
+      loginRateLimiter.checkLoginAttempt(loginRequest.getUsername(), request.getRemoteAddr());
+      User user = userService.authenticateUser(loginRequest.getUsername(), loginRequest.getPassword());
+      loginRateLimiter.recordSuccessfulLogin(loginRequest.getUsername(), request.getRemoteAddr());
+      String token = jwtService.generateToken(user.getId(), user.getUsername());
       return ResponseEntity.ok(new SuccessResponse("Login successful", token));
   }
 }
@@ -1,5 +1,6 @@
 package com.stephenlindstrom.financeapp.budget_tool.controller;
 
+import java.time.YearMonth;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -11,13 +12,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetMonthSummaryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.ErrorResponse;
 import com.stephenlindstrom.financeapp.budget_tool.dto.MonthDTO;
 import com.stephenlindstrom.financeapp.budget_tool.service.BudgetService;
+import com.stephenlindstrom.financeapp.budget_tool.service.DataVersionService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,7 +37,7 @@ import jakarta.validation.Valid;
 /**
  * REST controller for budget-related endpoints.
  * Handles requests for creating, retrieving, updating, and deleting budgets,
- * as well as fetching available budget months.
+ * as well as fetching available budget months and budget summaries.
  *
  * Base route: /api/budgets
  */
@@ -48,9 +54,11 @@ import jakarta.validation.Valid;
 public class BudgetController {
 
   private final BudgetService budgetService;
+  private final DataVersionService dataVersionService;
 
-  public BudgetController(BudgetService budgetService) {
+  public BudgetController(BudgetService budgetService, DataVersionService dataVersionService) {
     this.budgetService = budgetService;
+    this.dataVersionService = dataVersionService;
   }
 
   @Operation(
@@ -82,10 +90,19 @@ public class BudgetController {
 
   @Operation(
     summary = "Get all budgets",
-    description = "Returns a list of all budgets sorted by date."
+    description = "Returns a list of all budgets sorted by date, optionally limited to a range of months. "
+                + "The response carries an ETag; send it back in If-None-Match to receive 304 while nothing has changed."
   )
   @ApiResponses({
     @ApiResponse(responseCode = "200", description = "Budgets found and returned"),
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match", content = @Content),
+    @ApiResponse(responseCode = "400", description = "Malformed month or a range that starts after it ends",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Validation Error", value = "{\"message\": \"Range start 2025-06 is after range end 2025-01\"}")
+      )
+    ),
     @ApiResponse(responseCode = "500", description = "Server error",
       content = @Content(
         mediaType = "application/json",
@@ -95,8 +112,18 @@ public class BudgetController {
     )
   })
   @GetMapping
-  public ResponseEntity<List<BudgetDTO>> getAll() {
-    return ResponseEntity.ok(budgetService.getAll());
+  public ResponseEntity<List<BudgetDTO>> getAll(
+    @Parameter(description = "First month to include in yyyy-MM format; omit for no lower bound", example = "2025-01")
+    @RequestParam(required = false) YearMonth from,
+    @Parameter(description = "Last month to include in yyyy-MM format; omit for no upper bound", example = "2025-12")
+    @RequestParam(required = false) YearMonth to,
+    WebRequest request
+  ) {
+    if (from == null && to == null) {
+      return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(), budgetService::getAll);
+    }
+    return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(),
+        () -> budgetService.getByMonthRange(from, to));
   }
 
   @Operation(
@@ -132,10 +159,20 @@ public class BudgetController {
 
   @Operation(
     summary = "Get available months with saved budgets",
-    description = "Returns a list of all year-month combinations that have saved budget records with most recent first."
+    description = "Returns a list of all year-month combinations that have saved budget records with most recent first, "
+                + "optionally limited to a range of months. "
+                + "The response carries an ETag; send it back in If-None-Match to receive 304 while nothing has changed."
   )
   @ApiResponses({
     @ApiResponse(responseCode = "200", description = "Months found and returned"),
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match", content = @Content),
+    @ApiResponse(responseCode = "400", description = "Malformed month or a range that starts after it ends",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Validation Error", value = "{\"message\": \"Range start 2025-06 is after range end 2025-01\"}")
+      )
+    ),
     @ApiResponse(responseCode = "500", description = "Server error",
       content = @Content(
         mediaType = "application/json",
@@ -145,8 +182,76 @@ public class BudgetController {
     )
   })
   @GetMapping("/months")
-  public ResponseEntity<List<MonthDTO>> getAvailableMonths() {
-    return ResponseEntity.ok(budgetService.getAvailableMonths());
+  public ResponseEntity<List<MonthDTO>> getAvailableMonths(
+    @Parameter(description = "First month to include in yyyy-MM format; omit for no lower bound", example = "2025-01")
+    @RequestParam(required = false) YearMonth from,
+    @Parameter(description = "Last month to include in yyyy-MM format; omit for no upper bound", example = "2025-12")
+    @RequestParam(required = false) YearMonth to,
+    WebRequest request
+  ) {
+    if (from == null && to == null) {
+      return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(), budgetService::getAvailableMonths);
+    }
+    return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(),
+        () -> budgetService.getAvailableMonths(from, to));
+  }
+
+  @Operation(
+    summary = "Get budget summaries for a month",
+    description = "Returns the amount budgeted, spent, and remaining for every budget in the given month, sorted by category name."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Budget summaries found and returned"),
+    @ApiResponse(responseCode = "400", description = "Missing or malformed month",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Validation Error", value = "{\"message\": \"Validation failed for request\"}")
+      )
+    ),
+    @ApiResponse(responseCode = "500", description = "Server error",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "ServerErrorExample", value = "{\"message\": \"An unexpected error occurred\"}")
+      )
+    )
+  })
+  @GetMapping("/summary")
+  public ResponseEntity<List<BudgetMonthSummaryDTO>> getSummariesByMonth(
+    @Parameter(description = "Year and month to summarize in yyyy-MM format", example = "2025-06")
+    @RequestParam YearMonth month
+  ) {
+    return ResponseEntity.ok(budgetService.getSummariesByMonth(month));
+  }
+
+  @Operation(
+    summary = "Get budget summary by ID",
+    description = "Returns the amount budgeted, spent, and remaining for the budget with the given ID."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Budget summary found and returned"),
+    @ApiResponse(responseCode = "404", description = "Budget not found",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "NotFoundExample", value = "{\"message\": \"Resource not found\"}")
+      )
+    ),
+    @ApiResponse(responseCode = "500", description = "Server error",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "ServerErrorExample", value = "{\"message\": \"An unexpected error occurred\"}")
+      )
+    )
+  })
+  @GetMapping("/{id}/summary")
+  public ResponseEntity<BudgetSummaryDTO> getBudgetSummary(
+    @Parameter(description = "ID of the budget to summarize")
+    @PathVariable Long id
+  ) {
+    return ResponseEntity.ok(budgetService.getBudgetSummary(id));
   }
 
   @Operation(
@@ -12,11 +12,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.ErrorResponse;
 import com.stephenlindstrom.financeapp.budget_tool.service.CategoryService;
+import com.stephenlindstrom.financeapp.budget_tool.service.DataVersionService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,9 +48,11 @@ import jakarta.validation.Valid;
 public class CategoryController {
 
   private final CategoryService categoryService;
+  private final DataVersionService dataVersionService;
 
-  public CategoryController(CategoryService categoryService) {
+  public CategoryController(CategoryService categoryService, DataVersionService dataVersionService) {
     this.categoryService = categoryService;
+    this.dataVersionService = dataVersionService;
   }
 
   @Operation(
@@ -80,10 +84,12 @@ public class CategoryController {
 
   @Operation(
     summary= "Get all categories",
-    description = "Returns a list of all categories sorted by name."
+    description = "Returns a list of all categories sorted by name. "
+                + "The response carries an ETag; send it back in If-None-Match to receive 304 while nothing has changed."
   )
   @ApiResponses({
     @ApiResponse(responseCode = "200", description = "Categories found and returned"),
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match", content = @Content),
     @ApiResponse(responseCode = "500", description = "Server error",
       content = @Content(
         mediaType = "application/json",
@@ -93,8 +99,8 @@ public class CategoryController {
     )
   })
   @GetMapping
-  public ResponseEntity<List<CategoryDTO>> getAll() {
-    return ResponseEntity.ok(categoryService.getAll());
+  public ResponseEntity<List<CategoryDTO>> getAll(WebRequest request) {
+    return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(), categoryService::getAll);
   }
 
   @Operation(
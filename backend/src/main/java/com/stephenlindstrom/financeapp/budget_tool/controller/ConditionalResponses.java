@@ -0,0 +1,42 @@
+package com.stephenlindstrom.financeapp.budget_tool.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Builds list responses that are revalidated against the user's data version.
+ * The version is read before the list, so a write landing in between can only make
+ * the ETag older than the body, which costs the client one extra download but never
+ * lets it keep stale data.
+ */
+final class ConditionalResponses {
+
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalResponses() {
+  }
+
+  /**
+   * Answers 304 when the request's If-None-Match matches the ETag, without computing the body.
+   * Otherwise computes the body and returns it with the ETag.
+   *
+   * @param request the current request, which receives the 304 status and ETag header
+   * @param eTag the strong ETag for the user's current data version
+   * @param body computes the response body
+   * @return the 200 response, or null once the 304 has been written
+   */
+  static <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String eTag, Supplier<T> body) {
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+    return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .body(body.get());
+  }
+}
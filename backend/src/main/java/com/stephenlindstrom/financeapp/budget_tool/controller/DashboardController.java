@@ -0,0 +1,86 @@
+package com.stephenlindstrom.financeapp.budget_tool.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.DashboardDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.ErrorResponse;
+import com.stephenlindstrom.financeapp.budget_tool.service.DashboardService;
+import com.stephenlindstrom.financeapp.budget_tool.service.DataVersionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller for the dashboard.
+ * Serves everything the dashboard screen needs in one round trip.
+ *
+ * Base route: /api/dashboard
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@ApiResponses(value = {
+  @ApiResponse(responseCode = "401", description = "Unauthorized - Valid JWT token required",
+    content = @Content(
+      mediaType = "text/plain",
+      examples = @ExampleObject(name = "UnauthorizedError", value = "Unauthorized")
+    )
+  )
+})
+public class DashboardController {
+
+  private final DashboardService dashboardService;
+  private final DataVersionService dataVersionService;
+
+  public DashboardController(DashboardService dashboardService, DataVersionService dataVersionService) {
+    this.dashboardService = dashboardService;
+    this.dataVersionService = dataVersionService;
+  }
+
+  @Operation(
+    summary = "Get the dashboard for a month",
+    description = "Returns the months with saved budgets, the month's budgets with amounts spent and remaining, "
+                + "all categories and the most recent transactions in one response. "
+                + "The response carries an ETag; send it back in If-None-Match to receive 304 while nothing has changed."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Dashboard found and returned"),
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match", content = @Content),
+    @ApiResponse(responseCode = "400", description = "Missing or malformed month, or recent count out of range",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Validation Error", value = "{\"message\": \"Validation failed for request\"}")
+      )
+    ),
+    @ApiResponse(responseCode = "500", description = "Server error",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "ServerErrorExample", value = "{\"message\": \"An unexpected error occurred\"}")
+      )
+    )
+  })
+  @GetMapping
+  public ResponseEntity<DashboardDTO> get(
+    @Parameter(description = "Year and month to summarize in yyyy-MM format", example = "2025-06")
+    @RequestParam YearMonth month,
+    @Parameter(description = "Number of most recent transactions to include (1-500)", example = "10")
+    @RequestParam(defaultValue = "10") int recent,
+    WebRequest request
+  ) {
+    return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(),
+      () -> dashboardService.get(month, recent));
+  }
+}
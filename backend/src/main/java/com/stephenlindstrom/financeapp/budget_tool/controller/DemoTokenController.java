@@ -6,6 +6,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.UserRepository;
 import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,9 +26,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class DemoTokenController {
 
   private final JwtService jwtService;
+  private final UserRepository userRepository;
 
-  public DemoTokenController(JwtService jwtService) {
+  public DemoTokenController(JwtService jwtService, UserRepository userRepository) {
     this.jwtService = jwtService;
+    this.userRepository = userRepository;
   }
 
   @Operation(summary = "Get JWT token for demo user", 
@@ -38,7 +43,9 @@ public class DemoTokenController {
   })
   @GetMapping("/demo-token")
   public ResponseEntity<String> getDemoToken() {
-    String token = jwtService.generateToken("demoUser");
+    User demoUser = userRepository.findByUsername("demoUser")
+            .orElseThrow(() -> new ResourceNotFoundException("Demo user not found"));
+    String token = jwtService.generateToken(demoUser.getId(), demoUser.getUsername());
     return ResponseEntity.ok(token);
   }
 
@@ -0,0 +1,71 @@
+package com.stephenlindstrom.financeapp.budget_tool.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.DataChangeDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.ErrorResponse;
+import com.stephenlindstrom.financeapp.budget_tool.service.ChangeFeedService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller for the change feed.
+ * Streams changes to the authenticated user's data as Server-Sent Events.
+ *
+ * Base route: /api/events
+ */
+@RestController
+@RequestMapping("/api/events")
+@ApiResponses(value = {
+  @ApiResponse(responseCode = "401", description = "Unauthorized - Valid JWT token required",
+    content = @Content(
+      mediaType = "text/plain",
+      examples = @ExampleObject(name = "UnauthorizedError", value = "Unauthorized")
+    )
+  )
+})
+public class EventController {
+
+  private final ChangeFeedService changeFeedService;
+
+  public EventController(ChangeFeedService changeFeedService) {
+    this.changeFeedService = changeFeedService;
+  }
+
+  @Operation(
+    summary = "Subscribe to changes",
+    description = "Opens a Server-Sent Events stream with one \"change\" event for every transaction, budget or category "
+                + "of the authenticated user that is created, updated or deleted. Batch creates and CSV imports send one "
+                + "BULK_CREATED change with a count instead, after which clients should reload that resource's lists. "
+                + "A heartbeat comment is sent while idle. "
+                + "Clients that fall too far behind are disconnected and should reconnect and reload their lists."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Stream opened",
+      content = @Content(
+        mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+        schema = @Schema(implementation = DataChangeDTO.class)
+      )
+    ),
+    @ApiResponse(responseCode = "429", description = "Too many open streams for this user",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "TooManyStreamsExample", value = "{\"message\": \"Too many open event streams\"}")
+      )
+    )
+  })
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe() {
+    return changeFeedService.subscribe();
+  }
+}
@@ -1,8 +1,12 @@
 package com.stephenlindstrom.financeapp.budget_tool.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,13 +16,25 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stephenlindstrom.financeapp.budget_tool.dto.CsvColumnMapping;
 import com.stephenlindstrom.financeapp.budget_tool.dto.ErrorResponse;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionBatchResultDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionImportResultDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionPageDTO;
+import com.stephenlindstrom.financeapp.budget_tool.service.DataVersionService;
+import com.stephenlindstrom.financeapp.budget_tool.service.TransactionImportService;
 import com.stephenlindstrom.financeapp.budget_tool.service.TransactionService;
+import com.stephenlindstrom.financeapp.budget_tool.service.TransactionServiceImpl;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,10 +44,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 
 /**
  * REST controller for managing transactions.
- * Provides endpoints to create, retrieve, filter, update, and delete transactions.
+ * Provides endpoints to create (singly, in bulk or from a CSV import), retrieve, filter, export, update, and delete transactions.
  *
  * Base route: /api/transactions
  */
@@ -48,9 +65,15 @@ import jakarta.validation.Valid;
 public class TransactionController {
 
   private final TransactionService transactionService;
+  private final TransactionImportService transactionImportService;
+  private final ObjectMapper objectMapper;
+  private final DataVersionService dataVersionService;
 
-  public TransactionController(TransactionService transactionService) {
+  public TransactionController(TransactionService transactionService, TransactionImportService transactionImportService, ObjectMapper objectMapper, DataVersionService dataVersionService) {
     this.transactionService = transactionService;
+    this.transactionImportService = transactionImportService;
+    this.objectMapper = objectMapper;
+    this.dataVersionService = dataVersionService;
   }
 
   @Operation(
@@ -80,12 +103,86 @@ public class TransactionController {
     return ResponseEntity.status(HttpStatus.CREATED).body(created);
   }
 
+  @Operation(
+    summary = "Create transactions in bulk",
+    description = "Creates up to 5000 transactions in one request. Each item is validated on its own, "
+                + "so invalid items are reported in the results without stopping the rest of the batch."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results"),
+    @ApiResponse(responseCode = "400", description = "Batch is empty or too large",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "BatchSizeExample", value = "{\"message\": \"Batch must contain between 1 and 5000 transactions\"}")
+      )
+    ),
+    @ApiResponse(responseCode = "500", description = "Server error",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "ServerErrorExample", value = "{\"message\": \"An unexpected error occurred\"}")
+      )
+    )
+  })
+  @PostMapping("/batch")
+  public ResponseEntity<TransactionBatchResultDTO> createAll(
+      @RequestBody @Size(min = 1, max = TransactionServiceImpl.MAX_BATCH_SIZE,
+                         message = "Batch must contain between {min} and {max} transactions")
+      List<TransactionCreateDTO> dtos) {
+    return ResponseEntity.ok(transactionService.createAll(dtos));
+  }
+
+  @Operation(
+    summary = "Import a CSV bank statement",
+    description = "Imports transactions from a CSV file sent as the request body. The first row must be a header; "
+                + "query parameters map its columns onto transaction fields. Categories are matched by name. "
+                + "Rows are written in chunks as the file is read, and rejected lines are reported by line number."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "File processed; see the counts and rejected lines"),
+    @ApiResponse(responseCode = "400", description = "Empty file, missing column or invalid mapping",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "MissingColumnExample", value = "{\"message\": \"CSV is missing column: Date\"}")
+      )
+    ),
+    @ApiResponse(responseCode = "500", description = "Server error",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "ServerErrorExample", value = "{\"message\": \"An unexpected error occurred\"}")
+      )
+    )
+  })
+  @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  public ResponseEntity<TransactionImportResultDTO> importCsv(@ModelAttribute CsvColumnMapping mapping, InputStream body) throws IOException {
+    return ResponseEntity.ok(transactionImportService.importCsv(body, mapping));
+  }
+
   @Operation(
     summary = "Get all transactions",
-    description = "Returns a list of all transactions sorted by date with most recent transaction first."
+    description = "Returns a page of transactions sorted by date with most recent transaction first. "
+                + "Pass the returned next cursor to fetch the following page. "
+                + "Set unpaged=true to receive every transaction as a plain list instead. "
+                + "The response carries an ETag; send it back in If-None-Match to receive 304 while nothing has changed."
   )
   @ApiResponses({
-    @ApiResponse(responseCode = "200", description = "Transactions found and returned"),
+    @ApiResponse(responseCode = "200", description = "Transactions found and returned",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(oneOf = {TransactionPageDTO.class, TransactionDTO[].class})
+      )
+    ),
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match", content = @Content),
+    @ApiResponse(responseCode = "400", description = "Invalid limit or cursor",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "InvalidCursorExample", value = "{\"message\": \"Invalid cursor\"}")
+      )
+    ),
     @ApiResponse(responseCode = "500", description = "Server error",
       content = @Content(
         mediaType = "application/json",
@@ -95,16 +192,81 @@ public class TransactionController {
     )
   })
   @GetMapping
-  public ResponseEntity<List<TransactionDTO>> getAll() {
-    return ResponseEntity.ok(transactionService.getAll());
+  public ResponseEntity<?> getAll(
+    @Parameter(description = "Maximum number of transactions per page (1-500)", example = "50")
+    @RequestParam(defaultValue = "50") int limit,
+    @Parameter(description = "Cursor returned as next by the previous page")
+    @RequestParam(required = false) String cursor,
+    @Parameter(description = "Return every transaction as a plain list without paging")
+    @RequestParam(defaultValue = "false") boolean unpaged,
+    WebRequest request
+  ) {
+    return ConditionalResponses.ifNoneMatch(request, dataVersionService.getCurrentETag(),
+      () -> unpaged ? transactionService.getAll() : transactionService.getAll(limit, cursor));
+  }
+
+  @Operation(
+    summary = "Export all transactions",
+    description = "Streams every transaction as newline-delimited JSON, one TransactionDTO per line, "
+                + "sorted by date with most recent transaction first. Rows are written as they are read, "
+                + "so the export size is not limited by server memory."
+  )
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Transactions streamed",
+      content = @Content(
+        mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+        schema = @Schema(implementation = TransactionDTO.class)
+      )
+    ),
+    @ApiResponse(responseCode = "500", description = "Server error",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "ServerErrorExample", value = "{\"message\": \"An unexpected error occurred\"}")
+      )
+    )
+  })
+  @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream() {
+    StreamingResponseBody body = outputStream -> {
+      try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+        transactionService.streamAll(dto -> {
+          try {
+            generator.writeObject(dto);
+            generator.writeRaw('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    };
+
+    return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
   }
 
   @Operation(
     summary = "Get filtered transactions",
-    description = "Returns a list of transactions optionally filtered by transaction type, category, start date, and/or end date. Transactions are sorted by date with most recent transaction first."
+    description = "Returns a page of transactions optionally filtered by transaction type, category, start date, and/or end date. "
+                + "Transactions are sorted by date with most recent transaction first. "
+                + "Pass the returned next cursor to fetch the following page. "
+                + "Set unpaged=true to receive every matching transaction as a plain list instead."
   )
   @ApiResponses({
-    @ApiResponse(responseCode = "200", description = "Transactions found and returned"),
+    @ApiResponse(responseCode = "200", description = "Transactions found and returned",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(oneOf = {TransactionPageDTO.class, TransactionDTO[].class})
+      )
+    ),
+    @ApiResponse(responseCode = "400", description = "Invalid limit or cursor",
+      content = @Content(
+        mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "InvalidCursorExample", value = "{\"message\": \"Invalid cursor\"}")
+      )
+    ),
     @ApiResponse(responseCode = "500", description = "Server error", 
       content = @Content(
         mediaType = "application/json",
@@ -114,9 +276,19 @@ public class TransactionController {
     )
   })
   @GetMapping("/filter")
-  public ResponseEntity<List<TransactionDTO>> filter(@ModelAttribute TransactionFilter filter) {
-    List<TransactionDTO> results = transactionService.filter(filter);
-    return ResponseEntity.ok(results);
+  public ResponseEntity<?> filter(
+    @ModelAttribute TransactionFilter filter,
+    @Parameter(description = "Maximum number of transactions per page (1-500)", example = "50")
+    @RequestParam(defaultValue = "50") int limit,
+    @Parameter(description = "Cursor returned as next by the previous page")
+    @RequestParam(required = false) String cursor,
+    @Parameter(description = "Return every matching transaction as a plain list without paging")
+    @RequestParam(defaultValue = "false") boolean unpaged
+  ) {
+    if (unpaged) {
+      return ResponseEntity.ok(transactionService.filter(filter));
+    }
+    return ResponseEntity.ok(transactionService.filter(filter, limit, cursor));
   }
 
   @Operation(
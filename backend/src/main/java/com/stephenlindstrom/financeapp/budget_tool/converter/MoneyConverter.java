@@ -0,0 +1,23 @@
+package com.stephenlindstrom.financeapp.budget_tool.converter;
+
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link Money} as its number of cents in a {@code BIGINT} column.
+ */
+@Converter(autoApply = false)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+  @Override
+  public Long convertToDatabaseColumn(Money attribute) {
+    return attribute != null ? attribute.cents() : null;
+  }
+
+  @Override
+  public Money convertToEntityAttribute(Long dbData) {
+    return dbData != null ? Money.ofCents(dbData) : null;
+  }
+}
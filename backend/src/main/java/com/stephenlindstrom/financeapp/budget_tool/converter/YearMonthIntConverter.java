@@ -0,0 +1,25 @@
+package com.stephenlindstrom.financeapp.budget_tool.converter;
+
+import java.time.YearMonth;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link YearMonth} as the integer {@code yyyymm}, e.g. 202503 for March 2025.
+ * The encoding sorts chronologically, so month ranges are plain numeric comparisons
+ * that an index can answer, and reading a row is arithmetic rather than parsing.
+ */
+@Converter(autoApply = false)
+public class YearMonthIntConverter implements AttributeConverter<YearMonth, Integer> {
+
+  @Override
+  public Integer convertToDatabaseColumn(YearMonth attribute) {
+    return attribute != null ? attribute.getYear() * 100 + attribute.getMonthValue() : null;
+  }
+
+  @Override
+  public YearMonth convertToEntityAttribute(Integer dbData) {
+    return dbData != null ? YearMonth.of(dbData / 100, dbData % 100) : null;
+  }
+}
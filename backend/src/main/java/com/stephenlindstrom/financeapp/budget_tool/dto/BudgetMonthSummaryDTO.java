@@ -0,0 +1,33 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Summary of a single budget within a month, including amount spent and remaining.
+ */
+@Builder
+@Data
+public class BudgetMonthSummaryDTO {
+  @Schema(description = "Unique identifier of the budget", example = "1")
+  private Long budgetId;
+
+  @Schema(description = "Year and month of budget", example = "2025-02", type = "string", pattern = "yyyy-MM")
+  private YearMonth month;
+
+  @Schema(description = "Category DTO that budget belongs to")
+  private CategoryDTO category;
+
+  @Schema(description = "Amount budgeted", example = "500.00")
+  private BigDecimal budgeted;
+
+  @Schema(description = "Amount spent", example = "101.50")
+  private BigDecimal spent;
+
+  @Schema(description = "Amount remaining after subtracting spent from budgeted", example = "398.50")
+  private BigDecimal remaining;
+}
@@ -0,0 +1,34 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Describes how the columns of a CSV bank statement map onto transaction fields.
+ * Column names are matched against the header row, ignoring case and surrounding spaces.
+ */
+@Data
+@NoArgsConstructor
+public class CsvColumnMapping {
+  @Schema(description = "Header of the column holding the transaction date", example = "Date")
+  private String dateColumn = "Date";
+
+  @Schema(description = "Header of the column holding the amount; negative amounts are expenses unless a type column is mapped", example = "Amount")
+  private String amountColumn = "Amount";
+
+  @Schema(description = "Header of the column holding the category name", example = "Category")
+  private String categoryColumn = "Category";
+
+  @Schema(description = "Header of the optional description column", example = "Description")
+  private String descriptionColumn = "Description";
+
+  @Schema(description = "Header of an optional column holding INCOME/EXPENSE or CREDIT/DEBIT", example = "Type")
+  private String typeColumn;
+
+  @Schema(description = "Pattern the date column is written in", example = "yyyy-MM-dd")
+  private String dateFormat = "yyyy-MM-dd";
+
+  @Schema(description = "Character separating the columns", example = ",")
+  private char delimiter = ',';
+}
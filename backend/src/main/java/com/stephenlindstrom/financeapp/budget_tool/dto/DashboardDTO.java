@@ -0,0 +1,30 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Everything the dashboard screen shows for one month, in a single response.
+ */
+@Data
+@Builder
+public class DashboardDTO {
+  @Schema(description = "Year and month the budgets are summarized for", example = "2025-06", type = "string", pattern = "yyyy-MM")
+  private YearMonth month;
+
+  @Schema(description = "Months that have saved budgets, most recent first")
+  private List<MonthDTO> months;
+
+  @Schema(description = "Amount budgeted, spent and remaining for every budget in the month, sorted by category name")
+  private List<BudgetMonthSummaryDTO> budgets;
+
+  @Schema(description = "All categories sorted by name")
+  private List<CategoryDTO> categories;
+
+  @Schema(description = "Most recent transactions, newest first")
+  private List<TransactionDTO> recentTransactions;
+}
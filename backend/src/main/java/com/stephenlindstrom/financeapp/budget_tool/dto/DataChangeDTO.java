@@ -0,0 +1,32 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One change to the user's data, as pushed on the event stream.
+ */
+@Data
+@Builder
+public class DataChangeDTO {
+  @Schema(description = "Kind of resource that changed", example = "TRANSACTION")
+  private ResourceType resource;
+
+  @Schema(description = "What happened to the resource", example = "CREATED")
+  private ChangeType change;
+
+  @Schema(description = "Unique identifier of the resource; null for bulk changes", example = "42")
+  private Long id;
+
+  @Schema(description = "How many resources a bulk change created; the client should reload that resource's lists. Null otherwise",
+          example = "1200")
+  private Integer count;
+
+  @Schema(description = "The resource after the change, shaped like the matching GET response; null for deletions and bulk changes",
+          oneOf = {TransactionDTO.class, BudgetDTO.class, CategoryDTO.class})
+  private Object data;
+}
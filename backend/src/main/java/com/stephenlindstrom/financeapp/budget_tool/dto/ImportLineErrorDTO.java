@@ -0,0 +1,18 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A CSV line that could not be imported and the reason why.
+ */
+@Data
+@AllArgsConstructor
+public class ImportLineErrorDTO {
+  @Schema(description = "Line number in the uploaded file, counting the header as line 1", example = "42")
+  private long line;
+
+  @Schema(description = "Why the line was rejected", example = "Invalid date '2025-13-01'")
+  private String message;
+}
@@ -0,0 +1,26 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.BatchItemStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one item in a batch of transactions.
+ */
+@Data
+@Builder
+public class TransactionBatchItemDTO {
+  @Schema(description = "Zero-based position of the item in the request", example = "0")
+  private int index;
+
+  @Schema(description = "Whether the item was created", example = "CREATED", allowableValues = {"CREATED", "FAILED"})
+  private BatchItemStatus status;
+
+  @Schema(description = "The created transaction, or null when the item failed")
+  private TransactionDTO transaction;
+
+  @Schema(description = "Why the item failed, or null when it was created", example = "Category not found")
+  private String error;
+}
@@ -0,0 +1,23 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Result of creating a batch of transactions, with one entry per submitted item.
+ */
+@Data
+@Builder
+public class TransactionBatchResultDTO {
+  @Schema(description = "Number of transactions created", example = "998")
+  private int created;
+
+  @Schema(description = "Number of items rejected", example = "2")
+  private int failed;
+
+  @Schema(description = "Outcome of every item, in request order")
+  private List<TransactionBatchItemDTO> results;
+}
@@ -0,0 +1,43 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last transaction on a page, in (date DESC, id DESC) order.
+ * Exchanged with clients as an opaque URL-safe string.
+ */
+public record TransactionCursor(LocalDate date, Long id) {
+
+  /**
+   * Encodes the cursor as an opaque URL-safe string.
+   *
+   * @return the encoded cursor
+   */
+  public String encode() {
+    String raw = date + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor previously returned by {@link #encode()}.
+   *
+   * @param encoded the encoded cursor
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the value is not a valid cursor
+   */
+  public static TransactionCursor decode(String encoded) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      return new TransactionCursor(
+        LocalDate.parse(raw.substring(0, separator)),
+        Long.valueOf(raw.substring(separator + 1))
+      );
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Summary of a CSV import: how many rows were read, imported and rejected,
+ * and which lines were rejected.
+ */
+@Data
+@Builder
+public class TransactionImportResultDTO {
+  @Schema(description = "Number of data rows read, excluding the header", example = "52000")
+  private long rowsRead;
+
+  @Schema(description = "Number of transactions imported", example = "51997")
+  private long imported;
+
+  @Schema(description = "Number of rows rejected", example = "3")
+  private long failed;
+
+  @Schema(description = "Rejected lines with the reason, capped at the first 1000")
+  private List<ImportLineErrorDTO> errors;
+
+  @Schema(description = "Whether more lines were rejected than are listed in errors", example = "false")
+  private boolean errorsTruncated;
+}
@@ -0,0 +1,20 @@
+package com.stephenlindstrom.financeapp.budget_tool.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One page of transactions, newest first, with the cursor for the following page.
+ */
+@Data
+@Builder
+public class TransactionPageDTO {
+  @Schema(description = "Transactions on this page sorted by date with most recent transaction first")
+  private List<TransactionDTO> items;
+
+  @Schema(description = "Opaque cursor to pass back to fetch the next page, or null on the last page", example = "MjAyNS0wNi0wMzo0Mg")
+  private String next;
+}
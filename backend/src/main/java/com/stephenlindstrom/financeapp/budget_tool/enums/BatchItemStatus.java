@@ -0,0 +1,6 @@
+package com.stephenlindstrom.financeapp.budget_tool.enums;
+
+public enum BatchItemStatus {
+  CREATED,
+  FAILED
+}
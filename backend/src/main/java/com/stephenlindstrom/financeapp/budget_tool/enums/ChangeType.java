@@ -0,0 +1,8 @@
+package com.stephenlindstrom.financeapp.budget_tool.enums;
+
+public enum ChangeType {
+  CREATED,
+  UPDATED,
+  DELETED,
+  BULK_CREATED
+}
@@ -0,0 +1,7 @@
+package com.stephenlindstrom.financeapp.budget_tool.enums;
+
+public enum ResourceType {
+  TRANSACTION,
+  BUDGET,
+  CATEGORY
+}
@@ -0,0 +1,11 @@
+package com.stephenlindstrom.financeapp.budget_tool.errors;
+
+/**
+ * Thrown when a request is shed because the server is at capacity for that kind of work.
+ * Mapped to 503 Service Unavailable.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+  public ServiceOverloadedException(String message) {
+    super(message);
+  }
+}
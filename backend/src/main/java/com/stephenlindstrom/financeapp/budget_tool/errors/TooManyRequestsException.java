@@ -0,0 +1,24 @@
+package com.stephenlindstrom.financeapp.budget_tool.errors;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a client exceeds a rate limit. Mapped to 429 Too Many Requests
+ * with a Retry-After header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public TooManyRequestsException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * How long the client should wait before trying again.
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
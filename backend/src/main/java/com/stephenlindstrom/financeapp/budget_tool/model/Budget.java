@@ -1,10 +1,10 @@
 package com.stephenlindstrom.financeapp.budget_tool.model;
 
-import java.math.BigDecimal;
 import java.time.YearMonth;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.stephenlindstrom.financeapp.budget_tool.converter.YearMonthConverter;
+import com.stephenlindstrom.financeapp.budget_tool.converter.MoneyConverter;
+import com.stephenlindstrom.financeapp.budget_tool.converter.YearMonthIntConverter;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,22 +20,23 @@ public class Budget {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(name = "budget_value")
-  private BigDecimal value;
+  @Convert(converter = MoneyConverter.class)
+  @Column(name = "budget_value_cents")
+  private Money value;
 
-  @Convert(converter = YearMonthConverter.class)
+  @Convert(converter = YearMonthIntConverter.class)
   @Column(name = "budget_month")
   private YearMonth month;
 
   @JsonIgnore
   @ToString.Exclude
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "category_id")
   private Category category;
 
   @JsonIgnore
   @ToString.Exclude
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
 
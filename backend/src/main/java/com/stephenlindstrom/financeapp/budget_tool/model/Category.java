@@ -30,9 +30,12 @@ public class Category {
   @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
   private List<Budget> budgets;
 
+  @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
+  private List<MonthlyRollup> rollups;
+
   @JsonIgnore
   @ToString.Exclude
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
 
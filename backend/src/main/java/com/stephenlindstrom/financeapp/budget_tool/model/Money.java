@@ -0,0 +1,63 @@
+package com.stephenlindstrom.financeapp.budget_tool.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as a whole number of cents.
+ *
+ * <p>Amounts are exact: converting from a decimal never rounds, and arithmetic throws
+ * {@link ArithmeticException} on overflow instead of wrapping. Sums over many amounts
+ * are best accumulated on {@link #cents()} as a primitive {@code long} and wrapped once.
+ *
+ * <p>APIs keep exchanging {@link BigDecimal}s with two decimal places; see {@link #of(BigDecimal)}
+ * and {@link #toBigDecimal()}.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+  /** Number of decimal places in a decimal amount. */
+  public static final int SCALE = 2;
+
+  public static final Money ZERO = new Money(0);
+
+  public static Money ofCents(long cents) {
+    return cents == 0 ? ZERO : new Money(cents);
+  }
+
+  /**
+   * Converts a decimal amount such as {@code 12.5} or {@code 12.50} to money.
+   *
+   * @param amount the amount in currency units
+   * @return the amount in cents
+   * @throws IllegalArgumentException if the amount has a fraction of a cent or does not fit in a long
+   */
+  public static Money of(BigDecimal amount) {
+    try {
+      return ofCents(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Amount " + amount.toPlainString() + " is not a whole number of cents", e);
+    }
+  }
+
+  public Money plus(Money other) {
+    return ofCents(Math.addExact(cents, other.cents));
+  }
+
+  public Money minus(Money other) {
+    return ofCents(Math.subtractExact(cents, other.cents));
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
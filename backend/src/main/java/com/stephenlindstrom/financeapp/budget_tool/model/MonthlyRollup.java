@@ -0,0 +1,60 @@
+package com.stephenlindstrom.financeapp.budget_tool.model;
+
+import java.time.YearMonth;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.stephenlindstrom.financeapp.budget_tool.converter.MoneyConverter;
+import com.stephenlindstrom.financeapp.budget_tool.converter.YearMonthIntConverter;
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running total and count of a user's transactions for one category, month and type.
+ * Maintained alongside every transaction write so reports can read one row per bucket
+ * instead of scanning the transactions themselves.
+ */
+@Entity
+@Table(
+  name = "monthly_rollup",
+  uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "category_id", "rollup_month", "type"})
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyRollup {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Convert(converter = YearMonthIntConverter.class)
+  @Column(name = "rollup_month", nullable = false)
+  private YearMonth month;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private TransactionType type;
+
+  @Convert(converter = MoneyConverter.class)
+  @Column(name = "total_amount_cents", nullable = false)
+  private Money total;
+
+  @Column(name = "transaction_count", nullable = false)
+  private long count;
+
+  @JsonIgnore
+  @ToString.Exclude
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "category_id", nullable = false)
+  private Category category;
+
+  @JsonIgnore
+  @ToString.Exclude
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+}
@@ -1,9 +1,9 @@
 package com.stephenlindstrom.financeapp.budget_tool.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.stephenlindstrom.financeapp.budget_tool.converter.MoneyConverter;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 
 import jakarta.persistence.*;
@@ -19,15 +19,22 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 public class Transaction {
+  /**
+   * Pooled sequence so Hibernate can hand out IDs without an INSERT per row,
+   * which is what lets inserts be grouped into JDBC batches.
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+  @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
   private Long id;
 
-  private BigDecimal amount;
+  @Convert(converter = MoneyConverter.class)
+  @Column(name = "amount_cents")
+  private Money amount;
 
   @JsonIgnore
   @ToString.Exclude
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "category_id")
   private Category category;
 
@@ -41,7 +48,7 @@ public class Transaction {
 
   @JsonIgnore
   @ToString.Exclude
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
 }
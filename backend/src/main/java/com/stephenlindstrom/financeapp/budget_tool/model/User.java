@@ -2,6 +2,8 @@ package com.stephenlindstrom.financeapp.budget_tool.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +28,14 @@ public class User {
   @Column(nullable = false)
   private String password;
 
+  /**
+   * Incremented by every change to the user's transactions, budgets or categories,
+   * so clients can revalidate cached lists without re-reading them.
+   */
+  @ColumnDefault("0")
+  @Column(name = "data_version", nullable = false)
+  private long dataVersion;
+
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
   private List<Budget> budgets;
 
@@ -2,13 +2,16 @@ package com.stephenlindstrom.financeapp.budget_tool.repository;
 
 import java.time.YearMonth;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.model.Budget;
-import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetSpending;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,17 +20,104 @@ import java.util.Optional;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
   
-  boolean existsByCategoryIdAndMonthAndUser(Long categoryId, YearMonth month, User user);
+  boolean existsByCategoryIdAndMonthAndUserId(Long categoryId, YearMonth month, Long userId);
   
-  List<Budget> findByMonthAndUser(YearMonth month, User user);
+  @EntityGraph(attributePaths = "category")
+  List<Budget> findByMonthAndUserId(YearMonth month, Long userId);
 
-  @Query("SELECT DISTINCT b.month FROM Budget b WHERE b.user = :user ORDER BY b.month DESC")
-  List<YearMonth> findDistinctMonthsByUser(@Param("user") User user);
+  @Query("SELECT DISTINCT b.month FROM Budget b WHERE b.user.id = :userId ORDER BY b.month DESC")
+  List<YearMonth> findDistinctMonthsByUserId(@Param("userId") Long userId);
 
-  List<Budget> findByUserOrderByMonthDesc(User user);
+  @EntityGraph(attributePaths = "category")
+  List<Budget> findByUserIdOrderByMonthDesc(Long userId);
 
-  Optional<Budget> findByIdAndUser(Long id, User user);
+  /**
+   * Finds a user's budget by ID with its category fetched in the same select,
+   * since every caller maps the category into the response.
+   */
+  @EntityGraph(attributePaths = "category")
+  Optional<Budget> findByIdAndUserId(Long id, Long userId);
 
-  void deleteByIdAndUser(Long id, User user);
+  long deleteByIdAndUserId(Long id, Long userId);
+
+  /**
+   * Retrieves every budget of a user, most recent month first, as read-only rows
+   * that already carry the category's name and type.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetRow(
+        b.id, b.value, b.month, c.id, c.name, c.type)
+      FROM Budget b
+      JOIN b.category c
+      WHERE b.user.id = :userId
+      ORDER BY b.month DESC
+      """)
+  List<BudgetRow> findRowsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Retrieves a user's budgets for one month as read-only rows
+   * that already carry the category's name and type.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetRow(
+        b.id, b.value, b.month, c.id, c.name, c.type)
+      FROM Budget b
+      JOIN b.category c
+      WHERE b.user.id = :userId AND b.month = :month
+      """)
+  List<BudgetRow> findRowsByMonthAndUserId(@Param("month") YearMonth month, @Param("userId") Long userId);
+
+  /**
+   * Retrieves a user's budgets from {@code from} through {@code to} inclusive, most recent
+   * month first, as read-only rows that already carry the category's name and type.
+   * Months are stored as yyyymm integers, so this is a range scan on the user's months.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetRow(
+        b.id, b.value, b.month, c.id, c.name, c.type)
+      FROM Budget b
+      JOIN b.category c
+      WHERE b.user.id = :userId AND b.month BETWEEN :from AND :to
+      ORDER BY b.month DESC
+      """)
+  List<BudgetRow> findRowsByMonthRangeAndUserId(@Param("from") YearMonth from,
+                                                @Param("to") YearMonth to,
+                                                @Param("userId") Long userId);
+
+  /**
+   * Retrieves the months from {@code from} through {@code to} inclusive in which a user
+   * has budgets, most recent first.
+   */
+  @Query("""
+      SELECT DISTINCT b.month FROM Budget b
+      WHERE b.user.id = :userId AND b.month BETWEEN :from AND :to
+      ORDER BY b.month DESC
+      """)
+  List<YearMonth> findDistinctMonthsByMonthRangeAndUserId(@Param("from") YearMonth from,
+                                                          @Param("to") YearMonth to,
+                                                          @Param("userId") Long userId);
+
+  /**
+   * Retrieves every budget a user has for a month together with the total of the
+   * matching transactions, read from each budget's monthly rollup bucket.
+   * Budgets with no matching transactions report zero spent.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetSpending(
+        b.id, b.month, c.id, c.name, c.type, b.value, COALESCE(SUM(r.total), 0))
+      FROM Budget b
+      JOIN b.category c
+      LEFT JOIN MonthlyRollup r
+        ON r.category = c
+        AND r.user = b.user
+        AND r.type = :type
+        AND r.month = :month
+      WHERE b.user.id = :userId AND b.month = :month
+      GROUP BY b.id, b.month, c.id, c.name, c.type, b.value
+      ORDER BY c.name
+      """)
+  List<BudgetSpending> findSpendingByMonthAndUserId(@Param("month") YearMonth month,
+                                                    @Param("userId") Long userId,
+                                                    @Param("type") TransactionType type);
 
 }
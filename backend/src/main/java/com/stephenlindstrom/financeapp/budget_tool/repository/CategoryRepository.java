@@ -1,22 +1,77 @@
 package com.stephenlindstrom.financeapp.budget_tool.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
-import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-  boolean existsByNameIgnoreCaseAndUser(String name, User user);
+  /**
+   * Checks whether a user already has a category with the given name, ignoring case.
+   * Compares {@code lower(name)} to match the {@code (user_id, lower(name))} index.
+   */
+  @Query("""
+      SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
+      FROM Category c
+      WHERE c.user.id = :userId AND LOWER(c.name) = LOWER(:name)
+      """)
+  boolean existsByNameIgnoreCaseAndUserId(@Param("name") String name, @Param("userId") Long userId);
 
-  Optional<Category> findByIdAndUser(Long id, User user);
+  Optional<Category> findByIdAndUserId(Long id, Long userId);
 
-  List<Category> findByUserOrderByName(User user);
+  List<Category> findByUserIdOrderByName(Long userId);
 
-  void deleteByIdAndUser(Long id, User user);
+  long deleteByIdAndUserId(Long id, Long userId);
+
+  /**
+   * Retrieves every category of a user, sorted by name, as read-only rows.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow(c.id, c.name, c.type)
+      FROM Category c
+      WHERE c.user.id = :userId
+      ORDER BY c.name
+      """)
+  List<CategoryRow> findRowsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Finds one of a user's categories as a read-only row.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow(c.id, c.name, c.type)
+      FROM Category c
+      WHERE c.id = :id AND c.user.id = :userId
+      """)
+  Optional<CategoryRow> findRowByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+  /**
+   * Finds those of the given categories that belong to a user, as read-only rows.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow(c.id, c.name, c.type)
+      FROM Category c
+      WHERE c.user.id = :userId AND c.id IN :ids
+      """)
+  List<CategoryRow> findRowsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+  /**
+   * Retrieves a user's categories of one transaction type, sorted by name, as read-only rows.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow(c.id, c.name, c.type)
+      FROM Category c
+      WHERE c.user.id = :userId AND c.type = :type
+      ORDER BY c.name
+      """)
+  List<CategoryRow> findRowsByUserIdAndType(@Param("userId") Long userId, @Param("type") TransactionType type);
 
 }
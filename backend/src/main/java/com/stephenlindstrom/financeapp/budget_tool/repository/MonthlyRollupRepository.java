@@ -0,0 +1,41 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.MonthlyRollup;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long>, MonthlyRollupRepositoryCustom {
+
+  List<MonthlyRollup> findByUser(User user);
+
+  /**
+   * Reads a user's total, in cents, for one category, month and transaction type from its rollup bucket.
+   * There is at most one bucket per key, found through its unique index.
+   * Returns zero when the bucket does not exist.
+   */
+  @Query("""
+      SELECT COALESCE(SUM(r.total), 0) FROM MonthlyRollup r
+      WHERE r.user.id = :userId
+        AND r.category.id = :categoryId
+        AND r.month = :month
+        AND r.type = :type
+      """)
+  long sumCentsByCategoryAndMonth(@Param("userId") Long userId,
+                                  @Param("categoryId") Long categoryId,
+                                  @Param("month") YearMonth month,
+                                  @Param("type") TransactionType type);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM MonthlyRollup r WHERE r.user = :user")
+  int deleteByUser(@Param("user") User user);
+}
@@ -0,0 +1,27 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository;
+
+import java.time.YearMonth;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+
+/**
+ * Atomic writes to monthly rollup buckets.
+ * Spring Data has no upsert, and the SQL for one differs between databases, so these are implemented by hand.
+ */
+public interface MonthlyRollupRepositoryCustom {
+
+  /**
+   * Adds an amount and count to a rollup bucket in a single statement, creating the bucket
+   * if it does not exist yet. The statement locks the bucket's row until the transaction ends,
+   * and two transactions creating the same bucket at once both succeed: the second adds to
+   * the row the first inserted. Rollups already loaded into the persistence context are not refreshed.
+   *
+   * @param userId the owner of the bucket
+   * @param categoryId the category of the bucket
+   * @param month the month of the bucket
+   * @param type the transaction type of the bucket
+   * @param cents the amount to add in cents, negative to subtract
+   * @param count the number of transactions to add, negative to subtract
+   */
+  void addToBucket(Long userId, Long categoryId, YearMonth month, TransactionType type, long cents, long count);
+}
@@ -0,0 +1,65 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository;
+
+import java.time.YearMonth;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Native SQL implementation of {@link MonthlyRollupRepositoryCustom}.
+ * PostgreSQL upserts with {@code INSERT ... ON CONFLICT}, which waits for a concurrent insert
+ * of the same bucket and then updates it. H2, used for tests and the demo, has no
+ * {@code ON CONFLICT}, so it uses a standard {@code MERGE} instead.
+ * The month is bound as the {@code yyyymm} number that {@code YearMonthIntConverter} stores.
+ */
+public class MonthlyRollupRepositoryCustomImpl implements MonthlyRollupRepositoryCustom {
+
+  private static final String POSTGRES_UPSERT = """
+      INSERT INTO monthly_rollup (user_id, category_id, rollup_month, type, total_amount_cents, transaction_count)
+      VALUES (:userId, :categoryId, :month, :type, :cents, :count)
+      ON CONFLICT (user_id, category_id, rollup_month, type) DO UPDATE
+      SET total_amount_cents = monthly_rollup.total_amount_cents + EXCLUDED.total_amount_cents,
+          transaction_count = monthly_rollup.transaction_count + EXCLUDED.transaction_count
+      """;
+
+  private static final String H2_UPSERT = """
+      MERGE INTO monthly_rollup r
+      USING (VALUES (CAST(:userId AS BIGINT), CAST(:categoryId AS BIGINT), CAST(:month AS INTEGER),
+                     CAST(:type AS VARCHAR(255)), CAST(:cents AS BIGINT), CAST(:count AS BIGINT)))
+        AS s (user_id, category_id, rollup_month, type, total_amount_cents, transaction_count)
+      ON r.user_id = s.user_id AND r.category_id = s.category_id
+        AND r.rollup_month = s.rollup_month AND r.type = s.type
+      WHEN MATCHED THEN UPDATE
+        SET total_amount_cents = r.total_amount_cents + s.total_amount_cents,
+            transaction_count = r.transaction_count + s.transaction_count
+      WHEN NOT MATCHED THEN INSERT (user_id, category_id, rollup_month, type, total_amount_cents, transaction_count)
+        VALUES (s.user_id, s.category_id, s.rollup_month, s.type, s.total_amount_cents, s.transaction_count)
+      """;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public void addToBucket(Long userId, Long categoryId, YearMonth month, TransactionType type, long cents, long count) {
+    entityManager.createNativeQuery(isH2() ? H2_UPSERT : POSTGRES_UPSERT)
+            .setParameter("userId", userId)
+            .setParameter("categoryId", categoryId)
+            .setParameter("month", month.getYear() * 100 + month.getMonthValue())
+            .setParameter("type", type.name())
+            .setParameter("cents", cents)
+            .setParameter("count", count)
+            .executeUpdate();
+  }
+
+  private boolean isH2() {
+    return entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect() instanceof H2Dialect;
+  }
+}
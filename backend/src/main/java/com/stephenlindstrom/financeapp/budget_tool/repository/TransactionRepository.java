@@ -1,19 +1,30 @@
 package com.stephenlindstrom.financeapp.budget_tool.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
-import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.MonthlyTotal;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow;
+
+import jakarta.persistence.QueryHint;
 
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>, TransactionRepositoryCustom {
 
   List<Transaction> findByType(TransactionType type);
 
@@ -21,9 +32,71 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
   List<Transaction> findByDateBetween(LocalDate start, LocalDate end);
 
-  List<Transaction> findByUserOrderByDateDesc(User user);
+  @EntityGraph(attributePaths = "category")
+  List<Transaction> findByUserIdOrderByDateDesc(Long userId);
+
+  /**
+   * Finds a user's transaction by ID with its category fetched in the same select,
+   * since every caller maps the category into the response.
+   */
+  @EntityGraph(attributePaths = "category")
+  Optional<Transaction> findByIdAndUserId(Long id, Long userId);
+
+  /**
+   * Retrieves every transaction of a user, newest first, as read-only rows
+   * that already carry the category's name and type.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow(
+        t.id, t.amount, t.type, t.date, t.description, c.id, c.name, c.type)
+      FROM Transaction t
+      JOIN t.category c
+      WHERE t.user.id = :userId
+      ORDER BY t.date DESC, t.id DESC
+      """)
+  List<TransactionRow> findRowsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Retrieves every transaction of a user as narrow rows for the in-memory analytics ledger.
+   * Reads the category's ID from the foreign key, so no join is made.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow(
+        t.id, t.date, t.amount, t.category.id, t.type)
+      FROM Transaction t
+      WHERE t.user.id = :userId
+      """)
+  List<LedgerRow> findLedgerRowsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Streams every transaction of a user, newest first, from a forward-only cursor.
+   * Rows are fetched from the database in bounded batches as read-only projections,
+   * so callers can export a whole ledger without holding it in memory.
+   * Must be consumed inside a transaction and closed when done.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow(
+        t.id, t.amount, t.type, t.date, t.description, c.id, c.name, c.type)
+      FROM Transaction t
+      JOIN t.category c
+      WHERE t.user.id = :userId
+      ORDER BY t.date DESC, t.id DESC
+      """)
+  Stream<TransactionRow> streamByUserId(@Param("userId") Long userId);
 
-  Optional<Transaction> findByIdAndUser(Long id, User user);
+  void deleteByIdAndUserId(Long id, Long userId);
 
-  void deleteByIdAndUser(Long id, User user);
+  /**
+   * Totals a user's transactions per category, calendar month and type straight
+   * from the transaction table. Used to rebuild and verify the monthly rollups.
+   */
+  @Query("""
+      SELECT new com.stephenlindstrom.financeapp.budget_tool.repository.projection.MonthlyTotal(
+        t.category.id, YEAR(t.date), MONTH(t.date), t.type, SUM(t.amount), COUNT(t))
+      FROM Transaction t
+      WHERE t.user.id = :userId
+      GROUP BY t.category.id, YEAR(t.date), MONTH(t.date), t.type
+      """)
+  List<MonthlyTotal> sumByCategoryMonthAndType(@Param("userId") Long userId);
 }
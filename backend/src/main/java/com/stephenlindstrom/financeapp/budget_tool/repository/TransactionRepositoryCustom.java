@@ -0,0 +1,35 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow;
+
+/**
+ * Projection queries for transactions that take a dynamic specification.
+ * Spring Data cannot project specification queries into records, so these are implemented by hand.
+ */
+public interface TransactionRepositoryCustom {
+
+  /**
+   * Finds every transaction matching the specification as read-only rows.
+   *
+   * @param spec the criteria to match
+   * @param sort the order of the rows
+   * @return the matching rows
+   */
+  List<TransactionRow> findRows(Specification<Transaction> spec, Sort sort);
+
+  /**
+   * Finds at most {@code limit} transactions matching the specification as read-only rows.
+   *
+   * @param spec the criteria to match
+   * @param sort the order of the rows
+   * @param limit the maximum number of rows to return
+   * @return the matching rows
+   */
+  List<TransactionRow> findRows(Specification<Transaction> spec, Sort sort, int limit);
+}
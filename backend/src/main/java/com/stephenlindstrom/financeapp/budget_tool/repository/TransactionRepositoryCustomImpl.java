@@ -0,0 +1,69 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria-based implementation of {@link TransactionRepositoryCustom}.
+ * Selects the transaction columns and its category's name and type into
+ * {@link TransactionRow} records in a single query.
+ */
+public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<TransactionRow> findRows(Specification<Transaction> spec, Sort sort) {
+    return createQuery(spec, sort).getResultList();
+  }
+
+  @Override
+  public List<TransactionRow> findRows(Specification<Transaction> spec, Sort sort, int limit) {
+    return createQuery(spec, sort)
+            .setMaxResults(limit)
+            .getResultList();
+  }
+
+  private TypedQuery<TransactionRow> createQuery(Specification<Transaction> spec, Sort sort) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<TransactionRow> query = cb.createQuery(TransactionRow.class);
+    Root<Transaction> root = query.from(Transaction.class);
+    Join<Transaction, Category> category = root.join("category");
+
+    query.select(cb.construct(TransactionRow.class,
+      root.get("id"),
+      root.get("amount"),
+      root.get("type"),
+      root.get("date"),
+      root.get("description"),
+      category.get("id"),
+      category.get("name"),
+      category.get("type")
+    ));
+
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+    return entityManager.createQuery(query);
+  }
+}
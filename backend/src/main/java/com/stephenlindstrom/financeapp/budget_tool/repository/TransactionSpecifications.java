@@ -0,0 +1,81 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCursor;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Builds JPA specifications for querying transactions.
+ * Translates optional filter criteria into a single SQL WHERE clause
+ * so that only matching rows are read from the database.
+ */
+public final class TransactionSpecifications {
+
+  /**
+   * Default ordering for transaction lists: most recent first,
+   * with the ID as a tie-breaker so results are deterministic.
+   */
+  public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "date")
+                                            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+  private TransactionSpecifications() {
+  }
+
+  /**
+   * Matches transactions owned by the given user that satisfy every non-null filter field.
+   * The owner is compared on the user_id column, so no user row is read or joined.
+   *
+   * @param userId the ID of the owner of the transactions
+   * @param filter the optional filter criteria
+   * @return a specification combining all criteria with AND
+   */
+  public static Specification<Transaction> matching(Long userId, TransactionFilter filter) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      predicates.add(cb.equal(root.get("user").get("id"), userId));
+
+      if (filter.getType() != null) {
+        predicates.add(cb.equal(root.get("type"), filter.getType()));
+      }
+
+      if (filter.getCategoryId() != null) {
+        predicates.add(cb.equal(root.get("category").get("id"), filter.getCategoryId()));
+      }
+
+      if (filter.getStartDate() != null) {
+        predicates.add(cb.greaterThanOrEqualTo(root.get("date"), filter.getStartDate()));
+      }
+
+      if (filter.getEndDate() != null) {
+        predicates.add(cb.lessThanOrEqualTo(root.get("date"), filter.getEndDate()));
+      }
+
+      return cb.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+
+  /**
+   * Matches transactions that come after the cursor in {@link #NEWEST_FIRST} order.
+   * Seeks directly to the position instead of skipping rows, so every page costs the same.
+   *
+   * @param cursor the position of the last transaction already returned
+   * @return a specification selecting rows strictly older than the cursor
+   */
+  public static Specification<Transaction> after(TransactionCursor cursor) {
+    return (root, query, cb) -> cb.or(
+      cb.lessThan(root.get("date"), cursor.date()),
+      cb.and(
+        cb.equal(root.get("date"), cursor.date()),
+        cb.lessThan(root.get("id"), cursor.id())
+      )
+    );
+  }
+}
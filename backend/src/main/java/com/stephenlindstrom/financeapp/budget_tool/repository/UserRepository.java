@@ -3,6 +3,9 @@ package com.stephenlindstrom.financeapp.budget_tool.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 
@@ -10,4 +13,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findByUsername(String username);
 
+  /**
+   * Reads only a user's data version, without loading the user.
+   */
+  @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+  Optional<Long> findDataVersionById(@Param("id") Long id);
+
+  /**
+   * Increments a user's data version in place. The row lock taken by the update
+   * also orders concurrent writes by the same user.
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :id")
+  int incrementDataVersion(@Param("id") Long id);
+
 }
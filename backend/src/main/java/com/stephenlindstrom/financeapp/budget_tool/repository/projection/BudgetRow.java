@@ -0,0 +1,20 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository.projection;
+
+import java.time.YearMonth;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+/**
+ * Read-only budget row joined with its category's name and type.
+ * Populated directly by a JPQL constructor expression, so no managed entities are created.
+ */
+public record BudgetRow(
+  Long id,
+  Money value,
+  YearMonth month,
+  Long categoryId,
+  String categoryName,
+  TransactionType categoryType
+) {
+}
@@ -0,0 +1,25 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository.projection;
+
+import java.time.YearMonth;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+/**
+ * Read-only row pairing a budget with the amount spent against it, summed in cents.
+ * Populated directly by a JPQL constructor expression.
+ */
+public record BudgetSpending(
+  Long budgetId,
+  YearMonth month,
+  Long categoryId,
+  String categoryName,
+  TransactionType categoryType,
+  Money budgeted,
+  long spentCents
+) {
+
+  public Money spent() {
+    return Money.ofCents(spentCents);
+  }
+}
@@ -0,0 +1,14 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository.projection;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+
+/**
+ * Read-only category row.
+ * Populated directly by a JPQL constructor expression, so no managed entities are created.
+ */
+public record CategoryRow(
+  Long id,
+  String name,
+  TransactionType type
+) {
+}
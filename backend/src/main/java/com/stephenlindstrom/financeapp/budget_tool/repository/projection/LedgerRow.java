@@ -0,0 +1,19 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository.projection;
+
+import java.time.LocalDate;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+/**
+ * Read-only transaction row carrying only the columns analytics scans need.
+ * Populated directly by a JPQL constructor expression, so no managed entities are created.
+ */
+public record LedgerRow(
+  Long id,
+  LocalDate date,
+  Money amount,
+  Long categoryId,
+  TransactionType type
+) {
+}
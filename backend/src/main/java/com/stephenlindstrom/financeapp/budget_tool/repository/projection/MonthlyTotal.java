@@ -0,0 +1,29 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository.projection;
+
+import java.time.YearMonth;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+/**
+ * Read-only row holding the total and count of a user's transactions
+ * for one category, calendar month and type.
+ * Populated directly by a JPQL constructor expression.
+ */
+public record MonthlyTotal(
+  Long categoryId,
+  Integer year,
+  Integer month,
+  TransactionType type,
+  long totalCents,
+  Long count
+) {
+
+  public Money total() {
+    return Money.ofCents(totalCents);
+  }
+
+  public YearMonth yearMonth() {
+    return YearMonth.of(year, month);
+  }
+}
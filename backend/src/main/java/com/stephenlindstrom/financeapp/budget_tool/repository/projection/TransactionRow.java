@@ -0,0 +1,22 @@
+package com.stephenlindstrom.financeapp.budget_tool.repository.projection;
+
+import java.time.LocalDate;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+/**
+ * Read-only transaction row joined with its category's name and type.
+ * Populated directly by a JPQL constructor expression, so no managed entities are created.
+ */
+public record TransactionRow(
+  Long id,
+  Money amount,
+  TransactionType type,
+  LocalDate date,
+  String description,
+  Long categoryId,
+  String categoryName,
+  TransactionType categoryType
+) {
+}
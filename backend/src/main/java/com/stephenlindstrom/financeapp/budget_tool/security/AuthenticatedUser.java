@@ -0,0 +1,18 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import java.security.Principal;
+
+/**
+ * Principal for a request authenticated by JWT, built from the verified token alone
+ * so authenticating a request never reads the users table.
+ *
+ * @param id the user's database id, from the token's {@code uid} claim
+ * @param username the username, from the token's subject
+ */
+public record AuthenticatedUser(Long id, String username) implements Principal {
+
+  @Override
+  public String getName() {
+    return username;
+  }
+}
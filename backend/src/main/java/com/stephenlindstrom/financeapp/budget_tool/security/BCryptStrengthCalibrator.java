@@ -0,0 +1,65 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt strength whose hash time on this host is closest to, without
+ * exceeding, a target. Each strength step doubles the work, so one measurement at
+ * the minimum strength is enough to estimate the others.
+ */
+public final class BCryptStrengthCalibrator {
+
+  private static final String SAMPLE_PASSWORD = "calibration-password";
+  private static final int SAMPLES = 3;
+
+  private BCryptStrengthCalibrator() {
+  }
+
+  /**
+   * Measures BCrypt on this host and returns the strength for the target hash time.
+   *
+   * @param target the longest acceptable time for one hash
+   * @param minStrength the lowest strength that may be returned
+   * @param maxStrength the highest strength that may be returned
+   * @return a strength between minStrength and maxStrength
+   */
+  public static int calibrate(Duration target, int minStrength, int maxStrength) {
+    return calibrate(target, minStrength, maxStrength, BCryptStrengthCalibrator::measureNanos);
+  }
+
+  /**
+   * Returns the strength for the target hash time using the given timing function.
+   *
+   * @param hashNanos returns the time, in nanoseconds, of one hash at a strength
+   */
+  static int calibrate(Duration target, int minStrength, int maxStrength, IntToLongFunction hashNanos) {
+    if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+      throw new IllegalArgumentException("BCrypt strength must be between 4 and 31");
+    }
+
+    // Warm up once, then keep the fastest sample to filter out scheduling noise
+    hashNanos.applyAsLong(minStrength);
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      fastest = Math.min(fastest, hashNanos.applyAsLong(minStrength));
+    }
+
+    int strength = minStrength;
+    long estimate = Math.max(1, fastest);
+    while (strength < maxStrength && estimate * 2 <= target.toNanos()) {
+      strength++;
+      estimate *= 2;
+    }
+    return strength;
+  }
+
+  private static long measureNanos(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    long start = System.nanoTime();
+    encoder.encode(SAMPLE_PASSWORD);
+    return System.nanoTime() - start;
+  }
+}
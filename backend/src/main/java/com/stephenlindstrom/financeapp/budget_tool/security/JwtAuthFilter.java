@@ -1,18 +1,17 @@
 package com.stephenlindstrom.financeapp.budget_tool.security;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
-
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,13 +21,14 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-  private final JwtService jwtService;
-  private final UserDetailsService userDetailsService;
+  // Every authenticated user has the same role, so authorities are not looked up per request
+  private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+  private final VerifiedTokenCache verifiedTokenCache;
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
-  public JwtAuthFilter(JwtService jwtService, UserDetailsService userDetailsService, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
-    this.jwtService = jwtService;
-    this.userDetailsService = userDetailsService;
+  public JwtAuthFilter(VerifiedTokenCache verifiedTokenCache, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+    this.verifiedTokenCache = verifiedTokenCache;
     this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
   }
 
@@ -44,7 +44,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     throws ServletException, IOException {
       final String authHeader = request.getHeader("Authorization");
       final String jwt;
-      final String username;
+      final VerifiedTokenCache.VerifiedToken token;
 
       // If there's no Authorization header, skip and continue filter chain
       if (authHeader == null ) {
@@ -64,8 +64,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
       // Extract the token (everything after "Bearer ")
       jwt = trimmedHeader.substring(7);
       
+      // Verify the signature and expiration, or reuse the result for a token seen recently
       try {
-        username = jwtService.extractUsername(jwt);
+        token = verifiedTokenCache.verify(jwt);
       } catch (JwtException | IllegalArgumentException e) {
           // If token is invalid or expired, send 401 response using custom entry point
           jwtAuthenticationEntryPoint.commence(request, response, 
@@ -73,26 +74,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
           return;
       }
       
-      // If username was successfully extracted and user not already authenticated
-      if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+      // Tokens issued before the user id claim was added must be replaced by logging in again
+      if (token.userId() == null || token.subject() == null) {
+        jwtAuthenticationEntryPoint.commence(request, response,
+          new BadCredentialsException("Invalid or expired JWT token"));
+        return;
+      }
 
-        if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
-          // Build authentication token with user details and authorities
-          UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-            userDetails,
-            null,
-            userDetails.getAuthorities()
-          );
-          
-          // Attach request-specific details like IP address
-          authToken.setDetails(
-            new WebAuthenticationDetailsSource().buildDetails(request)
-          );
+      // If the user is not already authenticated
+      if (SecurityContextHolder.getContext().getAuthentication() == null) {
+        // Build the principal straight from the verified token, without loading the user
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+          new AuthenticatedUser(token.userId(), token.subject()),
+          null,
+          AUTHORITIES
+        );
+        
+        // Attach request-specific details like IP address
+        authToken.setDetails(
+          new WebAuthenticationDetailsSource().buildDetails(request)
+        );
 
-          // Set the authentication in the security context
-          SecurityContextHolder.getContext().setAuthentication(authToken);
-        }
+        // Set the authentication in the security context
+        SecurityContextHolder.getContext().setAuthentication(authToken);
       }
 
       filterChain.doFilter(request, response);
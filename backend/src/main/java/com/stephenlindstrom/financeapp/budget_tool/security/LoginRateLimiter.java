@@ -0,0 +1,186 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stephenlindstrom.financeapp.budget_tool.errors.TooManyRequestsException;
+
+/**
+ * Token-bucket rate limits for login attempts, one bucket per username and one per
+ * client IP. The username limit slows guessing against a single account; the IP limit
+ * slows one client spraying many accounts. An attempt takes a token from both buckets
+ * or from neither, and a successful login gives its tokens back, so only failed attempts
+ * count against either limit. Idle buckets are evicted once they would have refilled,
+ * so memory stays bounded under credential-stuffing traffic.
+ */
+@Component
+public class LoginRateLimiter {
+
+  private static final long MAX_TRACKED_KEYS = 100_000;
+
+  private final Limit usernameLimit;
+  private final Limit ipLimit;
+  private final LongSupplier nanoTime;
+  private final Cache<String, TokenBucket> usernameBuckets;
+  private final Cache<String, TokenBucket> ipBuckets;
+
+  @Autowired
+  public LoginRateLimiter(@Value("${auth.login.rate-limit.username.capacity:5}") int usernameCapacity,
+                          @Value("${auth.login.rate-limit.username.refill-period:1m}") Duration usernameRefillPeriod,
+                          @Value("${auth.login.rate-limit.ip.capacity:20}") int ipCapacity,
+                          @Value("${auth.login.rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod) {
+    this(new Limit(usernameCapacity, usernameRefillPeriod), new Limit(ipCapacity, ipRefillPeriod), System::nanoTime);
+  }
+
+  LoginRateLimiter(Limit usernameLimit, Limit ipLimit, LongSupplier nanoTime) {
+    this.usernameLimit = usernameLimit;
+    this.ipLimit = ipLimit;
+    this.nanoTime = nanoTime;
+    this.usernameBuckets = buckets(usernameLimit, nanoTime);
+    this.ipBuckets = buckets(ipLimit, nanoTime);
+  }
+
+  /**
+   * Takes one token from the client's IP bucket and one from the username's bucket,
+   * if both have one; a rejected attempt takes neither.
+   *
+   * @param username the username being logged in to
+   * @param clientIp the address the request came from
+   * @throws TooManyRequestsException if either bucket is empty
+   */
+  public void checkLoginAttempt(String username, String clientIp) {
+    TokenBucket ipBucket = ipBuckets.get(clientIp, k -> new TokenBucket(ipLimit, nanoTime.getAsLong()));
+    TokenBucket usernameBucket = usernameBuckets.get(key(username), k -> new TokenBucket(usernameLimit, nanoTime.getAsLong()));
+
+    // Always locked IP first, so concurrent attempts cannot deadlock
+    ipBucket.lock.lock();
+    usernameBucket.lock.lock();
+    try {
+      long now = nanoTime.getAsLong();
+      reject(ipBucket.nanosUntilToken(now), "Too many login attempts from this address");
+      reject(usernameBucket.nanosUntilToken(now), "Too many login attempts for this user");
+
+      ipBucket.take();
+      usernameBucket.take();
+    } finally {
+      usernameBucket.lock.unlock();
+      ipBucket.lock.unlock();
+    }
+  }
+
+  /**
+   * Stops a successful login counting against the limits: the username's bucket is
+   * reset to full and the token taken from the client's IP bucket is returned.
+   *
+   * @param username the username that was logged in to
+   * @param clientIp the address the request came from
+   */
+  public void recordSuccessfulLogin(String username, String clientIp) {
+    usernameBuckets.invalidate(key(username));
+
+    TokenBucket ipBucket = ipBuckets.getIfPresent(clientIp);
+    if (ipBucket != null) {
+      ipBucket.refund();
+    }
+  }
+
+  private static String key(String username) {
+    return username.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static void reject(long waitNanos, String message) {
+    if (waitNanos > 0) {
+      throw new TooManyRequestsException(message, Duration.ofNanos(waitNanos));
+    }
+  }
+
+  private static Cache<String, TokenBucket> buckets(Limit limit, LongSupplier nanoTime) {
+    return Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_KEYS)
+            // An idle bucket is full again after one refill period, so it can be forgotten
+            .expireAfterAccess(limit.refillPeriod().toNanos(), TimeUnit.NANOSECONDS)
+            .ticker(nanoTime::getAsLong)
+            .build();
+  }
+
+  /**
+   * A bucket holds up to {@code capacity} tokens and refills completely over {@code refillPeriod}.
+   */
+  record Limit(int capacity, Duration refillPeriod) {
+    Limit {
+      if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+        throw new IllegalArgumentException("Rate limit needs a positive capacity and refill period");
+      }
+    }
+
+    long nanosPerToken() {
+      return refillPeriod.toNanos() / capacity;
+    }
+  }
+
+  /**
+   * Tokens are refilled lazily from the elapsed time whenever the bucket is used.
+   * Guarded by a ReentrantLock rather than synchronized, so a virtual thread waiting
+   * for a hot bucket parks instead of pinning its carrier thread. Callers hold the
+   * lock around {@link #nanosUntilToken(long)} and {@link #take()}, so checking several
+   * buckets and taking from them is one atomic step.
+   */
+  static final class TokenBucket {
+    final ReentrantLock lock = new ReentrantLock();
+    private final Limit limit;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(Limit limit, long now) {
+      this.limit = limit;
+      this.tokens = limit.capacity();
+      this.lastRefill = now;
+    }
+
+    /**
+     * Refills the bucket for the time elapsed. Requires the lock.
+     *
+     * @return zero if a token is available, otherwise the nanoseconds until the next one
+     */
+    long nanosUntilToken(long now) {
+      long elapsed = now - lastRefill;
+      if (elapsed > 0) {
+        tokens = Math.min(limit.capacity(), tokens + (double) elapsed / limit.nanosPerToken());
+        lastRefill = now;
+      }
+
+      if (tokens >= 1) {
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) * limit.nanosPerToken());
+    }
+
+    /**
+     * Takes a token that {@link #nanosUntilToken(long)} reported available. Requires the lock.
+     */
+    void take() {
+      tokens -= 1;
+    }
+
+    /**
+     * Returns a token taken earlier, up to the bucket's capacity.
+     */
+    void refund() {
+      lock.lock();
+      try {
+        tokens = Math.min(limit.capacity(), tokens + 1);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.stephenlindstrom.financeapp.budget_tool.errors.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing on a small fixed pool with a bounded queue, so a burst of
+ * logins or registrations cannot occupy every request thread with BCrypt work.
+ * When the queue is full the caller is rejected immediately instead of waiting,
+ * which keeps the number of requests blocked on hashing bounded.
+ * Publishes {@code auth.hashing.queue.size}, {@code auth.hashing.active} and {@code auth.hashing.rejected}.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Counter rejected;
+
+  public PasswordHashingExecutor(@Value("${auth.hashing.threads:0}") int threads,
+                                 @Value("${auth.hashing.queue-capacity:32}") int queueCapacity,
+                                 @Value("${auth.hashing.timeout:5s}") Duration timeout,
+                                 MeterRegistry meterRegistry) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                                           new ArrayBlockingQueue<>(queueCapacity),
+                                           new HashingThreadFactory(),
+                                           new ThreadPoolExecutor.AbortPolicy());
+    this.timeout = timeout;
+
+    this.rejected = Counter.builder("auth.hashing.rejected")
+            .description("Password hashing requests shed because the queue was full")
+            .register(meterRegistry);
+    Gauge.builder("auth.hashing.queue.size", executor, e -> e.getQueue().size())
+            .description("Password hashing requests waiting for a thread")
+            .register(meterRegistry);
+    Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashing requests currently running")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Runs a hashing task on the pool and waits for its result.
+   *
+   * @param task the hashing work
+   * @return the task's result
+   * @throws ServiceOverloadedException if the queue is full or the task does not finish within the timeout
+   */
+  public <T> T run(Supplier<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task::get);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new ServiceOverloadedException("Too many authentication requests, try again shortly");
+    }
+
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new ServiceOverloadedException("Too many authentication requests, try again shortly");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceOverloadedException("Authentication request was interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Names the pool's threads and marks them as daemons so they never hold up shutdown.
+   */
+  private static final class HashingThreadFactory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
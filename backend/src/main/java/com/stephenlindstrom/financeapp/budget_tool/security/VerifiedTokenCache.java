@@ -0,0 +1,141 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers tokens that have already passed signature verification, so a client
+ * reusing the same bearer token skips the HMAC check on later requests.
+ * Entries are keyed by a SHA-256 hash of the token rather than the token itself,
+ * hold only the verified user id, subject and expiry, and are evicted by size, by a fixed
+ * time-to-live, and never later than the token's own expiry.
+ * Publishes the hit rate as the {@code jwt.cache.hit.rate} gauge.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  /**
+   * The parts of a verified token the filter needs.
+   *
+   * @param userId the id of the user the token was issued to, or null for tokens issued before it was included
+   * @param subject the username the token was issued to
+   * @param expiresAt when the token expires
+   */
+  public record VerifiedToken(Long userId, String subject, Instant expiresAt) {
+  }
+
+  private final JwtService jwtService;
+  private final Cache<String, VerifiedToken> cache;
+  private final Clock clock;
+
+  @Autowired
+  public VerifiedTokenCache(JwtService jwtService,
+                            @Value("${jwt.cache.max-size:10000}") long maxSize,
+                            @Value("${jwt.cache.ttl:15m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+    this(jwtService, maxSize, ttl, meterRegistry, Clock.systemUTC());
+  }
+
+  VerifiedTokenCache(JwtService jwtService, long maxSize, Duration ttl, MeterRegistry meterRegistry, Clock clock) {
+    this.jwtService = jwtService;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new UntilTokenExpiry(ttl, clock))
+            .ticker(() -> clock.millis() * 1_000_000)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    Gauge.builder("jwt.cache.hit.rate", cache, c -> c.stats().hitRate())
+            .description("Share of authenticated requests whose token was already verified")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Returns the verified user id, subject and expiry of a token, verifying its signature
+   * only if it has not been seen recently. Failed verifications are never cached.
+   *
+   * @param token the compact JWT from the Authorization header
+   * @return the verified token
+   * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+   * @throws IllegalArgumentException if the token is null or empty
+   */
+  public VerifiedToken verify(String token) {
+    if (token == null || token.isEmpty()) {
+      throw new IllegalArgumentException("JWT must not be empty");
+    }
+
+    String key = hash(token);
+    VerifiedToken verified = cache.get(key, k -> parse(token));
+
+    // Never trust an entry past the token's expiry, even if it has not been evicted yet
+    if (!verified.expiresAt().isAfter(clock.instant())) {
+      cache.invalidate(key);
+      return parse(token);
+    }
+    return verified;
+  }
+
+  /**
+   * Share of lookups served from the cache since startup.
+   */
+  public double hitRate() {
+    return cache.stats().hitRate();
+  }
+
+  private VerifiedToken parse(String token) {
+    Claims claims = jwtService.validateAndParse(token);
+    return new VerifiedToken(claims.get(JwtService.USER_ID_CLAIM, Long.class), claims.getSubject(), claims.getExpiration().toInstant());
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Expires each entry after the configured time-to-live or at the token's expiry, whichever is sooner.
+   */
+  private record UntilTokenExpiry(Duration ttl, Clock clock) implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      Duration untilExpiry = Duration.between(clock.instant(), value.expiresAt());
+      return Math.max(0, Math.min(ttl.toNanos(), untilExpiry.toNanos()));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetMonthSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.MonthDTO;
 
@@ -71,6 +72,14 @@ public interface BudgetService {
      */
     BudgetSummaryDTO getBudgetSummary(Long id);
 
+    /**
+     * Retrieves a summary of every budget in a month, including amount spent and remaining.
+     *
+     * @param month the month to summarize
+     * @return list of budget summaries for the given month, sorted by category name
+     */
+    List<BudgetMonthSummaryDTO> getSummariesByMonth(YearMonth month);
+
     /**
      * Retrieves all budgets for a specific month.
      *
@@ -79,6 +88,17 @@ public interface BudgetService {
      */
     List<BudgetDTO> getByMonth(YearMonth month);
 
+    /**
+     * Retrieves all budgets from one month through another, inclusive.
+     * Sorted in descending order by month.
+     *
+     * @param from the first month to include, or null for no lower bound
+     * @param to the last month to include, or null for no upper bound
+     * @return list of BudgetDTOs in the range
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    List<BudgetDTO> getByMonthRange(YearMonth from, YearMonth to);
+
     /**
      * Retrieves a list of months for which budget data exists.
      * Sorted in reverse chronological order.
@@ -86,4 +106,15 @@ public interface BudgetService {
      * @return list of MonthDTOs representing available months
      */
     List<MonthDTO> getAvailableMonths();
+
+    /**
+     * Retrieves the months from one month through another, inclusive, for which budget data exists.
+     * Sorted in reverse chronological order.
+     *
+     * @param from the first month to include, or null for no lower bound
+     * @param to the last month to include, or null for no upper bound
+     * @return list of MonthDTOs representing available months in the range
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    List<MonthDTO> getAvailableMonths(YearMonth from, YearMonth to);
 }
\ No newline at end of file
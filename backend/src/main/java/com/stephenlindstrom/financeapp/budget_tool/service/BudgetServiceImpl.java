@@ -1,29 +1,37 @@
 package com.stephenlindstrom.financeapp.budget_tool.service;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetMonthSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.MonthDTO;
-import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
-import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
 import com.stephenlindstrom.financeapp.budget_tool.model.Budget;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.BudgetRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.MonthlyRollupRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetSpending;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
 
 /**
  * Service implementation for managing budget entries.
@@ -33,16 +41,28 @@ import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository
 @Service
 public class BudgetServiceImpl implements BudgetService {
 
+  /** Open ends of a month range; both fit the yyyymm column encoding. */
+  private static final YearMonth EARLIEST_MONTH = YearMonth.of(0, 1);
+  private static final YearMonth LATEST_MONTH = YearMonth.of(9999, 12);
+
   private final BudgetRepository budgetRepository;
   private final CategoryRepository categoryRepository;
-  private final TransactionService transactionService;
+  private final MonthlyRollupRepository monthlyRollupRepository;
   private final UserService userService;
+  private final DataVersionService dataVersionService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CategoryCache categoryCache;
+  private final LedgerCache ledgerCache;
 
-  public BudgetServiceImpl(BudgetRepository budgetRepository, CategoryRepository categoryRepository, TransactionService transactionService, UserService userService) {
+  public BudgetServiceImpl(BudgetRepository budgetRepository, CategoryRepository categoryRepository, MonthlyRollupRepository monthlyRollupRepository, UserService userService, DataVersionService dataVersionService, ApplicationEventPublisher eventPublisher, CategoryCache categoryCache, LedgerCache ledgerCache) {
     this.budgetRepository = budgetRepository;
     this.categoryRepository = categoryRepository;
-    this.transactionService = transactionService;
+    this.monthlyRollupRepository = monthlyRollupRepository;
     this.userService = userService;
+    this.dataVersionService = dataVersionService;
+    this.eventPublisher = eventPublisher;
+    this.categoryCache = categoryCache;
+    this.ledgerCache = ledgerCache;
   }
 
   /**
@@ -52,12 +72,18 @@ public class BudgetServiceImpl implements BudgetService {
    * @return the saved BudgetDTO
    */
   @Override
+  @Transactional
   public BudgetDTO create(BudgetCreateDTO dto) {
     User user = userService.getAuthenticatedUser();
-    
-    Budget budget = mapToEntity(dto, user);
+    CategoryRow category = findCategory(dto.getCategoryId(), user.getId());
+
+    Budget budget = mapToEntity(dto, categoryRepository.getReferenceById(category.id()), user);
     Budget saved = budgetRepository.save(budget);
-    return mapToDTO(saved);
+    dataVersionService.increment();
+
+    BudgetDTO created = mapToDTO(saved, category);
+    eventPublisher.publishEvent(DataChangedEvent.of(user.getId(), ResourceType.BUDGET, ChangeType.CREATED, created.getId(), created));
+    return created;
   }
 
   /**
@@ -67,9 +93,9 @@ public class BudgetServiceImpl implements BudgetService {
    */
   @Override
   public List<BudgetDTO> getAll() {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
       
-    return budgetRepository.findByUserOrderByMonthDesc(user).stream()
+    return budgetRepository.findRowsByUserId(userId).stream()
       .map(this::mapToDTO)
       .toList();
   }
@@ -82,8 +108,8 @@ public class BudgetServiceImpl implements BudgetService {
    */
   @Override
   public Optional<BudgetDTO> getById(Long id) {
-    User user = userService.getAuthenticatedUser();
-    return budgetRepository.findByIdAndUser(id, user).map(this::mapToDTO);
+    Long userId = userService.getAuthenticatedUserId();
+    return budgetRepository.findByIdAndUserId(id, userId).map(this::mapToDTO);
   }
 
   /**
@@ -95,22 +121,25 @@ public class BudgetServiceImpl implements BudgetService {
    * @throws ResourceNotFoundException if the budget or category is not found
    */
   @Override
+  @Transactional
   public BudgetDTO updateById(Long id, BudgetCreateDTO dto) {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
 
-    Budget budget = budgetRepository.findByIdAndUser(id, user)
+    Budget budget = budgetRepository.findByIdAndUserId(id, userId)
         .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
       
-    Category category = categoryRepository.findByIdAndUser(dto.getCategoryId(), user)
-        .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+    CategoryRow category = findCategory(dto.getCategoryId(), userId);
       
-    budget.setValue(dto.getValue());
+    budget.setValue(Money.of(dto.getValue()));
     budget.setMonth(dto.getMonth());
-    budget.setCategory(category);
+    budget.setCategory(categoryRepository.getReferenceById(category.id()));
     
     Budget updatedBudget = budgetRepository.save(budget);
+    dataVersionService.increment();
 
-    return mapToDTO(updatedBudget);
+    BudgetDTO updated = mapToDTO(updatedBudget, category);
+    eventPublisher.publishEvent(DataChangedEvent.of(userId, ResourceType.BUDGET, ChangeType.UPDATED, id, updated));
+    return updated;
   }
 
   /**
@@ -121,8 +150,11 @@ public class BudgetServiceImpl implements BudgetService {
   @Override
   @Transactional
   public void deleteById(Long id) {
-    User user = userService.getAuthenticatedUser();
-    budgetRepository.deleteByIdAndUser(id, user);
+    Long userId = userService.getAuthenticatedUserId();
+    if (budgetRepository.deleteByIdAndUserId(id, userId) > 0) {
+      dataVersionService.increment();
+      eventPublisher.publishEvent(DataChangedEvent.of(userId, ResourceType.BUDGET, ChangeType.DELETED, id, null));
+    }
   }
 
   /**
@@ -134,8 +166,8 @@ public class BudgetServiceImpl implements BudgetService {
    */
   @Override
   public boolean existsByCategoryIdAndMonth(Long categoryId, YearMonth month) {
-    User user = userService.getAuthenticatedUser();
-    return budgetRepository.existsByCategoryIdAndMonthAndUser(categoryId, month, user);
+    Long userId = userService.getAuthenticatedUserId();
+    return budgetRepository.existsByCategoryIdAndMonthAndUserId(categoryId, month, userId);
   }
 
   /**
@@ -147,37 +179,75 @@ public class BudgetServiceImpl implements BudgetService {
    */
   @Override
   public BudgetSummaryDTO getBudgetSummary(Long id) {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
 
-    Budget budget = budgetRepository.findByIdAndUser(id, user)
+    Budget budget = budgetRepository.findByIdAndUserId(id, userId)
       .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
     
-    // Build a transaction filter to get all expenses for the budget's category and month
-    TransactionFilter filter = TransactionFilter.builder()
-                              .type(TransactionType.EXPENSE)
-                              .categoryId(budget.getCategory().getId())
-                              .startDate(budget.getMonth().atDay(1))
-                              .endDate(budget.getMonth().atEndOfMonth())
-                              .build();
-
-    List<TransactionDTO> expenseTransactions = transactionService.filter(filter);
-
-    BigDecimal spent = expenseTransactions.stream().map(TransactionDTO::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    // Read the budget's expenses for its category and month from the ledger when enabled,
+    // otherwise from the month's rollup bucket
+    YearMonth month = budget.getMonth();
+    Long categoryId = budget.getCategory().getId();
+    LocalDate startDate = month.atDay(1);
+    LocalDate endDate = month.atEndOfMonth();
+    Money spent = Money.ofCents(ledgerCache.find(userId)
+                          .map(ledger -> ledger.sumCents(categoryId, TransactionType.EXPENSE, startDate, endDate))
+                          .orElseGet(() -> monthlyRollupRepository.sumCentsByCategoryAndMonth(
+                            userId, categoryId, month, TransactionType.EXPENSE)));
 
-    BigDecimal budgeted = budget.getValue();
+    Money budgeted = budget.getValue();
 
-    BigDecimal remaining = budgeted.subtract(spent);
+    Money remaining = budgeted.minus(spent);
 
     BudgetSummaryDTO budgetSummary = BudgetSummaryDTO.builder()
-                                      .budgeted(budgeted)
-                                      .spent(spent)
-                                      .remaining(remaining)
+                                      .budgeted(budgeted.toBigDecimal())
+                                      .spent(spent.toBigDecimal())
+                                      .remaining(remaining.toBigDecimal())
                                       .build();
 
     return budgetSummary;
     
   }
 
+  /**
+   * Generates summaries for every budget in a month.
+   * With the analytics ledger enabled, the month's budgets are read on their own and the
+   * spent amounts come from one scan of the user's ledger; otherwise budgeted and spent
+   * amounts come from a single query joining the budgets to their monthly rollups.
+   * 
+   * @param month the month to summarize
+   * @return list of budget summaries sorted by category name
+   */
+  @Override
+  public List<BudgetMonthSummaryDTO> getSummariesByMonth(YearMonth month) {
+    Long userId = userService.getAuthenticatedUserId();
+    LocalDate startDate = month.atDay(1);
+    LocalDate endDate = month.atEndOfMonth();
+
+    List<BudgetSpending> spending = ledgerCache.find(userId)
+      .map(ledger -> findSpending(ledger, month, userId, startDate, endDate))
+      .orElseGet(() -> budgetRepository.findSpendingByMonthAndUserId(month, userId, TransactionType.EXPENSE));
+
+    return spending.stream()
+      .map(this::mapToDTO)
+      .toList();
+  }
+
+  /**
+   * Pairs a user's budgets for a month with the expenses summed from their ledger,
+   * in the same order as the grouped query.
+   */
+  private List<BudgetSpending> findSpending(ColumnarLedger ledger, YearMonth month, Long userId,
+                                            LocalDate startDate, LocalDate endDate) {
+    Map<Long, Long> spentCents = ledger.sumCentsByCategory(TransactionType.EXPENSE, startDate, endDate);
+
+    return budgetRepository.findRowsByMonthAndUserId(month, userId).stream()
+      .map(row -> new BudgetSpending(row.id(), row.month(), row.categoryId(), row.categoryName(),
+                                     row.categoryType(), row.value(), spentCents.getOrDefault(row.categoryId(), 0L)))
+      .sorted(Comparator.comparing(BudgetSpending::categoryName))
+      .toList();
+  }
+
   /**
    * Retrieves all budgets for a specific month.
    * 
@@ -186,8 +256,8 @@ public class BudgetServiceImpl implements BudgetService {
    */
   @Override
   public List<BudgetDTO> getByMonth(YearMonth month) {
-    User user = userService.getAuthenticatedUser();
-    return budgetRepository.findByMonthAndUser(month, user).stream().map(this::mapToDTO).toList();
+    Long userId = userService.getAuthenticatedUserId();
+    return budgetRepository.findRowsByMonthAndUserId(month, userId).stream().map(this::mapToDTO).toList();
   }
 
   /**
@@ -198,23 +268,86 @@ public class BudgetServiceImpl implements BudgetService {
    */
   @Override
   public List<MonthDTO> getAvailableMonths() {
-    User user = userService.getAuthenticatedUser();
-    return budgetRepository.findDistinctMonthsByUser(user).stream().sorted(Comparator.reverseOrder()).map(this::mapToDTO).toList();
+    Long userId = userService.getAuthenticatedUserId();
+    return budgetRepository.findDistinctMonthsByUserId(userId).stream().sorted(Comparator.reverseOrder()).map(this::mapToDTO).toList();
+  }
+
+  /**
+   * Retrieves all budgets from one month through another, inclusive.
+   * Sorted in descending order by month.
+   *
+   * @param from the first month to include, or null for no lower bound
+   * @param to the last month to include, or null for no upper bound
+   * @return list of BudgetDTOs in the range
+   * @throws IllegalArgumentException if {@code from} is after {@code to}
+   */
+  @Override
+  public List<BudgetDTO> getByMonthRange(YearMonth from, YearMonth to) {
+    YearMonth start = lowerBound(from);
+    YearMonth end = upperBound(to);
+    validateRange(start, end);
+
+    Long userId = userService.getAuthenticatedUserId();
+    return budgetRepository.findRowsByMonthRangeAndUserId(start, end, userId).stream().map(this::mapToDTO).toList();
+  }
+
+  /**
+   * Retrieves the months from one month through another, inclusive, for which budgets exist.
+   * Sorted in reverse chronological order.
+   *
+   * @param from the first month to include, or null for no lower bound
+   * @param to the last month to include, or null for no upper bound
+   * @return list of MonthDTOs in the range
+   * @throws IllegalArgumentException if {@code from} is after {@code to}
+   */
+  @Override
+  public List<MonthDTO> getAvailableMonths(YearMonth from, YearMonth to) {
+    YearMonth start = lowerBound(from);
+    YearMonth end = upperBound(to);
+    validateRange(start, end);
+
+    Long userId = userService.getAuthenticatedUserId();
+    return budgetRepository.findDistinctMonthsByMonthRangeAndUserId(start, end, userId).stream().map(this::mapToDTO).toList();
+  }
+
+  private YearMonth lowerBound(YearMonth from) {
+    return from != null ? from : EARLIEST_MONTH;
+  }
+
+  private YearMonth upperBound(YearMonth to) {
+    return to != null ? to : LATEST_MONTH;
+  }
+
+  private void validateRange(YearMonth from, YearMonth to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Range start " + from + " is after range end " + to);
+    }
   }
   
   /**
-   * Maps a BudgetCreateDTO to a Budget entity.
+   * Finds one of the user's categories in the category cache.
+   *
+   * @param categoryId the category ID
+   * @param userId the owner of the category
+   * @return the category
+   * @throws ResourceNotFoundException if the category does not exist or belongs to another user
+   */
+  private CategoryRow findCategory(Long categoryId, Long userId) {
+    return categoryCache.find(userId, categoryId)
+      .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+  }
+
+  /**
+   * Maps a BudgetCreateDTO to a Budget entity in an already resolved category.
    * 
    * @param dto the input DTO
+   * @param category the category the budget belongs to
+   * @param user the owner of the budget
    * @return the Budget entity
-   * @throws ResourceNotFoundException if the category is not found
    */
-  private Budget mapToEntity(BudgetCreateDTO dto, User user) {
-    Category category = categoryRepository.findByIdAndUser(dto.getCategoryId(), user)
-      .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
-
+  private Budget mapToEntity(BudgetCreateDTO dto, Category category, User user) {
     return Budget.builder()
-            .value(dto.getValue())
+            .value(Money.of(dto.getValue()))
             .month(dto.getMonth())
             .category(category)
             .user(user)
@@ -229,21 +362,76 @@ public class BudgetServiceImpl implements BudgetService {
    */
   private BudgetDTO mapToDTO(Budget budget) {
     Category category = budget.getCategory();
+    return mapToDTO(budget, new CategoryRow(category.getId(), category.getName(), category.getType()));
+  }
 
+  /**
+   * Maps a Budget entity to a BudgetDTO, taking the category's details from a row
+   * so an unloaded category reference is never initialized.
+   * 
+   * @param budget the Budget entity
+   * @param category the budget's category
+   * @return the BudgetDTO
+   */
+  private BudgetDTO mapToDTO(Budget budget, CategoryRow category) {
     CategoryDTO categoryDTO = CategoryDTO.builder()
-                                .id(category.getId())
-                                .name(category.getName())
-                                .type(category.getType())
+                                .id(category.id())
+                                .name(category.name())
+                                .type(category.type())
                                 .build();
 
     return BudgetDTO.builder()
             .id(budget.getId())
-            .value(budget.getValue())
+            .value(budget.getValue().toBigDecimal())
             .month(budget.getMonth())
             .category(categoryDTO)
             .build();
   }
 
+  /**
+   * Maps a read-only budget row to a BudgetDTO.
+   * 
+   * @param row the budget row
+   * @return the BudgetDTO
+   */
+  private BudgetDTO mapToDTO(BudgetRow row) {
+    CategoryDTO categoryDTO = CategoryDTO.builder()
+                                .id(row.categoryId())
+                                .name(row.categoryName())
+                                .type(row.categoryType())
+                                .build();
+
+    return BudgetDTO.builder()
+            .id(row.id())
+            .value(row.value().toBigDecimal())
+            .month(row.month())
+            .category(categoryDTO)
+            .build();
+  }
+
+  /**
+   * Maps a budget spending row to a BudgetMonthSummaryDTO.
+   * 
+   * @param spending the budget and its spent amount
+   * @return the BudgetMonthSummaryDTO
+   */
+  private BudgetMonthSummaryDTO mapToDTO(BudgetSpending spending) {
+    CategoryDTO categoryDTO = CategoryDTO.builder()
+                                .id(spending.categoryId())
+                                .name(spending.categoryName())
+                                .type(spending.categoryType())
+                                .build();
+
+    return BudgetMonthSummaryDTO.builder()
+            .budgetId(spending.budgetId())
+            .month(spending.month())
+            .category(categoryDTO)
+            .budgeted(spending.budgeted().toBigDecimal())
+            .spent(spending.spent().toBigDecimal())
+            .remaining(spending.budgeted().minus(spending.spent()).toBigDecimal())
+            .build();
+  }
+
   /**
    * Maps a YearMonth to a MonthDTO with formatted value and display strings.
    * 
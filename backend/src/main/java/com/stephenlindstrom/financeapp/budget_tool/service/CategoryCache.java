@@ -0,0 +1,163 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-user index of categories, so write paths can check that a category belongs to
+ * the user and attach it without a database round trip.
+ * A user's categories are loaded together with one query on first use and kept until
+ * evicted by size, by a time-to-live, or by {@link #invalidate(Long)} when they change.
+ * A lookup that misses checks that one category with a single-row query, so a category
+ * created elsewhere is never rejected, and reloads the user's categories only when it exists;
+ * unknown or foreign IDs cost one indexed lookup rather than a reload.
+ * Categories are queried outside the cache's map lock, which is a monitor that would pin
+ * a virtual thread's carrier for the whole query. A load that overlaps an invalidation is
+ * returned to its caller but not kept.
+ * Publishes cache metrics under {@code categories.by-user}.
+ */
+@Component
+public class CategoryCache {
+
+  private final CategoryRepository categoryRepository;
+  private final Cache<Long, Map<Long, CategoryRow>> cache;
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public CategoryCache(CategoryRepository categoryRepository,
+                       @Value("${categories.cache.max-users:10000}") long maxUsers,
+                       @Value("${categories.cache.ttl:10m}") Duration ttl,
+                       MeterRegistry meterRegistry) {
+    this.categoryRepository = categoryRepository;
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "categories.by-user");
+  }
+
+  /**
+   * Finds one of a user's categories.
+   *
+   * @param userId the owner of the category
+   * @param categoryId the category ID
+   * @return an Optional containing the category if it exists and belongs to the user
+   */
+  public Optional<CategoryRow> find(Long userId, Long categoryId) {
+    if (categoryId == null) {
+      return Optional.empty();
+    }
+
+    CategoryRow category = index(userId).get(categoryId);
+    if (category != null) {
+      return Optional.of(category);
+    }
+
+    Optional<CategoryRow> created = categoryRepository.findRowByIdAndUserId(categoryId, userId);
+    if (created.isPresent()) {
+      forget(userId);
+    }
+    return created;
+  }
+
+  /**
+   * Finds several of a user's categories. Those missing from the index are checked
+   * together with one query, and the index is reloaded only if any of them exist.
+   *
+   * @param userId the owner of the categories
+   * @param categoryIds the category IDs
+   * @return the categories that exist and belong to the user, keyed by ID
+   */
+  public Map<Long, CategoryRow> findAll(Long userId, Collection<Long> categoryIds) {
+    Map<Long, CategoryRow> index = index(userId);
+    Map<Long, CategoryRow> found = new HashMap<>();
+    List<Long> missing = categoryIds.stream()
+            .filter(id -> id != null && !index.containsKey(id))
+            .toList();
+
+    categoryIds.stream()
+            .filter(index::containsKey)
+            .forEach(id -> found.put(id, index.get(id)));
+
+    if (!missing.isEmpty()) {
+      List<CategoryRow> created = categoryRepository.findRowsByUserIdAndIdIn(userId, missing);
+      if (!created.isEmpty()) {
+        forget(userId);
+        created.forEach(category -> found.put(category.id(), category));
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Forgets a user's categories now and again once the current transaction completes,
+   * so a read that races the change cannot cache the state from before it.
+   *
+   * @param userId the user whose categories changed
+   */
+  public void invalidate(Long userId) {
+    forget(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          forget(userId);
+        }
+      });
+    }
+  }
+
+  private void forget(Long userId) {
+    invalidations.incrementAndGet();
+    cache.invalidate(userId);
+  }
+
+  /**
+   * Returns the user's category index, loading it on a miss without holding the cache's lock.
+   * Concurrent misses may each query; the first to finish is kept. If any invalidation
+   * happened while loading, the result may predate it, so it is removed again.
+   */
+  private Map<Long, CategoryRow> index(Long userId) {
+    Map<Long, CategoryRow> categories = cache.getIfPresent(userId);
+    if (categories != null) {
+      return categories;
+    }
+
+    long seen = invalidations.get();
+    Map<Long, CategoryRow> loaded = load(userId);
+    Map<Long, CategoryRow> current = cache.asMap().putIfAbsent(userId, loaded);
+    if (current != null) {
+      return current;
+    }
+    if (invalidations.get() != seen) {
+      cache.asMap().remove(userId, loaded);
+    }
+    return loaded;
+  }
+
+  private Map<Long, CategoryRow> load(Long userId) {
+    return categoryRepository.findRowsByUserId(userId).stream()
+            .collect(Collectors.toUnmodifiableMap(CategoryRow::id, Function.identity()));
+  }
+}
@@ -3,16 +3,20 @@ package com.stephenlindstrom.financeapp.budget_tool.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
 
 /**
  * Service implementation for managing categories.
@@ -23,10 +27,18 @@ public class CategoryServiceImpl implements CategoryService {
 
   private final CategoryRepository categoryRepository;
   private final UserService userService;
+  private final DataVersionService dataVersionService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CategoryCache categoryCache;
+  private final LedgerCache ledgerCache;
 
-  public CategoryServiceImpl(CategoryRepository categoryRepository, UserService userService) {
+  public CategoryServiceImpl(CategoryRepository categoryRepository, UserService userService, DataVersionService dataVersionService, ApplicationEventPublisher eventPublisher, CategoryCache categoryCache, LedgerCache ledgerCache) {
     this.categoryRepository = categoryRepository;
     this.userService = userService;
+    this.dataVersionService = dataVersionService;
+    this.eventPublisher = eventPublisher;
+    this.categoryCache = categoryCache;
+    this.ledgerCache = ledgerCache;
   }
 
   /**
@@ -36,11 +48,17 @@ public class CategoryServiceImpl implements CategoryService {
    * @return the created CategoryDTO
    */
   @Override
+  @Transactional
   public CategoryDTO create(CategoryCreateDTO dto) {
     User user = userService.getAuthenticatedUser();    
     Category category = mapToEntity(dto, user);
     Category saved = categoryRepository.save(category);
-    return mapToDTO(saved);
+    categoryCache.invalidate(user.getId());
+    dataVersionService.increment();
+
+    CategoryDTO created = mapToDTO(saved);
+    eventPublisher.publishEvent(DataChangedEvent.of(user.getId(), ResourceType.CATEGORY, ChangeType.CREATED, created.getId(), created));
+    return created;
   }
 
   /**
@@ -50,9 +68,9 @@ public class CategoryServiceImpl implements CategoryService {
    */
   @Override
   public List<CategoryDTO> getAll() {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
 
-    return categoryRepository.findByUserOrderByName(user).stream()
+    return categoryRepository.findRowsByUserId(userId).stream()
             .map(this::mapToDTO)
             .toList();
   }
@@ -65,9 +83,9 @@ public class CategoryServiceImpl implements CategoryService {
    */
   @Override
   public Optional<CategoryDTO> getById(Long id) {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
 
-    return categoryRepository.findByIdAndUser(id, user)
+    return categoryRepository.findByIdAndUserId(id, userId)
             .map(this::mapToDTO);
   }
 
@@ -80,29 +98,40 @@ public class CategoryServiceImpl implements CategoryService {
    * @throws ResourceNotFoundException if the category is not found
    */
   @Override
+  @Transactional
   public CategoryDTO updateById(Long id, CategoryCreateDTO dto) {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
 
-    Category category = categoryRepository.findByIdAndUser(id, user)
+    Category category = categoryRepository.findByIdAndUserId(id, userId)
       .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
 
     category.setName(dto.getName());
     category.setType(dto.getType());
 
     Category updatedCategory = categoryRepository.save(category);
-    return mapToDTO(updatedCategory);
+    categoryCache.invalidate(userId);
+    dataVersionService.increment();
+
+    CategoryDTO updated = mapToDTO(updatedCategory);
+    eventPublisher.publishEvent(DataChangedEvent.of(userId, ResourceType.CATEGORY, ChangeType.UPDATED, id, updated));
+    return updated;
   }
 
   /**
-   * Deletes a category by its ID.
+   * Deletes a category by its ID, together with its transactions and budgets.
    *
    * @param id the ID of the category to delete
    */
   @Override
   @Transactional
   public void deleteById(Long id) {
-    User user = userService.getAuthenticatedUser();
-    categoryRepository.deleteByIdAndUser(id, user);
+    Long userId = userService.getAuthenticatedUserId();
+    if (categoryRepository.deleteByIdAndUserId(id, userId) > 0) {
+      categoryCache.invalidate(userId);
+      ledgerCache.invalidate(userId);
+      dataVersionService.increment();
+      eventPublisher.publishEvent(DataChangedEvent.of(userId, ResourceType.CATEGORY, ChangeType.DELETED, id, null));
+    }
   }
 
   /**
@@ -113,8 +142,8 @@ public class CategoryServiceImpl implements CategoryService {
    */
   @Override
   public boolean existsByNameIgnoreCase(String name) {
-    User user = userService.getAuthenticatedUser();
-    return categoryRepository.existsByNameIgnoreCaseAndUser(name, user);
+    Long userId = userService.getAuthenticatedUserId();
+    return categoryRepository.existsByNameIgnoreCaseAndUserId(name, userId);
   }
 
   /**
@@ -125,10 +154,9 @@ public class CategoryServiceImpl implements CategoryService {
    */
   @Override
   public List<CategoryDTO> getByType(TransactionType type) {
-    User user = userService.getAuthenticatedUser();
+    Long userId = userService.getAuthenticatedUserId();
 
-    return categoryRepository.findByUserOrderByName(user).stream()
-            .filter(c -> c.getType() == type)
+    return categoryRepository.findRowsByUserIdAndType(userId, type).stream()
             .map(this::mapToDTO)
             .toList();
   }
@@ -160,4 +188,18 @@ public class CategoryServiceImpl implements CategoryService {
             .type(category.getType())
             .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * Maps a read-only category row to a CategoryDTO.
+   *
+   * @param row the category row
+   * @return the DTO
+   */
+  private CategoryDTO mapToDTO(CategoryRow row) {
+    return CategoryDTO.builder()
+            .id(row.id())
+            .name(row.name())
+            .type(row.type())
+            .build();
+  }
+}
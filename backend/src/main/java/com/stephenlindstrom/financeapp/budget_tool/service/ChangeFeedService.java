@@ -0,0 +1,20 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.stephenlindstrom.financeapp.budget_tool.errors.TooManyRequestsException;
+
+/**
+ * Service interface for the per-user change feed.
+ * Pushes every committed change to the authenticated user's data to their open event streams.
+ */
+public interface ChangeFeedService {
+
+    /**
+     * Opens an event stream for the authenticated user.
+     *
+     * @return the emitter the stream is written to
+     * @throws TooManyRequestsException if the user already has the maximum number of open streams
+     */
+    SseEmitter subscribe();
+}
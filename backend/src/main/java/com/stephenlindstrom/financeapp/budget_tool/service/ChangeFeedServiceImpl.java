@@ -0,0 +1,195 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.DataChangeDTO;
+import com.stephenlindstrom.financeapp.budget_tool.errors.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service implementation for the per-user change feed.
+ * Streams are held open with async servlet support, so an idle stream holds no request
+ * thread. Each stream has a bounded queue drained by its own virtual thread, which parks
+ * while the queue is empty and writes a heartbeat comment after each idle interval.
+ * Publishing only offers to queues, so a writer never waits on a client; a client whose
+ * queue fills up is evicted and has to reconnect and reload its lists.
+ * Publishes {@code events.subscribers} and {@code events.evicted}.
+ */
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+  private final UserService userService;
+  private final Supplier<SseEmitter> emitters;
+  private final Duration heartbeatInterval;
+  private final int queueCapacity;
+  private final int maxStreamsPerUser;
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final Counter evicted;
+
+  @Autowired
+  public ChangeFeedServiceImpl(UserService userService,
+                               MeterRegistry meterRegistry,
+                               @Value("${events.timeout:30m}") Duration timeout,
+                               @Value("${events.heartbeat-interval:15s}") Duration heartbeatInterval,
+                               @Value("${events.queue-capacity:256}") int queueCapacity,
+                               @Value("${events.max-streams-per-user:5}") int maxStreamsPerUser) {
+    this(userService, meterRegistry, () -> new SseEmitter(timeout.toMillis()), heartbeatInterval, queueCapacity, maxStreamsPerUser);
+  }
+
+  ChangeFeedServiceImpl(UserService userService, MeterRegistry meterRegistry, Supplier<SseEmitter> emitters,
+                        Duration heartbeatInterval, int queueCapacity, int maxStreamsPerUser) {
+    this.userService = userService;
+    this.emitters = emitters;
+    this.heartbeatInterval = heartbeatInterval;
+    this.queueCapacity = queueCapacity;
+    this.maxStreamsPerUser = maxStreamsPerUser;
+
+    this.evicted = Counter.builder("events.evicted")
+            .description("Event streams closed because the client fell too far behind")
+            .register(meterRegistry);
+    Gauge.builder("events.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open event streams")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Opens an event stream for the authenticated user and starts its sender.
+   *
+   * @return the emitter the stream is written to
+   * @throws TooManyRequestsException if the user already has the maximum number of open streams
+   */
+  @Override
+  public SseEmitter subscribe() {
+    Long userId = userService.getAuthenticatedUserId();
+    Subscriber subscriber = new Subscriber(userId, emitters.get(), new LinkedBlockingQueue<>(queueCapacity));
+
+    subscribers.compute(userId, (id, streams) -> {
+      Set<Subscriber> open = streams != null ? streams : ConcurrentHashMap.newKeySet();
+      if (open.size() >= maxStreamsPerUser) {
+        throw new TooManyRequestsException("Too many open event streams", heartbeatInterval);
+      }
+      open.add(subscriber);
+      return open;
+    });
+    subscriberCount.incrementAndGet();
+
+    SseEmitter emitter = subscriber.emitter;
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onError(error -> remove(subscriber));
+    emitter.onTimeout(emitter::complete);
+
+    subscriber.sender = Thread.ofVirtual()
+                          .name("change-feed-" + userId)
+                          .start(() -> send(subscriber));
+    return emitter;
+  }
+
+  /**
+   * Queues a committed change for every open stream of its owner.
+   * Runs after commit, so clients never see a change that was rolled back.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onDataChanged(DataChangedEvent event) {
+    Set<Subscriber> streams = subscribers.get(event.userId());
+    if (streams == null) {
+      return;
+    }
+    for (Subscriber subscriber : streams) {
+      if (!subscriber.queue.offer(event.change())) {
+        evicted.increment();
+        remove(subscriber);
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscribers.values().forEach(streams -> streams.forEach(this::remove));
+  }
+
+  /**
+   * Runs on the stream's virtual thread: writes queued changes in order and a heartbeat
+   * after every idle interval, until the stream is removed or the client disconnects.
+   */
+  private void send(Subscriber subscriber) {
+    SseEmitter emitter = subscriber.emitter;
+    try {
+      // Commits the response headers so the client knows the stream is open
+      emitter.send(SseEmitter.event().comment("connected"));
+      while (!subscriber.closed.get()) {
+        DataChangeDTO change = subscriber.queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (change == null) {
+          emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else {
+          emitter.send(SseEmitter.event().name("change").data(change, MediaType.APPLICATION_JSON));
+        }
+      }
+    } catch (InterruptedException e) {
+      // Woken by remove
+    } catch (IOException | IllegalStateException e) {
+      // The client went away or the stream already completed
+    } finally {
+      remove(subscriber);
+      emitter.complete();
+    }
+  }
+
+  /**
+   * Removes a stream from its owner's set and wakes its sender so it can complete the response.
+   */
+  private void remove(Subscriber subscriber) {
+    if (!subscriber.closed.compareAndSet(false, true)) {
+      return;
+    }
+    subscribers.computeIfPresent(subscriber.userId, (id, streams) -> {
+      streams.remove(subscriber);
+      return streams.isEmpty() ? null : streams;
+    });
+    subscriberCount.decrementAndGet();
+
+    Thread sender = subscriber.sender;
+    if (sender != null && sender != Thread.currentThread()) {
+      sender.interrupt();
+    }
+  }
+
+  /**
+   * One open event stream.
+   */
+  private static final class Subscriber {
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<DataChangeDTO> queue;
+    private volatile Thread sender;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Subscriber(Long userId, SseEmitter emitter, BlockingQueue<DataChangeDTO> queue) {
+      this.userId = userId;
+      this.emitter = emitter;
+      this.queue = queue;
+    }
+  }
+}
@@ -0,0 +1,281 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
+
+/**
+ * Immutable snapshot of one user's transactions held as parallel primitive columns:
+ * epoch day, amount in cents, an index into the user's categories and a bitset marking
+ * expenses. Filters and group-by sums are single passes over these arrays, with no
+ * objects touched per transaction, run by the ledger's {@link LedgerKernels}.
+ * Rows are kept in no particular order. Changes produce a new snapshot, leaving readers
+ * of the old one undisturbed; each change copies the columns, so it costs time
+ * proportional to the user's transaction count.
+ */
+public final class ColumnarLedger {
+
+  /** Category indexes are stored as unsigned shorts. */
+  static final int MAX_CATEGORIES = 1 << 16;
+
+  private final long[] ids;
+  private final int[] epochDays;
+  private final long[] amountCents;
+  private final short[] categoryIndexes;
+  private final long[] expenseBits;
+  private final Long[] categoryIds;
+  private final int size;
+  private final LedgerKernels kernels;
+
+  private ColumnarLedger(Builder builder) {
+    this.ids = builder.ids;
+    this.epochDays = builder.epochDays;
+    this.amountCents = builder.amountCents;
+    this.categoryIndexes = builder.categoryIndexes;
+    this.expenseBits = builder.expenseBits;
+    this.categoryIds = builder.categoryIds.toArray(Long[]::new);
+    this.size = builder.size;
+    this.kernels = builder.kernels;
+  }
+
+  /**
+   * Builds a ledger from transaction rows, scanned by the scalar kernels.
+   *
+   * @param rows the user's transactions
+   * @return the ledger
+   * @throws IllegalStateException if the rows reference more than {@link #MAX_CATEGORIES} categories
+   */
+  public static ColumnarLedger of(Collection<LedgerRow> rows) {
+    return of(rows, LedgerKernels.scalar());
+  }
+
+  /**
+   * Builds a ledger from transaction rows.
+   *
+   * @param rows the user's transactions
+   * @param kernels the kernels that scan this ledger and the ledgers derived from it
+   * @return the ledger
+   * @throws IllegalStateException if the rows reference more than {@link #MAX_CATEGORIES} categories
+   */
+  public static ColumnarLedger of(Collection<LedgerRow> rows, LedgerKernels kernels) {
+    Builder builder = new Builder(rows.size(), kernels);
+    rows.forEach(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * @return the number of transactions in the ledger
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Aggregates the amounts, in cents, of the transactions of one type in one category over a date range.
+   *
+   * @param categoryId the category to aggregate
+   * @param type the transaction type to aggregate
+   * @param startDate the first day of the range, inclusive
+   * @param endDate the last day of the range, inclusive
+   * @return the sum, count, smallest and largest amount, or {@link LedgerAggregate#EMPTY} when no transactions match
+   */
+  public LedgerAggregate aggregate(Long categoryId, TransactionType type, LocalDate startDate, LocalDate endDate) {
+    int category = indexOf(categoryId);
+    if (category < 0) {
+      return LedgerAggregate.EMPTY;
+    }
+    return kernels.aggregate(epochDays, amountCents, categoryIndexes, expenseBits, size,
+        (int) startDate.toEpochDay(), (int) endDate.toEpochDay(), (short) category, type == TransactionType.EXPENSE);
+  }
+
+  /**
+   * Sums the amounts, in cents, of the transactions of one type in one category over a date range.
+   *
+   * @param categoryId the category to sum
+   * @param type the transaction type to sum
+   * @param startDate the first day of the range, inclusive
+   * @param endDate the last day of the range, inclusive
+   * @return the total in cents, or zero when no transactions match
+   */
+  public long sumCents(Long categoryId, TransactionType type, LocalDate startDate, LocalDate endDate) {
+    return aggregate(categoryId, type, startDate, endDate).sumCents();
+  }
+
+  /**
+   * Sums the amounts, in cents, of the transactions of one type over a date range, per category.
+   * Transactions without a category are left out.
+   *
+   * @param type the transaction type to sum
+   * @param startDate the first day of the range, inclusive
+   * @param endDate the last day of the range, inclusive
+   * @return the total in cents keyed by category ID, holding only categories with matching transactions
+   */
+  public Map<Long, Long> sumCentsByCategory(TransactionType type, LocalDate startDate, LocalDate endDate) {
+    long[] totals = new long[categoryIds.length];
+    long[] counts = new long[categoryIds.length];
+    kernels.sumByCategory(epochDays, amountCents, categoryIndexes, expenseBits, size,
+        (int) startDate.toEpochDay(), (int) endDate.toEpochDay(), type == TransactionType.EXPENSE, totals, counts);
+
+    Map<Long, Long> result = new HashMap<>();
+    for (int category = 0; category < categoryIds.length; category++) {
+      if (counts[category] > 0 && categoryIds[category] != null) {
+        result.put(categoryIds[category], totals[category]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a ledger in which each row replaces the transaction with the same ID,
+   * or is added when there is none. Applying the same rows twice has no further effect.
+   *
+   * @param rows the created or updated transactions
+   * @return the new ledger
+   */
+  public ColumnarLedger withUpserted(Collection<LedgerRow> rows) {
+    if (rows.isEmpty()) {
+      return this;
+    }
+
+    Map<Long, LedgerRow> pending = new HashMap<>();
+    rows.forEach(row -> pending.put(row.id(), row));
+
+    Builder builder = new Builder(this, pending.size());
+    for (int i = 0; i < size && !pending.isEmpty(); i++) {
+      LedgerRow row = pending.remove(ids[i]);
+      if (row != null) {
+        builder.set(i, row);
+      }
+    }
+    pending.values().forEach(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Returns a ledger without the transaction with the given ID.
+   *
+   * @param id the ID of the deleted transaction
+   * @return the new ledger, or this one if it does not hold the transaction
+   */
+  public ColumnarLedger without(Long id) {
+    for (int i = 0; i < size; i++) {
+      if (ids[i] == id) {
+        Builder builder = new Builder(this, 0);
+        builder.remove(i);
+        return builder.build();
+      }
+    }
+    return this;
+  }
+
+  private int indexOf(Long categoryId) {
+    for (int i = 0; i < categoryIds.length; i++) {
+      if (categoryId == null ? categoryIds[i] == null : categoryId.equals(categoryIds[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Fills the columns of a new ledger, either from scratch or from a copy of an existing one.
+   */
+  private static final class Builder {
+
+    private final long[] ids;
+    private final int[] epochDays;
+    private final long[] amountCents;
+    private final short[] categoryIndexes;
+    private final long[] expenseBits;
+    private final List<Long> categoryIds;
+    private final Map<Long, Integer> categoryIndexById;
+    private final LedgerKernels kernels;
+    private int size;
+
+    Builder(int capacity, LedgerKernels kernels) {
+      this.ids = new long[capacity];
+      this.epochDays = new int[capacity];
+      this.amountCents = new long[capacity];
+      this.categoryIndexes = new short[capacity];
+      this.expenseBits = new long[words(capacity)];
+      this.categoryIds = new ArrayList<>();
+      this.categoryIndexById = new HashMap<>();
+      this.kernels = kernels;
+    }
+
+    Builder(ColumnarLedger base, int extra) {
+      int capacity = base.size + extra;
+      this.ids = Arrays.copyOf(base.ids, capacity);
+      this.epochDays = Arrays.copyOf(base.epochDays, capacity);
+      this.amountCents = Arrays.copyOf(base.amountCents, capacity);
+      this.categoryIndexes = Arrays.copyOf(base.categoryIndexes, capacity);
+      this.expenseBits = Arrays.copyOf(base.expenseBits, words(capacity));
+      this.categoryIds = new ArrayList<>(Arrays.asList(base.categoryIds));
+      this.categoryIndexById = new HashMap<>();
+      for (int i = 0; i < categoryIds.size(); i++) {
+        categoryIndexById.put(categoryIds.get(i), i);
+      }
+      this.size = base.size;
+      this.kernels = base.kernels;
+    }
+
+    void add(LedgerRow row) {
+      set(size++, row);
+    }
+
+    void set(int i, LedgerRow row) {
+      ids[i] = row.id();
+      epochDays[i] = (int) row.date().toEpochDay();
+      amountCents[i] = row.amount().cents();
+      categoryIndexes[i] = (short) categoryIndex(row.categoryId());
+      setExpense(i, row.type() == TransactionType.EXPENSE);
+    }
+
+    /** Removes a row by moving the last row into its place. */
+    void remove(int i) {
+      int last = --size;
+      ids[i] = ids[last];
+      epochDays[i] = epochDays[last];
+      amountCents[i] = amountCents[last];
+      categoryIndexes[i] = categoryIndexes[last];
+      setExpense(i, ((expenseBits[last >>> 6] >>> last) & 1L) != 0);
+      setExpense(last, false);
+    }
+
+    ColumnarLedger build() {
+      return new ColumnarLedger(this);
+    }
+
+    private int categoryIndex(Long categoryId) {
+      Integer index = categoryIndexById.get(categoryId);
+      if (index != null) {
+        return index;
+      }
+      if (categoryIds.size() == MAX_CATEGORIES) {
+        throw new IllegalStateException("Ledger cannot hold more than " + MAX_CATEGORIES + " categories");
+      }
+      categoryIds.add(categoryId);
+      categoryIndexById.put(categoryId, categoryIds.size() - 1);
+      return categoryIds.size() - 1;
+    }
+
+    private void setExpense(int i, boolean expense) {
+      if (expense) {
+        expenseBits[i >>> 6] |= 1L << i;
+      } else {
+        expenseBits[i >>> 6] &= ~(1L << i);
+      }
+    }
+
+    private static int words(int bits) {
+      return (bits + 63) >>> 6;
+    }
+  }
+}
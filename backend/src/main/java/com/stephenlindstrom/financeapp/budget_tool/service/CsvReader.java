@@ -0,0 +1,137 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV records one at a time from a character stream.
+ * Supports quoted fields with embedded delimiters, quotes and line breaks.
+ * Only the current record is held in memory, and a record longer than the
+ * configured limit is skipped to its end and flagged instead of buffered.
+ */
+final class CsvReader implements Closeable {
+
+  /**
+   * One CSV record.
+   *
+   * @param line the line number the record starts on, counting from 1
+   * @param fields the field values, or empty if the record was too long
+   * @param tooLong whether the record exceeded the length limit
+   */
+  record CsvRecord(long line, List<String> fields, boolean tooLong) {
+  }
+
+  private static final int END = -1;
+
+  private final Reader reader;
+  private final char delimiter;
+  private final int maxRecordLength;
+
+  private long line = 1;
+  private int pending = -2;
+
+  CsvReader(Reader reader, char delimiter, int maxRecordLength) {
+    this.reader = reader;
+    this.delimiter = delimiter;
+    this.maxRecordLength = maxRecordLength;
+  }
+
+  /**
+   * Reads the next non-blank record.
+   *
+   * @return the record, or null at the end of the stream
+   * @throws IOException if the underlying stream cannot be read
+   */
+  CsvRecord next() throws IOException {
+    while (true) {
+      long startLine = line;
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      boolean inQuotes = false;
+      boolean sawContent = false;
+      int length = 0;
+      boolean tooLong = false;
+
+      int c;
+      while (true) {
+        c = read();
+
+        if (c == END) {
+          if (!sawContent) {
+            return null;
+          }
+          break;
+        }
+
+        if (inQuotes) {
+          if (c == '"') {
+            int following = read();
+            if (following == '"') {
+              c = '"';
+            } else {
+              inQuotes = false;
+              unread(following);
+              continue;
+            }
+          } else if (c == '\n') {
+            line++;
+          }
+        } else if (c == '"' && field.isEmpty()) {
+          inQuotes = true;
+          sawContent = true;
+          continue;
+        } else if (c == '\r') {
+          continue;
+        } else if (c == '\n') {
+          line++;
+          break;
+        }
+
+        sawContent = true;
+        if (++length > maxRecordLength) {
+          tooLong = true;
+          fields.clear();
+          field.setLength(0);
+        } else if (!inQuotes && c == delimiter) {
+          fields.add(field.toString());
+          field.setLength(0);
+        } else {
+          field.append((char) c);
+        }
+      }
+
+      if (!sawContent) {
+        // Blank line between records
+        continue;
+      }
+
+      if (tooLong) {
+        return new CsvRecord(startLine, List.of(), true);
+      }
+
+      fields.add(field.toString());
+      return new CsvRecord(startLine, fields, false);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int c = pending;
+      pending = -2;
+      return c;
+    }
+    return reader.read();
+  }
+
+  private void unread(int c) {
+    pending = c;
+  }
+}
@@ -0,0 +1,22 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.time.YearMonth;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.DashboardDTO;
+
+/**
+ * Service interface for the dashboard.
+ * Combines the reads a client needs to render one month into a single call.
+ */
+public interface DashboardService {
+
+    /**
+     * Builds the dashboard for a month.
+     *
+     * @param month the month to summarize budgets for
+     * @param recentTransactions how many of the most recent transactions to include
+     * @return available months, the month's budget summaries, categories and recent transactions
+     * @throws IllegalArgumentException if recentTransactions is out of range
+     */
+    DashboardDTO get(YearMonth month, int recentTransactions);
+}
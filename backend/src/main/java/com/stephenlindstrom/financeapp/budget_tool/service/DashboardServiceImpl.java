@@ -0,0 +1,136 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetMonthSummaryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.DashboardDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.MonthDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service implementation for the dashboard.
+ * The four parts are independent reads, so they run concurrently on virtual threads
+ * that inherit the caller's security context. Each part uses its own connection,
+ * so the dashboard costs as long as its slowest read rather than the sum of all four.
+ * Virtual threads are unbounded, so the parts read concurrently across all requests are
+ * capped by {@code dashboard.max-concurrent-reads}, which should stay below the connection
+ * pool size; further parts wait for a permit rather than for a connection.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+  private final BudgetService budgetService;
+  private final CategoryService categoryService;
+  private final TransactionService transactionService;
+  private final ExecutorService executor;
+  private final Semaphore reads;
+
+  public DashboardServiceImpl(BudgetService budgetService, CategoryService categoryService, TransactionService transactionService,
+                              @Value("${dashboard.max-concurrent-reads:6}") int maxConcurrentReads) {
+    if (maxConcurrentReads < 1) {
+      throw new IllegalArgumentException("dashboard.max-concurrent-reads must be at least 1");
+    }
+    this.budgetService = budgetService;
+    this.categoryService = categoryService;
+    this.transactionService = transactionService;
+    this.reads = new Semaphore(maxConcurrentReads, true);
+    this.executor = new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  /**
+   * Builds the dashboard for a month by fetching its parts concurrently.
+   *
+   * @param month the month to summarize budgets for
+   * @param recentTransactions how many of the most recent transactions to include
+   * @return the dashboard
+   * @throws IllegalArgumentException if recentTransactions is out of range
+   */
+  @Override
+  public DashboardDTO get(YearMonth month, int recentTransactions) {
+    if (recentTransactions < 1 || recentTransactions > TransactionServiceImpl.MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Recent transactions must be between 1 and " + TransactionServiceImpl.MAX_PAGE_SIZE);
+    }
+
+    Future<List<MonthDTO>> months = submit(() -> budgetService.getAvailableMonths());
+    Future<List<BudgetMonthSummaryDTO>> budgets = submit(() -> budgetService.getSummariesByMonth(month));
+    Future<List<CategoryDTO>> categories = submit(categoryService::getAll);
+
+    try {
+      // The calling thread would only wait, so it fetches the last part itself, under the same cap
+      List<TransactionDTO> transactions = limited(() -> transactionService.getAll(recentTransactions, null).getItems());
+      return DashboardDTO.builder()
+              .month(month)
+              .months(join(months))
+              .budgets(join(budgets))
+              .categories(join(categories))
+              .recentTransactions(transactions)
+              .build();
+    } catch (RuntimeException e) {
+      months.cancel(true);
+      budgets.cancel(true);
+      categories.cancel(true);
+      throw e;
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Runs a part on a virtual thread once a read permit is free.
+   */
+  private <T> Future<T> submit(Supplier<T> part) {
+    return executor.submit(() -> limited(part));
+  }
+
+  /**
+   * Runs a part while holding a read permit, so it never waits for a connection held by another dashboard part.
+   */
+  private <T> T limited(Supplier<T> part) {
+    try {
+      reads.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Dashboard request was interrupted", e);
+    }
+
+    try {
+      return part.get();
+    } finally {
+      reads.release();
+    }
+  }
+
+  /**
+   * Waits for a part and rethrows its failure as the original exception.
+   */
+  private static <T> T join(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Dashboard request was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to load dashboard", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.DataChangeDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
+
+/**
+ * Application event published by the services whenever a user's transaction, budget
+ * or category is created, updated or deleted. Batch writes publish one bulk change
+ * instead of one per resource, so a large batch cannot overflow the event streams.
+ *
+ * @param userId the owner of the changed resource
+ * @param change the change as delivered to the owner's event streams
+ */
+public record DataChangedEvent(Long userId, DataChangeDTO change) {
+
+  public static DataChangedEvent of(Long userId, ResourceType resource, ChangeType change, Long id, Object data) {
+    return new DataChangedEvent(userId, DataChangeDTO.builder()
+                                          .resource(resource)
+                                          .change(change)
+                                          .id(id)
+                                          .data(data)
+                                          .build());
+  }
+
+  public static DataChangedEvent bulkCreated(Long userId, ResourceType resource, int count) {
+    return new DataChangedEvent(userId, DataChangeDTO.builder()
+                                          .resource(resource)
+                                          .change(ChangeType.BULK_CREATED)
+                                          .count(count)
+                                          .build());
+  }
+}
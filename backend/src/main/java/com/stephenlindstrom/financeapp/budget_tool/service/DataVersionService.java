@@ -0,0 +1,22 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+/**
+ * Service interface for the authenticated user's data version.
+ * The version changes whenever any of the user's transactions, budgets or categories
+ * change, and is served as an ETag so unchanged lists can be answered with 304.
+ */
+public interface DataVersionService {
+
+    /**
+     * Records that the authenticated user's data changed.
+     * Joins the caller's transaction, so the new version commits with the change.
+     */
+    void increment();
+
+    /**
+     * Builds the strong ETag for the authenticated user's current data version.
+     *
+     * @return the ETag, in the form {@code "u<userId>-v<version>"}
+     */
+    String getCurrentETag();
+}
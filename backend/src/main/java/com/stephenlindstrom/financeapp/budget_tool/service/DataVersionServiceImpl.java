@@ -0,0 +1,47 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.stephenlindstrom.financeapp.budget_tool.repository.UserRepository;
+
+/**
+ * Service implementation for per-user data versions, stored on the user row.
+ */
+@Service
+public class DataVersionServiceImpl implements DataVersionService {
+
+  private final UserRepository userRepository;
+  private final UserService userService;
+
+  public DataVersionServiceImpl(UserRepository userRepository, UserService userService) {
+    this.userRepository = userRepository;
+    this.userService = userService;
+  }
+
+  /**
+   * Increments the authenticated user's data version.
+   */
+  @Override
+  @Transactional
+  public void increment() {
+    userRepository.incrementDataVersion(userService.getAuthenticatedUserId());
+  }
+
+  /**
+   * Reads the authenticated user's data version with a single-column lookup
+   * and formats it as a strong ETag.
+   *
+   * @return the quoted ETag
+   * @throws UsernameNotFoundException if the authenticated user no longer exists
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public String getCurrentETag() {
+    Long userId = userService.getAuthenticatedUserId();
+    long version = userRepository.findDataVersionById(userId)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    return "\"u" + userId + "-v" + version + "\"";
+  }
+}
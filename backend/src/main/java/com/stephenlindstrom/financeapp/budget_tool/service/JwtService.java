@@ -13,62 +13,71 @@ import java.util.Date;
 @Service
 public class JwtService {
 
-    // Injects the secret key from application properties
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     // 1 day in milliseconds
     private static final long EXPIRATION_TIME = 86400000;
 
     /**
-     * Generates the cryptographic key used to sign and validate JWT tokens.
+     * Claim holding the user's database id, so requests can be scoped without looking the user up.
      */
-    private Key getSigningKey() {
-      byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-      return Keys.hmacShaKeyFor(keyBytes);
+    public static final String USER_ID_CLAIM = "uid";
+
+    // Decoded once at startup; both the key and the parser are immutable and thread-safe
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    /**
+     * Decodes the secret key from application properties and builds the signing key
+     * and parser shared by every request.
+     */
+    public JwtService(@Value("${jwt.secret}") String secretKey) {
+      this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+      this.parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
     }
 
     /**
-     * Generates a JWT token for a given username.
+     * Generates a JWT token for a given user, carrying the username as the subject
+     * and the user id as the {@code uid} claim.
      */
-    public String generateToken(String username) {
+    public String generateToken(Long userId, String username) {
       return Jwts.builder()
             .setSubject(username)
+            .claim(USER_ID_CLAIM, userId)
             .setIssuedAt(new Date())
             .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-            .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
     }
 
+    /**
+     * Verifies the token's signature and expiration once and returns its claims.
+     * Throws ExpiredJwtException or another JwtException if the token is invalid,
+     * and IllegalArgumentException if it is null or empty.
+     */
+    public Claims validateAndParse(String token) {
+      return parser.parseClaimsJws(token).getBody();
+    }
+
     /**
      * Extracts the username from a given JWT token.
      */
     public String extractUsername(String token) {
-      return Jwts.parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getSubject();
+      return validateAndParse(token).getSubject();
     }
 
     /**
-     * Validates the token against the provided username and checks that it hasn't expired.
+     * Extracts the user id from a given JWT token, or null if the token predates the {@code uid} claim.
      */
-    public boolean isTokenValid(String token, String username) {
-      return username.equals(extractUsername(token)) && !isTokenExpired(token);
+    public Long extractUserId(String token) {
+      return validateAndParse(token).get(USER_ID_CLAIM, Long.class);
     }
 
     /**
-     * Checks whether the token has expired.
+     * Validates the token against the provided username and checks that it hasn't expired.
+     * Expired tokens are rejected while parsing, so a single verification covers both checks.
      */
-    private boolean isTokenExpired(String token) {
-      return Jwts.parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getExpiration()
-            .before(new Date());
+    public boolean isTokenValid(String token, String username) {
+      return username.equals(extractUsername(token));
     }
 }
@@ -0,0 +1,20 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+
+/**
+ * Sum, count, smallest and largest amount, in cents, of the ledger transactions matching a filter.
+ * The smallest and largest amounts are zero when nothing matches.
+ */
+public record LedgerAggregate(long sumCents, long count, long minCents, long maxCents) {
+
+  public static final LedgerAggregate EMPTY = new LedgerAggregate(0, 0, 0, 0);
+
+  static LedgerAggregate of(long sumCents, long count, long minCents, long maxCents) {
+    return count == 0 ? EMPTY : new LedgerAggregate(sumCents, count, minCents, maxCents);
+  }
+
+  public Money sum() {
+    return Money.ofCents(sumCents);
+  }
+}
@@ -0,0 +1,206 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Optional in-memory store of each active user's transactions as a {@link ColumnarLedger},
+ * so summaries can be computed by scanning arrays instead of querying the database.
+ * Disabled unless {@code analytics.ledger.enabled} is set, in which case {@link #find(Long)}
+ * is always empty and callers fall back to SQL.
+ * A user's ledger is loaded with one query on first use. Write paths report their changes,
+ * which are applied once the database transaction commits. Loads and changes both run
+ * outside the cache's map lock, a monitor that would pin a virtual thread's carrier for a
+ * whole query or ledger copy: a change is swapped in only if the ledger it was built from
+ * is still current, and a load that overlaps a change to the same user is not kept. Ledgers are bounded by their
+ * total transaction count, evicting users whose ledgers are rarely read first, and expire
+ * when not read for a while.
+ * Scans use the Vector API kernels when {@code analytics.ledger.vector.enabled} is set and the
+ * JVM and CPU support them, and the scalar kernels otherwise; see {@link LedgerKernels#select(boolean)}.
+ * Publishes cache metrics under {@code analytics.ledger}.
+ */
+@Component
+public class LedgerCache {
+
+  private static final Logger log = LoggerFactory.getLogger(LedgerCache.class);
+  private static final int CHANGE_STRIPES = 64;
+
+  private final TransactionRepository transactionRepository;
+  private final boolean enabled;
+  private final LedgerKernels kernels;
+  private final Cache<Long, ColumnarLedger> cache;
+  private final AtomicLongArray changes = new AtomicLongArray(CHANGE_STRIPES);
+
+  public LedgerCache(TransactionRepository transactionRepository,
+                     @Value("${analytics.ledger.enabled:false}") boolean enabled,
+                     @Value("${analytics.ledger.max-transactions:2000000}") long maxTransactions,
+                     @Value("${analytics.ledger.ttl:30m}") Duration ttl,
+                     @Value("${analytics.ledger.vector.enabled:true}") boolean vectorEnabled,
+                     MeterRegistry meterRegistry) {
+    this.transactionRepository = transactionRepository;
+    this.enabled = enabled;
+    this.kernels = LedgerKernels.select(vectorEnabled);
+    this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxTransactions)
+            .<Long, ColumnarLedger>weigher((userId, ledger) -> ledger.size() + 1)
+            .expireAfterAccess(ttl)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "analytics.ledger");
+
+    if (enabled) {
+      log.info("Analytics ledger scans use {}", kernels.getClass().getSimpleName());
+    }
+  }
+
+  /**
+   * Returns a user's ledger, loading it on first use.
+   *
+   * @param userId the owner of the transactions
+   * @return an Optional containing the ledger, or empty if the ledger is disabled
+   */
+  public Optional<ColumnarLedger> find(Long userId) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    ColumnarLedger ledger = cache.getIfPresent(userId);
+    if (ledger != null) {
+      return Optional.of(ledger);
+    }
+
+    long seen = changes.get(stripe(userId));
+    ColumnarLedger loaded = load(userId);
+    ColumnarLedger current = cache.asMap().putIfAbsent(userId, loaded);
+    if (current != null) {
+      return Optional.of(current);
+    }
+    if (changes.get(stripe(userId)) != seen) {
+      cache.asMap().remove(userId, loaded);
+    }
+    return Optional.of(loaded);
+  }
+
+  /**
+   * Adds or replaces transactions in the user's ledger once the current transaction commits.
+   *
+   * @param userId the owner of the transactions
+   * @param transactions the saved transactions
+   */
+  public void upsert(Long userId, Collection<Transaction> transactions) {
+    if (!enabled || transactions.isEmpty()) {
+      return;
+    }
+
+    List<LedgerRow> rows = transactions.stream()
+            .map(LedgerCache::toRow)
+            .toList();
+    afterCommit(userId, ledger -> ledger.withUpserted(rows));
+  }
+
+  /**
+   * Removes a transaction from the user's ledger once the current transaction commits.
+   *
+   * @param userId the owner of the transaction
+   * @param transactionId the ID of the deleted transaction
+   */
+  public void remove(Long userId, Long transactionId) {
+    if (!enabled) {
+      return;
+    }
+    afterCommit(userId, ledger -> ledger.without(transactionId));
+  }
+
+  /**
+   * Forgets a user's ledger now and again once the current transaction completes,
+   * for changes too broad to apply row by row.
+   *
+   * @param userId the user whose transactions changed
+   */
+  public void invalidate(Long userId) {
+    if (!enabled) {
+      return;
+    }
+
+    forget(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          forget(userId);
+        }
+      });
+    }
+  }
+
+  /**
+   * Applies a change to a loaded ledger after commit, so a rolled back write is never seen.
+   */
+  private void afterCommit(Long userId, UnaryOperator<ColumnarLedger> change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(userId, change);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(userId, change);
+      }
+    });
+  }
+
+  /**
+   * Builds the changed ledger from the current one and swaps it in only if no other change
+   * replaced the current one meanwhile, retrying otherwise. Marking the change first makes
+   * any load still in flight discard its result, since it may predate the change.
+   */
+  private void apply(Long userId, UnaryOperator<ColumnarLedger> change) {
+    changes.incrementAndGet(stripe(userId));
+    while (true) {
+      ColumnarLedger current = cache.asMap().get(userId);
+      if (current == null || cache.asMap().replace(userId, current, change.apply(current))) {
+        return;
+      }
+    }
+  }
+
+  private void forget(Long userId) {
+    changes.incrementAndGet(stripe(userId));
+    cache.invalidate(userId);
+  }
+
+  private static int stripe(Long userId) {
+    return Math.floorMod(userId.hashCode(), CHANGE_STRIPES);
+  }
+
+  private ColumnarLedger load(Long userId) {
+    return ColumnarLedger.of(transactionRepository.findLedgerRowsByUserId(userId), kernels);
+  }
+
+  private static LedgerRow toRow(Transaction transaction) {
+    Long categoryId = transaction.getCategory() != null ? transaction.getCategory().getId() : null;
+    return new LedgerRow(transaction.getId(), transaction.getDate(), transaction.getAmount(), categoryId, transaction.getType());
+  }
+}
@@ -0,0 +1,67 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+/**
+ * Filtered aggregations over the columns of a {@link ColumnarLedger}.
+ * Every kernel reads the first {@code size} entries of the columns and keeps the transactions
+ * dated from {@code fromDay} through {@code toDay} inclusive, as epoch days, whose bit in
+ * {@code expenseBits} matches {@code expense}.
+ * Two implementations give identical results: a scalar loop, and one using the incubating
+ * Vector API, which needs the JVM to be started with {@code --add-modules jdk.incubator.vector}.
+ */
+public interface LedgerKernels {
+
+  /**
+   * Aggregates the matching transactions in one category.
+   *
+   * @param category the category index to keep
+   * @return the sum, count, smallest and largest amount of the matching transactions
+   */
+  LedgerAggregate aggregate(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits,
+                            int size, int fromDay, int toDay, short category, boolean expense);
+
+  /**
+   * Adds the amount of every matching transaction to {@code totals}, and one to {@code counts},
+   * at the transaction's category index.
+   */
+  void sumByCategory(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits,
+                     int size, int fromDay, int toDay, boolean expense, long[] totals, long[] counts);
+
+  /**
+   * @return the scalar kernels, which run on any JVM
+   */
+  static LedgerKernels scalar() {
+    return ScalarLedgerKernels.INSTANCE;
+  }
+
+  /**
+   * @return the Vector API kernels
+   * @throws UnsupportedOperationException if the {@code jdk.incubator.vector} module is not loaded
+   */
+  static LedgerKernels vector() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      throw new UnsupportedOperationException("Vector kernels need --add-modules jdk.incubator.vector");
+    }
+    return new VectorLedgerKernels();
+  }
+
+  /**
+   * Picks the kernels to use at runtime. The Vector API kernels are used when preferred,
+   * their module is loaded and the CPU's preferred vectors hold at least
+   * {@link VectorLedgerKernels#MIN_LANES} amounts; otherwise the scalar kernels are.
+   *
+   * @param preferVector whether to use the Vector API kernels when they can run well
+   * @return the selected kernels
+   */
+  static LedgerKernels select(boolean preferVector) {
+    if (preferVector && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        if (VectorLedgerKernels.isAccelerated()) {
+          return new VectorLedgerKernels();
+        }
+      } catch (LinkageError e) {
+        // Vector API unusable on this JVM; fall back to the scalar kernels
+      }
+    }
+    return scalar();
+  }
+}
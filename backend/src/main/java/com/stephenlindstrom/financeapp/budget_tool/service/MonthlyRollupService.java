@@ -0,0 +1,59 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.util.List;
+
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+
+/**
+ * Service interface for maintaining monthly rollups.
+ * Keeps the per-user, per-category, per-month and per-type totals in step with transaction writes.
+ */
+public interface MonthlyRollupService {
+
+    /**
+     * Adds a transaction to the rollup bucket it belongs to.
+     *
+     * @param transaction the transaction being created
+     */
+    void record(Transaction transaction);
+
+    /**
+     * Adds many transactions to their rollup buckets, touching each bucket once.
+     *
+     * @param transactions the transactions being created
+     */
+    void recordAll(List<Transaction> transactions);
+
+    /**
+     * Removes a transaction from the rollup bucket it belongs to.
+     *
+     * @param transaction the transaction being deleted
+     */
+    void reverse(Transaction transaction);
+
+    /**
+     * Moves a transaction's contribution from its previous state to its current state.
+     * When both states fall into the same bucket only the amount difference is applied.
+     *
+     * @param previous the transaction as it was before the update
+     * @param current the transaction as it is after the update
+     */
+    void replace(Transaction previous, Transaction current);
+
+    /**
+     * Discards a user's rollups and recomputes them from the transaction table.
+     *
+     * @param user the user whose rollups are rebuilt
+     * @return the number of rollup buckets written
+     */
+    int rebuild(User user);
+
+    /**
+     * Compares a user's stored rollups with totals recomputed from the transaction table.
+     *
+     * @param user the user whose rollups are checked
+     * @return the number of buckets whose stored total or count is wrong, zero when consistent
+     */
+    int verify(User user);
+}
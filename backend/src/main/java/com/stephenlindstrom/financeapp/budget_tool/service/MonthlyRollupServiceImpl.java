@@ -0,0 +1,215 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.MonthlyRollup;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.MonthlyRollupRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.MonthlyTotal;
+
+/**
+ * Service implementation for maintaining monthly rollups.
+ * Applies transaction deltas to their buckets within the caller's database transaction,
+ * and can rebuild or verify the rollups against the raw transaction table.
+ */
+@Service
+public class MonthlyRollupServiceImpl implements MonthlyRollupService {
+
+  private final MonthlyRollupRepository monthlyRollupRepository;
+  private final TransactionRepository transactionRepository;
+  private final CategoryRepository categoryRepository;
+
+  public MonthlyRollupServiceImpl(MonthlyRollupRepository monthlyRollupRepository, TransactionRepository transactionRepository, CategoryRepository categoryRepository) {
+    this.monthlyRollupRepository = monthlyRollupRepository;
+    this.transactionRepository = transactionRepository;
+    this.categoryRepository = categoryRepository;
+  }
+
+  /**
+   * Adds a transaction to the rollup bucket it belongs to.
+   *
+   * @param transaction the transaction being created
+   */
+  @Override
+  @Transactional
+  public void record(Transaction transaction) {
+    apply(transaction, transaction.getAmount().cents(), 1);
+  }
+
+  /**
+   * Adds many transactions to their rollup buckets.
+   * Amounts and counts are summed per bucket first, in cents on a mutable accumulator,
+   * so each bucket is locked and written once. Buckets are locked in {@link Bucket} order,
+   * so concurrent batches over the same buckets wait for each other instead of deadlocking.
+   *
+   * @param transactions the transactions being created
+   */
+  @Override
+  @Transactional
+  public void recordAll(List<Transaction> transactions) {
+    Map<Bucket, BucketTotal> totals = new TreeMap<>();
+
+    for (Transaction transaction : transactions) {
+      BucketTotal total = totals.computeIfAbsent(bucketOf(transaction), bucket -> new BucketTotal(transaction));
+      total.cents = Math.addExact(total.cents, transaction.getAmount().cents());
+      total.count++;
+    }
+
+    totals.values().forEach(total -> apply(total.representative, total.cents, total.count));
+  }
+
+  /**
+   * Removes a transaction from the rollup bucket it belongs to.
+   *
+   * @param transaction the transaction being deleted
+   */
+  @Override
+  @Transactional
+  public void reverse(Transaction transaction) {
+    apply(transaction, Math.negateExact(transaction.getAmount().cents()), -1);
+  }
+
+  /**
+   * Moves a transaction's contribution from its previous state to its current state.
+   * When both states fall into the same bucket only the amount difference is applied;
+   * otherwise the two buckets are locked in {@link Bucket} order, as in {@link #recordAll(List)}.
+   *
+   * @param previous the transaction as it was before the update
+   * @param current the transaction as it is after the update
+   */
+  @Override
+  @Transactional
+  public void replace(Transaction previous, Transaction current) {
+    int order = bucketOf(previous).compareTo(bucketOf(current));
+    if (order < 0) {
+      reverse(previous);
+      record(current);
+      return;
+    }
+    if (order > 0) {
+      record(current);
+      reverse(previous);
+      return;
+    }
+
+    long difference = Math.subtractExact(current.getAmount().cents(), previous.getAmount().cents());
+    if (difference != 0) {
+      apply(current, difference, 0);
+    }
+  }
+
+  /**
+   * Discards a user's rollups and recomputes them from the transaction table.
+   *
+   * @param user the user whose rollups are rebuilt
+   * @return the number of rollup buckets written
+   */
+  @Override
+  @Transactional
+  public int rebuild(User user) {
+    monthlyRollupRepository.deleteByUser(user);
+
+    List<MonthlyRollup> rollups = transactionRepository.sumByCategoryMonthAndType(user.getId())
+            .stream()
+            .map(total -> MonthlyRollup.builder()
+                    .user(user)
+                    .category(categoryRepository.getReferenceById(total.categoryId()))
+                    .month(total.yearMonth())
+                    .type(total.type())
+                    .total(total.total())
+                    .count(total.count())
+                    .build())
+            .toList();
+
+    monthlyRollupRepository.saveAll(rollups);
+    return rollups.size();
+  }
+
+  /**
+   * Compares a user's stored rollups with totals recomputed from the transaction table.
+   * Buckets emptied by deletes are treated the same as missing buckets.
+   *
+   * @param user the user whose rollups are checked
+   * @return the number of buckets whose stored total or count is wrong, zero when consistent
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public int verify(User user) {
+    Map<Bucket, MonthlyRollup> stored = new HashMap<>();
+    for (MonthlyRollup rollup : monthlyRollupRepository.findByUser(user)) {
+      if (rollup.getCount() != 0 || rollup.getTotal().cents() != 0) {
+        stored.put(new Bucket(rollup.getCategory().getId(), rollup.getMonth(), rollup.getType()), rollup);
+      }
+    }
+
+    int mismatches = 0;
+    for (MonthlyTotal expected : transactionRepository.sumByCategoryMonthAndType(user.getId())) {
+      MonthlyRollup actual = stored.remove(new Bucket(expected.categoryId(), expected.yearMonth(), expected.type()));
+      if (actual == null
+          || actual.getCount() != expected.count()
+          || actual.getTotal().cents() != expected.totalCents()) {
+        mismatches++;
+      }
+    }
+
+    return mismatches + stored.size();
+  }
+
+  /**
+   * Adds an amount and count to the bucket of the given transaction with a single upsert,
+   * so the first writers of a new bucket cannot both try to insert it.
+   *
+   * @param transaction the transaction identifying the bucket
+   * @param cents the amount to add in cents, negative to subtract
+   * @param count the number of transactions to add, negative to subtract
+   */
+  private void apply(Transaction transaction, long cents, long count) {
+    monthlyRollupRepository.addToBucket(
+      transaction.getUser().getId(),
+      transaction.getCategory().getId(),
+      YearMonth.from(transaction.getDate()),
+      transaction.getType(),
+      cents,
+      count);
+  }
+
+  private Bucket bucketOf(Transaction transaction) {
+    return new Bucket(transaction.getCategory().getId(), YearMonth.from(transaction.getDate()), transaction.getType());
+  }
+
+  /** A user's rollup bucket, ordered by category, month and type: the order buckets are locked in. */
+  private record Bucket(Long categoryId, YearMonth month, TransactionType type) implements Comparable<Bucket> {
+
+    private static final Comparator<Bucket> ORDER = Comparator.comparing(Bucket::categoryId)
+            .thenComparing(Bucket::month)
+            .thenComparing(Bucket::type);
+
+    @Override
+    public int compareTo(Bucket other) {
+      return ORDER.compare(this, other);
+    }
+  }
+
+  /** Running total of one bucket while a batch is summed. */
+  private static final class BucketTotal {
+    private final Transaction representative;
+    private long cents;
+    private long count;
+
+    private BucketTotal(Transaction representative) {
+      this.representative = representative;
+    }
+  }
+}
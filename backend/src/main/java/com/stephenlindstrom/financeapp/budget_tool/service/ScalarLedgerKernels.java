@@ -0,0 +1,52 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+/**
+ * Ledger kernels as plain loops, one transaction at a time.
+ */
+final class ScalarLedgerKernels implements LedgerKernels {
+
+  static final ScalarLedgerKernels INSTANCE = new ScalarLedgerKernels();
+
+  private ScalarLedgerKernels() {
+  }
+
+  @Override
+  public LedgerAggregate aggregate(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits,
+                                   int size, int fromDay, int toDay, short category, boolean expense) {
+    long sum = 0;
+    long count = 0;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+
+    for (int i = 0; i < size; i++) {
+      if (categoryIndexes[i] == category && matches(epochDays, expenseBits, i, fromDay, toDay, expense)) {
+        long amount = amountCents[i];
+        sum += amount;
+        count++;
+        min = Math.min(min, amount);
+        max = Math.max(max, amount);
+      }
+    }
+    return LedgerAggregate.of(sum, count, min, max);
+  }
+
+  @Override
+  public void sumByCategory(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits,
+                            int size, int fromDay, int toDay, boolean expense, long[] totals, long[] counts) {
+    for (int i = 0; i < size; i++) {
+      if (matches(epochDays, expenseBits, i, fromDay, toDay, expense)) {
+        int category = Short.toUnsignedInt(categoryIndexes[i]);
+        totals[category] += amountCents[i];
+        counts[category]++;
+      }
+    }
+  }
+
+  /**
+   * Checks one transaction against the date range and type; shared with the tail of the vector loops.
+   */
+  static boolean matches(int[] epochDays, long[] expenseBits, int i, int fromDay, int toDay, boolean expense) {
+    int day = epochDays[i];
+    return day >= fromDay && day <= toDay && (((expenseBits[i >>> 6] >>> i) & 1L) != 0) == expense;
+  }
+}
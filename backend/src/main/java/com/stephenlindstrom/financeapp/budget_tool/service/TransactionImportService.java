@@ -0,0 +1,26 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.CsvColumnMapping;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionImportResultDTO;
+
+/**
+ * Service interface for importing transactions from CSV bank statements.
+ */
+public interface TransactionImportService {
+
+    /**
+     * Imports every valid row of a CSV bank statement as a transaction.
+     * Invalid rows are reported by line number and do not stop the import.
+     *
+     * @param input the CSV content, starting with a header row
+     * @param mapping how the CSV columns map onto transaction fields
+     * @return how many rows were imported and which lines were rejected
+     * @throws IOException if the input cannot be read
+     * @throws IllegalArgumentException if the file is empty, a required column is missing, or the mapping is invalid
+     */
+    TransactionImportResultDTO importCsv(InputStream input, CsvColumnMapping mapping) throws IOException;
+
+}
@@ -0,0 +1,308 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.CsvColumnMapping;
+import com.stephenlindstrom.financeapp.budget_tool.dto.ImportLineErrorDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionImportResultDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service implementation for importing transactions from CSV bank statements.
+ * The file is parsed as it is read and valid rows are written in fixed-size chunks,
+ * each in its own database transaction, so memory use does not grow with the file.
+ * Chunks already written stay imported if a later chunk fails.
+ */
+@Service
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+  /**
+   * Number of rows written per database transaction.
+   */
+  public static final int CHUNK_SIZE = 500;
+
+  /**
+   * Number of rejected lines listed in the result; further rejections are only counted.
+   */
+  public static final int MAX_REPORTED_ERRORS = 1_000;
+
+  /**
+   * Longest record, in characters, that is parsed; longer records are rejected.
+   */
+  public static final int MAX_RECORD_LENGTH = 8_192;
+
+  private final TransactionRepository transactionRepository;
+  private final CategoryRepository categoryRepository;
+  private final UserService userService;
+  private final MonthlyRollupService monthlyRollupService;
+  private final Validator validator;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final DataVersionService dataVersionService;
+  private final LedgerCache ledgerCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public TransactionImportServiceImpl(TransactionRepository transactionRepository, CategoryRepository categoryRepository, UserService userService, MonthlyRollupService monthlyRollupService, Validator validator, EntityManager entityManager, PlatformTransactionManager transactionManager, DataVersionService dataVersionService, LedgerCache ledgerCache, ApplicationEventPublisher eventPublisher) {
+    this.transactionRepository = transactionRepository;
+    this.categoryRepository = categoryRepository;
+    this.userService = userService;
+    this.monthlyRollupService = monthlyRollupService;
+    this.validator = validator;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.dataVersionService = dataVersionService;
+    this.ledgerCache = ledgerCache;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Imports every valid row of a CSV bank statement as a transaction.
+   * Categories are matched by name, ignoring case. Without a type column,
+   * negative amounts are imported as expenses and positive amounts as income.
+   *
+   * @param input the CSV content, starting with a header row
+   * @param mapping how the CSV columns map onto transaction fields
+   * @return how many rows were imported and which lines were rejected
+   * @throws IOException if the input cannot be read
+   * @throws IllegalArgumentException if the file is empty, a required column is missing, or the mapping is invalid
+   */
+  @Override
+  public TransactionImportResultDTO importCsv(InputStream input, CsvColumnMapping mapping) throws IOException {
+    User user = userService.getAuthenticatedUser();
+    DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern(mapping.getDateFormat());
+
+    Map<String, Category> categories = categoryRepository.findByUserIdOrderByName(user.getId())
+            .stream()
+            .collect(Collectors.toMap(category -> normalize(category.getName()), category -> category, (first, second) -> first));
+
+    long rowsRead = 0;
+    long imported = 0;
+    long failed = 0;
+    List<ImportLineErrorDTO> errors = new ArrayList<>();
+    List<Transaction> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    try (CsvReader reader = new CsvReader(bufferedReader, mapping.getDelimiter(), MAX_RECORD_LENGTH)) {
+      CsvReader.CsvRecord header = reader.next();
+      if (header == null) {
+        throw new IllegalArgumentException("CSV file is empty");
+      }
+      Columns columns = resolveColumns(header, mapping);
+
+      CsvReader.CsvRecord record;
+      while ((record = reader.next()) != null) {
+        rowsRead++;
+
+        try {
+          chunk.add(toTransaction(record, columns, dateFormat, categories, user));
+        } catch (IllegalArgumentException e) {
+          failed++;
+          if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportLineErrorDTO(record.line(), e.getMessage()));
+          }
+          continue;
+        }
+
+        if (chunk.size() == CHUNK_SIZE) {
+          imported += write(chunk, user.getId());
+        }
+      }
+    }
+
+    imported += write(chunk, user.getId());
+
+    return TransactionImportResultDTO.builder()
+            .rowsRead(rowsRead)
+            .imported(imported)
+            .failed(failed)
+            .errors(errors)
+            .errorsTruncated(failed > errors.size())
+            .build();
+  }
+
+  /**
+   * Inserts one chunk of transactions and their rollup deltas in a single database transaction,
+   * then detaches them so the persistence context does not grow across chunks.
+   * Each committed chunk is announced on the change feed as one bulk change.
+   *
+   * @param chunk the transactions to insert; cleared afterwards
+   * @param userId the owner of the transactions
+   * @return the number of transactions inserted
+   */
+  private int write(List<Transaction> chunk, Long userId) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+
+    int size = chunk.size();
+    transactionTemplate.executeWithoutResult(status -> {
+      transactionRepository.saveAll(chunk);
+      monthlyRollupService.recordAll(chunk);
+      ledgerCache.invalidate(userId);
+      dataVersionService.increment();
+      eventPublisher.publishEvent(DataChangedEvent.bulkCreated(userId, ResourceType.TRANSACTION, size));
+      entityManager.flush();
+      entityManager.clear();
+    });
+    chunk.clear();
+    return size;
+  }
+
+  /**
+   * Converts one CSV record into a transaction.
+   *
+   * @return the unsaved transaction
+   * @throws IllegalArgumentException describing the first problem with the record
+   */
+  private Transaction toTransaction(CsvReader.CsvRecord record, Columns columns, DateTimeFormatter dateFormat,
+                                    Map<String, Category> categories, User user) {
+    if (record.tooLong()) {
+      throw new IllegalArgumentException("Line is longer than " + MAX_RECORD_LENGTH + " characters");
+    }
+
+    List<String> fields = record.fields();
+    String dateValue = value(fields, columns.date(), "date");
+    String amountValue = value(fields, columns.amount(), "amount");
+    String categoryValue = value(fields, columns.category(), "category");
+
+    LocalDate date;
+    try {
+      date = LocalDate.parse(dateValue, dateFormat);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid date '" + dateValue + "'");
+    }
+
+    BigDecimal amount;
+    try {
+      amount = new BigDecimal(amountValue.replace(",", "").replace("$", ""));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid amount '" + amountValue + "'");
+    }
+
+    TransactionType type = columns.type() >= 0
+        ? parseType(value(fields, columns.type(), "type"))
+        : amount.signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME;
+
+    Category category = categories.get(normalize(categoryValue));
+    if (category == null) {
+      throw new IllegalArgumentException("Category not found: " + categoryValue);
+    }
+
+    String description = columns.description() >= 0 && columns.description() < fields.size()
+        ? fields.get(columns.description()).trim()
+        : null;
+
+    TransactionCreateDTO dto = TransactionCreateDTO.builder()
+                                .amount(amount.abs())
+                                .categoryId(category.getId())
+                                .type(type)
+                                .date(date)
+                                .description(description == null || description.isEmpty() ? null : description)
+                                .build();
+
+    Set<ConstraintViolation<TransactionCreateDTO>> violations = validator.validate(dto);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations.stream()
+              .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+              .sorted()
+              .collect(Collectors.joining(", ")));
+    }
+
+    return Transaction.builder()
+            .amount(Money.of(dto.getAmount()))
+            .category(category)
+            .type(dto.getType())
+            .date(dto.getDate())
+            .description(dto.getDescription())
+            .user(user)
+            .build();
+  }
+
+  /**
+   * Finds the position of each mapped column in the header row.
+   *
+   * @throws IllegalArgumentException if a required column is missing
+   */
+  private Columns resolveColumns(CsvReader.CsvRecord header, CsvColumnMapping mapping) {
+    Map<String, Integer> positions = new HashMap<>();
+    List<String> names = header.fields();
+    for (int i = 0; i < names.size(); i++) {
+      // Strip a UTF-8 byte order mark left on the first header
+      positions.putIfAbsent(normalize(names.get(i).replace("\uFEFF", "")), i);
+    }
+
+    return new Columns(
+      required(positions, mapping.getDateColumn()),
+      required(positions, mapping.getAmountColumn()),
+      required(positions, mapping.getCategoryColumn()),
+      optional(positions, mapping.getDescriptionColumn()),
+      mapping.getTypeColumn() == null || mapping.getTypeColumn().isBlank() ? -1 : required(positions, mapping.getTypeColumn())
+    );
+  }
+
+  private int required(Map<String, Integer> positions, String column) {
+    if (column == null || !positions.containsKey(normalize(column))) {
+      throw new IllegalArgumentException("CSV is missing column: " + column);
+    }
+    return positions.get(normalize(column));
+  }
+
+  private int optional(Map<String, Integer> positions, String column) {
+    return column == null ? -1 : positions.getOrDefault(normalize(column), -1);
+  }
+
+  private String value(List<String> fields, int index, String name) {
+    String value = index < fields.size() ? fields.get(index).trim() : "";
+    if (value.isEmpty()) {
+      throw new IllegalArgumentException("Missing " + name);
+    }
+    return value;
+  }
+
+  private TransactionType parseType(String value) {
+    return switch (normalize(value)) {
+      case "income", "credit" -> TransactionType.INCOME;
+      case "expense", "debit" -> TransactionType.EXPENSE;
+      default -> throw new IllegalArgumentException("Invalid type '" + value + "'");
+    };
+  }
+
+  private static String normalize(String value) {
+    return value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record Columns(int date, int amount, int category, int description, int type) {
+  }
+}
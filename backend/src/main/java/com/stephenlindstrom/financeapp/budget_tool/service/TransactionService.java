@@ -1,10 +1,13 @@
 package com.stephenlindstrom.financeapp.budget_tool.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionBatchResultDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionPageDTO;
 
 /**
  * Service interface for managing transactions.
@@ -20,6 +23,15 @@ public interface TransactionService {
      */
     TransactionDTO create(TransactionCreateDTO dto);
 
+    /**
+     * Creates many transactions at once.
+     * Invalid items are reported individually and do not stop the rest of the batch.
+     *
+     * @param dtos the data for the new transactions
+     * @return the outcome of every item, in request order
+     */
+    TransactionBatchResultDTO createAll(List<TransactionCreateDTO> dtos);
+
     /**
      * Retrieves all transactions, sorted in descending order by date.
      *
@@ -27,6 +39,23 @@ public interface TransactionService {
      */
     List<TransactionDTO> getAll();
 
+    /**
+     * Retrieves one page of transactions, sorted in descending order by date and ID.
+     *
+     * @param limit the maximum number of transactions to return
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @return the page of TransactionDTOs and the cursor for the next page
+     */
+    TransactionPageDTO getAll(int limit, String cursor);
+
+    /**
+     * Passes every transaction, newest first, to the consumer one at a time
+     * without loading the whole ledger into memory.
+     *
+     * @param consumer receives each TransactionDTO in order
+     */
+    void streamAll(Consumer<TransactionDTO> consumer);
+
     /**
      * Filters transactions based on criteria such as type, category, and date range.
      *
@@ -35,6 +64,16 @@ public interface TransactionService {
      */
     List<TransactionDTO> filter(TransactionFilter filter);
 
+    /**
+     * Retrieves one page of transactions matching the filter, sorted in descending order by date and ID.
+     *
+     * @param filter the filter parameters
+     * @param limit the maximum number of transactions to return
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @return the page of TransactionDTOs and the cursor for the next page
+     */
+    TransactionPageDTO filter(TransactionFilter filter, int limit, String cursor);
+
     /**
      * Updates an existing transaction by ID.
      *
@@ -1,21 +1,46 @@
 package com.stephenlindstrom.financeapp.budget_tool.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionBatchItemDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionBatchResultDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCursor;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionPageDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.BatchItemStatus;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
 import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
 import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionSpecifications;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service implementation for managing transactions.
@@ -24,28 +49,153 @@ import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionReposit
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
+  /**
+   * Largest page size a client may request.
+   */
+  public static final int MAX_PAGE_SIZE = 500;
+
+  /**
+   * Largest number of transactions accepted in one batch.
+   */
+  public static final int MAX_BATCH_SIZE = 5_000;
+
+  /**
+   * Number of batch inserts flushed and detached at a time; one JDBC batch
+   * ({@code hibernate.jdbc.batch_size}).
+   */
+  static final int FLUSH_SIZE = 50;
+
   private final TransactionRepository transactionRepository;
   private final CategoryRepository categoryRepository;
   private final UserService userService;
+  private final MonthlyRollupService monthlyRollupService;
+  private final Validator validator;
+  private final DataVersionService dataVersionService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CategoryCache categoryCache;
+  private final LedgerCache ledgerCache;
+  private final EntityManager entityManager;
 
-  public TransactionServiceImpl(TransactionRepository transactionRepository, CategoryRepository categoryRepository, UserService userService) {
+  public TransactionServiceImpl(TransactionRepository transactionRepository, CategoryRepository categoryRepository, UserService userService, MonthlyRollupService monthlyRollupService, Validator validator, DataVersionService dataVersionService, ApplicationEventPublisher eventPublisher, CategoryCache categoryCache, LedgerCache ledgerCache, EntityManager entityManager) {
     this.transactionRepository = transactionRepository;
     this.categoryRepository = categoryRepository;
     this.userService = userService;
+    this.monthlyRollupService = monthlyRollupService;
+    this.validator = validator;
+    this.dataVersionService = dataVersionService;
+    this.eventPublisher = eventPublisher;
+    this.categoryCache = categoryCache;
+    this.ledgerCache = ledgerCache;
+    this.entityManager = entityManager;
   }
 
   /**
-   * Creates a new transaction.
+   * Creates a new transaction and adds it to its monthly rollup.
    *
    * @param dto the data for the new transaction
    * @return the created TransactionDTO
    */
   @Override
+  @Transactional
   public TransactionDTO create(TransactionCreateDTO dto) {
     User user = userService.getAuthenticatedUser();
-    Transaction transaction = mapToEntity(dto, user);
+    CategoryRow category = findCategory(dto.getCategoryId(), user.getId());
+
+    Transaction transaction = mapToEntity(dto, categoryRepository.getReferenceById(category.id()), user);
     Transaction saved = transactionRepository.save(transaction);
-    return mapToDTO(saved);
+    monthlyRollupService.record(saved);
+    ledgerCache.upsert(user.getId(), List.of(saved));
+    dataVersionService.increment();
+
+    TransactionDTO created = mapToDTO(saved, category);
+    eventPublisher.publishEvent(DataChangedEvent.of(user.getId(), ResourceType.TRANSACTION, ChangeType.CREATED, created.getId(), created));
+    return created;
+  }
+
+  /**
+   * Creates many transactions in one database transaction.
+   * Every referenced category is resolved from the category cache, valid items are
+   * inserted in JDBC batches that are flushed and detached {@link #FLUSH_SIZE} at a time
+   * so the persistence context stays small, and the monthly rollups are updated once per bucket.
+   * Items that fail validation or reference an unknown category are reported
+   * individually and do not stop the rest of the batch. The change feed gets one
+   * bulk change for the whole batch rather than one change per item.
+   *
+   * @param dtos the data for the new transactions
+   * @return the outcome of every item, in request order
+   * @throws IllegalArgumentException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+   */
+  @Override
+  @Transactional
+  public TransactionBatchResultDTO createAll(List<TransactionCreateDTO> dtos) {
+    User user = userService.getAuthenticatedUser();
+
+    if (dtos == null || dtos.isEmpty() || dtos.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " transactions");
+    }
+
+    Set<Long> categoryIds = dtos.stream()
+            .filter(Objects::nonNull)
+            .map(TransactionCreateDTO::getCategoryId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+    Map<Long, CategoryRow> categories = categoryCache.findAll(user.getId(), categoryIds);
+
+    TransactionBatchItemDTO[] results = new TransactionBatchItemDTO[dtos.size()];
+    List<Integer> positions = new ArrayList<>();
+    List<Transaction> transactions = new ArrayList<>();
+
+    for (int i = 0; i < dtos.size(); i++) {
+      TransactionCreateDTO dto = dtos.get(i);
+      String error = validate(dto, categories);
+
+      if (error != null) {
+        results[i] = TransactionBatchItemDTO.builder()
+                      .index(i)
+                      .status(BatchItemStatus.FAILED)
+                      .error(error)
+                      .build();
+        continue;
+      }
+
+      positions.add(i);
+      transactions.add(mapToEntity(dto, categoryRepository.getReferenceById(dto.getCategoryId()), user));
+    }
+
+    List<Transaction> saved = new ArrayList<>(transactions.size());
+    for (int from = 0; from < transactions.size(); from += FLUSH_SIZE) {
+      saved.addAll(transactionRepository.saveAll(transactions.subList(from, Math.min(from + FLUSH_SIZE, transactions.size()))));
+      entityManager.flush();
+      entityManager.clear();
+    }
+
+    monthlyRollupService.recordAll(saved);
+    ledgerCache.upsert(user.getId(), saved);
+    if (!saved.isEmpty()) {
+      dataVersionService.increment();
+    }
+
+    for (int i = 0; i < saved.size(); i++) {
+      int index = positions.get(i);
+      Transaction transaction = saved.get(i);
+      TransactionDTO created = mapToDTO(transaction, categories.get(transaction.getCategory().getId()));
+      results[index] = TransactionBatchItemDTO.builder()
+                        .index(index)
+                        .status(BatchItemStatus.CREATED)
+                        .transaction(created)
+                        .build();
+    }
+
+    if (!saved.isEmpty()) {
+      eventPublisher.publishEvent(DataChangedEvent.bulkCreated(user.getId(), ResourceType.TRANSACTION, saved.size()));
+    }
+
+    return TransactionBatchResultDTO.builder()
+            .created(saved.size())
+            .failed(dtos.size() - saved.size())
+            .results(Arrays.asList(results))
+            .build();
   }
 
   /**
@@ -55,13 +205,43 @@ public class TransactionServiceImpl implements TransactionService {
    */
   @Override
   public List<TransactionDTO> getAll() {
-    User user = userService.getAuthenticatedUser();
-    return transactionRepository.findByUserOrderByDateDesc(user)
+    Long userId = userService.getAuthenticatedUserId();
+    return transactionRepository.findRowsByUserId(userId)
             .stream()
             .map(this::mapToDTO)
             .toList();
   }
 
+  /**
+   * Retrieves one page of transactions, sorted in descending order by date and ID.
+   *
+   * @param limit the maximum number of transactions to return
+   * @param cursor the cursor returned with the previous page, or null for the first page
+   * @return the page of TransactionDTOs and the cursor for the next page
+   * @throws IllegalArgumentException if the limit is out of range or the cursor is invalid
+   */
+  @Override
+  public TransactionPageDTO getAll(int limit, String cursor) {
+    return filter(new TransactionFilter(), limit, cursor);
+  }
+
+  /**
+   * Streams every transaction, newest first, to the consumer.
+   * Rows are read as projections rather than managed entities, so the
+   * persistence context stays empty no matter how many transactions are exported.
+   *
+   * @param consumer receives each TransactionDTO in order
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void streamAll(Consumer<TransactionDTO> consumer) {
+    Long userId = userService.getAuthenticatedUserId();
+
+    try (Stream<TransactionRow> rows = transactionRepository.streamByUserId(userId)) {
+      rows.map(this::mapToDTO).forEach(consumer);
+    }
+  }
+
   /**
    * Filters transactions based on type, category, and date range.
    *
@@ -70,40 +250,57 @@ public class TransactionServiceImpl implements TransactionService {
    */
   @Override
   public List<TransactionDTO> filter(TransactionFilter filter) {
-    User user = userService.getAuthenticatedUser();
-    List<Transaction> result = transactionRepository.findByUserOrderByDateDesc(user);
+    Long userId = userService.getAuthenticatedUserId();
 
-    if (filter.getType() != null) {
-      result = result.stream()
-              .filter(t -> t.getType() == filter.getType())
-              .toList();
-    }
+    return transactionRepository.findRows(TransactionSpecifications.matching(userId, filter), TransactionSpecifications.NEWEST_FIRST)
+            .stream()
+            .map(this::mapToDTO)
+            .toList();
+  }
+
+  /**
+   * Retrieves one page of filtered transactions using keyset pagination.
+   * Reads one row past the limit to learn whether another page follows.
+   *
+   * @param filter the filter criteria
+   * @param limit the maximum number of transactions to return
+   * @param cursor the cursor returned with the previous page, or null for the first page
+   * @return the page of TransactionDTOs and the cursor for the next page
+   * @throws IllegalArgumentException if the limit is out of range or the cursor is invalid
+   */
+  @Override
+  public TransactionPageDTO filter(TransactionFilter filter, int limit, String cursor) {
+    Long userId = userService.getAuthenticatedUserId();
 
-    if (filter.getCategoryId() != null) {
-      result = result.stream()
-              .filter(t -> t.getCategory() != null && t.getCategory().getId().equals(filter.getCategoryId()))
-              .toList();
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
     }
 
-    if (filter.getStartDate() != null) {
-      result = result.stream()
-              .filter(t -> !t.getDate().isBefore(filter.getStartDate()))
-              .toList();
+    Specification<Transaction> spec = TransactionSpecifications.matching(userId, filter);
+    if (cursor != null && !cursor.isBlank()) {
+      spec = spec.and(TransactionSpecifications.after(TransactionCursor.decode(cursor)));
     }
 
-    if (filter.getEndDate() != null) {
-      result = result.stream()
-              .filter(t -> !t.getDate().isAfter(filter.getEndDate()))
-              .toList();
+    List<TransactionRow> rows = transactionRepository.findRows(spec, TransactionSpecifications.NEWEST_FIRST, limit + 1);
+
+    boolean hasMore = rows.size() > limit;
+    List<TransactionRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+    String next = null;
+    if (hasMore) {
+      TransactionRow last = page.get(page.size() - 1);
+      next = new TransactionCursor(last.date(), last.id()).encode();
     }
 
-    return result.stream()
-            .map(this::mapToDTO)
-            .toList();
+    return TransactionPageDTO.builder()
+            .items(page.stream().map(this::mapToDTO).toList())
+            .next(next)
+            .build();
   }
 
   /**
    * Updates an existing transaction by ID.
+   * Moves its contribution between monthly rollups when the amount, category, type or month changes.
    *
    * @param id the ID of the transaction to update
    * @param dto the new transaction data
@@ -111,55 +308,77 @@ public class TransactionServiceImpl implements TransactionService {
    * @throws ResourceNotFoundException if the transaction or category is not found
    */
   @Override
+  @Transactional
   public TransactionDTO updateById(Long id, TransactionCreateDTO dto) {
     User user = userService.getAuthenticatedUser();
 
-    Transaction transaction = transactionRepository.findByIdAndUser(id, user)
+    Transaction transaction = transactionRepository.findByIdAndUserId(id, user.getId())
       .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
 
-    Category category = categoryRepository.findByIdAndUser(dto.getCategoryId(), user)
-      .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+    CategoryRow category = findCategory(dto.getCategoryId(), user.getId());
+
+    Transaction previous = Transaction.builder()
+                            .amount(transaction.getAmount())
+                            .category(transaction.getCategory())
+                            .type(transaction.getType())
+                            .date(transaction.getDate())
+                            .user(user)
+                            .build();
 
-    transaction.setAmount(dto.getAmount());
-    transaction.setCategory(category);
+    transaction.setAmount(Money.of(dto.getAmount()));
+    transaction.setCategory(categoryRepository.getReferenceById(category.id()));
     transaction.setType(dto.getType());
     transaction.setDate(dto.getDate());
     transaction.setDescription(dto.getDescription());
 
     Transaction updatedTransaction = transactionRepository.save(transaction);
-    return mapToDTO(updatedTransaction);
+    monthlyRollupService.replace(previous, updatedTransaction);
+    ledgerCache.upsert(user.getId(), List.of(updatedTransaction));
+    dataVersionService.increment();
+
+    TransactionDTO updated = mapToDTO(updatedTransaction, category);
+    eventPublisher.publishEvent(DataChangedEvent.of(user.getId(), ResourceType.TRANSACTION, ChangeType.UPDATED, id, updated));
+    return updated;
   }
 
   /**
-   * Deletes a transaction by its ID.
+   * Deletes a transaction by its ID and removes it from its monthly rollup.
+   * Does nothing if the transaction does not exist.
    *
    * @param id the ID of the transaction to delete
    */
   @Override
   @Transactional
   public void deleteById(Long id) {
-    User user = userService.getAuthenticatedUser();
-    transactionRepository.deleteByIdAndUser(id, user);
+    Long userId = userService.getAuthenticatedUserId();
+    transactionRepository.findByIdAndUserId(id, userId)
+      .ifPresent(transaction -> {
+        monthlyRollupService.reverse(transaction);
+        transactionRepository.delete(transaction);
+        ledgerCache.remove(userId, id);
+        dataVersionService.increment();
+        eventPublisher.publishEvent(DataChangedEvent.of(userId, ResourceType.TRANSACTION, ChangeType.DELETED, id, null));
+      });
   }
 
   /**
-   * Converts a Transaction entity to a TransactionDTO.
+   * Converts a Transaction entity to a TransactionDTO, taking the category's details
+   * from a row so an unloaded category reference is never initialized.
    *
    * @param transaction the Transaction entity
+   * @param category the transaction's category
    * @return the mapped TransactionDTO
    */
-  private TransactionDTO mapToDTO(Transaction transaction) {
-    Category category = transaction.getCategory();
-
+  private TransactionDTO mapToDTO(Transaction transaction, CategoryRow category) {
     CategoryDTO categoryDTO = CategoryDTO.builder()
-                              .id(category.getId())
-                              .name(category.getName())
-                              .type(category.getType())
+                              .id(category.id())
+                              .name(category.name())
+                              .type(category.type())
                               .build();
 
     return TransactionDTO.builder()
             .id(transaction.getId())
-            .amount(transaction.getAmount())
+            .amount(transaction.getAmount().toBigDecimal())
             .category(categoryDTO)
             .type(transaction.getType())
             .date(transaction.getDate())
@@ -168,19 +387,53 @@ public class TransactionServiceImpl implements TransactionService {
   }
 
   /**
-   * Converts a TransactionCreateDTO to a Transaction entity.
+   * Converts a read-only transaction row to a TransactionDTO.
+   *
+   * @param row the transaction row
+   * @return the mapped TransactionDTO
+   */
+  private TransactionDTO mapToDTO(TransactionRow row) {
+    CategoryDTO categoryDTO = CategoryDTO.builder()
+                              .id(row.categoryId())
+                              .name(row.categoryName())
+                              .type(row.categoryType())
+                              .build();
+
+    return TransactionDTO.builder()
+            .id(row.id())
+            .amount(row.amount().toBigDecimal())
+            .category(categoryDTO)
+            .type(row.type())
+            .date(row.date())
+            .description(row.description())
+            .build();
+  }
+
+  /**
+   * Finds one of the user's categories in the category cache.
+   *
+   * @param categoryId the category ID
+   * @param userId the owner of the category
+   * @return the category
+   * @throws ResourceNotFoundException if the category does not exist or belongs to another user
+   */
+  private CategoryRow findCategory(Long categoryId, Long userId) {
+    return categoryCache.find(userId, categoryId)
+      .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+  }
+
+  /**
+   * Converts a TransactionCreateDTO to a Transaction entity in an already resolved category.
    * Defaults to the current date if none is provided.
    *
    * @param dto the input data
+   * @param category the category the transaction belongs to
+   * @param user the owner of the transaction
    * @return the mapped Transaction entity
-   * @throws ResourceNotFoundException if the category is not found
    */
-  private Transaction mapToEntity(TransactionCreateDTO dto, User user) {
-    Category category = categoryRepository.findByIdAndUser(dto.getCategoryId(), user)
-      .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
-
+  private Transaction mapToEntity(TransactionCreateDTO dto, Category category, User user) {
     return Transaction.builder()
-            .amount(dto.getAmount())
+            .amount(Money.of(dto.getAmount()))
             .category(category)
             .type(dto.getType())
             .date(dto.getDate() != null ? dto.getDate() : LocalDate.now()) // fallback to today if null
@@ -188,4 +441,31 @@ public class TransactionServiceImpl implements TransactionService {
             .user(user)
             .build();
   }
+
+  /**
+   * Checks one batch item against the TransactionCreateDTO constraints and the user's categories.
+   *
+   * @param dto the batch item
+   * @param categories the user's categories referenced by the batch, keyed by ID
+   * @return a description of the first problem found, or null if the item is valid
+   */
+  private String validate(TransactionCreateDTO dto, Map<Long, CategoryRow> categories) {
+    if (dto == null) {
+      return "Transaction must not be null";
+    }
+
+    Set<ConstraintViolation<TransactionCreateDTO>> violations = validator.validate(dto);
+    if (!violations.isEmpty()) {
+      return violations.stream()
+              .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+              .sorted()
+              .collect(Collectors.joining(", "));
+    }
+
+    if (!categories.containsKey(dto.getCategoryId())) {
+      return "Category not found";
+    }
+
+    return null;
+  }
 }
@@ -1,6 +1,7 @@
 package com.stephenlindstrom.financeapp.budget_tool.service;
 
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 import com.stephenlindstrom.financeapp.budget_tool.dto.UserRegistrationDTO;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.UserRepository;
+import com.stephenlindstrom.financeapp.budget_tool.security.AuthenticatedUser;
 
 @Service
 public class UserService {
@@ -60,15 +62,29 @@ public class UserService {
   }
 
   /**
-   * Retrieves authenticated user or else throws UsernameNotFoundException.
+   * Retrieves the authenticated user as an uninitialized reference built from the
+   * id in the request's token, so scoping a query to the user does not read the users table.
+   * Accessing any field other than the id loads the user.
    * 
-   * @return authenticated User entity
-   * @throws UsernameNotFoundException if the authenticated user is not found
+   * @return reference to the authenticated User entity
+   * @throws UsernameNotFoundException if the request is not authenticated by a JWT
    */
   public User getAuthenticatedUser() {
-    String username = SecurityContextHolder.getContext().getAuthentication().getName();
-    return userRepository.findByUsername(username)
-            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    return userRepository.getReferenceById(getAuthenticatedUserId());
+  }
+
+  /**
+   * Retrieves the id of the authenticated user from the security context.
+   * 
+   * @return the authenticated user's id
+   * @throws UsernameNotFoundException if the request is not authenticated by a JWT
+   */
+  public Long getAuthenticatedUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+      throw new UsernameNotFoundException("User not found");
+    }
+    return principal.id();
   }
 
   /**
@@ -0,0 +1,114 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Ledger kernels on the incubating Vector API. Each step loads as many transactions as the
+ * CPU's preferred vector holds amounts, and builds the date, category and type filter as a
+ * lane mask: dates and category indexes are compared in int and short vectors of the same
+ * lane count, and the type mask is read straight from the expense bitset. Amounts are then
+ * summed, counted and compared under that mask. The group-by tallies only the set lanes.
+ * Transactions left over after the last full vector go through the scalar loop.
+ */
+final class VectorLedgerKernels implements LedgerKernels {
+
+  /** Narrower vectors gain little over the scalar loop. */
+  static final int MIN_LANES = 4;
+
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED.length() >= MIN_LANES
+      ? LongVector.SPECIES_PREFERRED
+      : LongVector.SPECIES_256;
+  private static final int LANES = LONGS.length();
+  private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LANES * Integer.SIZE));
+  private static final VectorSpecies<Short> SHORTS = VectorSpecies.of(short.class, VectorShape.forBitSize(LANES * Short.SIZE));
+  private static final long LANE_BITS = (1L << LANES) - 1;
+
+  /**
+   * @return whether the CPU's preferred vectors are wide enough for these kernels to pay off
+   */
+  static boolean isAccelerated() {
+    return LongVector.SPECIES_PREFERRED.length() >= MIN_LANES;
+  }
+
+  @Override
+  public LedgerAggregate aggregate(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits,
+                                   int size, int fromDay, int toDay, short category, boolean expense) {
+    LongVector sums = LongVector.zero(LONGS);
+    LongVector mins = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+    LongVector maxs = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+    long count = 0;
+
+    int bound = LONGS.loopBound(size);
+    int i = 0;
+    for (; i < bound; i += LANES) {
+      VectorMask<Long> mask = dateAndType(epochDays, expenseBits, i, fromDay, toDay, expense)
+          .and(ShortVector.fromArray(SHORTS, categoryIndexes, i).compare(VectorOperators.EQ, category).cast(LONGS));
+      LongVector amounts = LongVector.fromArray(LONGS, amountCents, i);
+      sums = sums.add(amounts, mask);
+      mins = mins.lanewise(VectorOperators.MIN, amounts, mask);
+      maxs = maxs.lanewise(VectorOperators.MAX, amounts, mask);
+      count += mask.trueCount();
+    }
+
+    long sum = sums.reduceLanes(VectorOperators.ADD);
+    long min = mins.reduceLanes(VectorOperators.MIN);
+    long max = maxs.reduceLanes(VectorOperators.MAX);
+    for (; i < size; i++) {
+      if (categoryIndexes[i] == category && ScalarLedgerKernels.matches(epochDays, expenseBits, i, fromDay, toDay, expense)) {
+        long amount = amountCents[i];
+        sum += amount;
+        count++;
+        min = Math.min(min, amount);
+        max = Math.max(max, amount);
+      }
+    }
+    return LedgerAggregate.of(sum, count, min, max);
+  }
+
+  @Override
+  public void sumByCategory(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits,
+                            int size, int fromDay, int toDay, boolean expense, long[] totals, long[] counts) {
+    int bound = LONGS.loopBound(size);
+    int i = 0;
+    for (; i < bound; i += LANES) {
+      long lanes = dateAndType(epochDays, expenseBits, i, fromDay, toDay, expense).toLong();
+      while (lanes != 0) {
+        int j = i + Long.numberOfTrailingZeros(lanes);
+        int category = Short.toUnsignedInt(categoryIndexes[j]);
+        totals[category] += amountCents[j];
+        counts[category]++;
+        lanes &= lanes - 1;
+      }
+    }
+
+    for (; i < size; i++) {
+      if (ScalarLedgerKernels.matches(epochDays, expenseBits, i, fromDay, toDay, expense)) {
+        int category = Short.toUnsignedInt(categoryIndexes[i]);
+        totals[category] += amountCents[i];
+        counts[category]++;
+      }
+    }
+  }
+
+  /**
+   * Masks the lanes starting at {@code i} whose date is in range and whose type matches.
+   * {@code i} is a multiple of the lane count, which divides 64, so the lanes' type bits
+   * all sit in one word of the bitset.
+   */
+  private static VectorMask<Long> dateAndType(int[] epochDays, long[] expenseBits, int i,
+                                              int fromDay, int toDay, boolean expense) {
+    IntVector days = IntVector.fromArray(INTS, epochDays, i);
+    VectorMask<Long> inRange = days.compare(VectorOperators.GE, fromDay)
+        .and(days.compare(VectorOperators.LE, toDay))
+        .cast(LONGS);
+
+    long bits = expenseBits[i >>> 6] >>> (i & 63);
+    return inRange.and(VectorMask.fromLong(LONGS, (expense ? bits : ~bits) & LANE_BITS));
+  }
+}
@@ -12,30 +12,30 @@ INSERT INTO category (id, name, type) VALUES
   (10, 'Gifts', 'EXPENSE');
 
 -- Insert budgets
-INSERT INTO budget (id, budget_value, budget_month, category_id) VALUES
-  (1, 500.00, '2025-05', 1),
-  (2, 1500.00, '2025-03', 2),
-  (3, 3000.00, '2025-01', 3),
-  (4, 200.00, '2024-12', 4),
-  (5, 250.00, '2025-04', 5),
-  (6, 1000.00, '2024-11', 6),
-  (7, 150.00, '2025-06', 7),
-  (8, 500.00, '2025-02', 8),
-  (9, 800.00, '2024-10', 9),
-  (10, 100.00, '2024-09', 10);
+INSERT INTO budget (id, budget_value_cents, budget_month, category_id) VALUES
+  (1, 50000, 202505, 1),
+  (2, 150000, 202503, 2),
+  (3, 300000, 202501, 3),
+  (4, 20000, 202412, 4),
+  (5, 25000, 202504, 5),
+  (6, 100000, 202411, 6),
+  (7, 15000, 202506, 7),
+  (8, 50000, 202502, 8),
+  (9, 80000, 202410, 9),
+  (10, 10000, 202409, 10);
 
 -- Insert transactions
-INSERT INTO transaction (id, amount, transaction_date, description, type, category_id) VALUES
-  (1, 75.00, '2025-05-15', 'Walmart', 'EXPENSE', 1),
-  (2, 100.00, '2025-03-10', 'Target', 'EXPENSE', 1),
-  (3, 3000.00, '2025-01-31', 'Paycheck', 'INCOME', 3),
-  (4, 60.00, '2024-12-05', 'Chipotle', 'EXPENSE', 4),
-  (5, 120.00, '2025-04-25', 'Electric Bill', 'EXPENSE', 5),
-  (6, 750.00, '2024-11-19', 'Freelance Project', 'INCOME', 6),
-  (7, 45.00, '2025-06-10', 'Movie Night', 'EXPENSE', 7),
-  (8, 200.00, '2025-02-08', 'Dividends', 'INCOME', 8),
-  (9, 500.00, '2024-10-20', 'Flight to Chicago', 'EXPENSE', 9),
-  (10, 80.00, '2024-09-14', 'Birthday Gift', 'EXPENSE', 10);
+INSERT INTO transaction (id, amount_cents, transaction_date, description, type, category_id) VALUES
+  (1, 7500, '2025-05-15', 'Walmart', 'EXPENSE', 1),
+  (2, 10000, '2025-03-10', 'Target', 'EXPENSE', 1),
+  (3, 300000, '2025-01-31', 'Paycheck', 'INCOME', 3),
+  (4, 6000, '2024-12-05', 'Chipotle', 'EXPENSE', 4),
+  (5, 12000, '2025-04-25', 'Electric Bill', 'EXPENSE', 5),
+  (6, 75000, '2024-11-19', 'Freelance Project', 'INCOME', 6),
+  (7, 4500, '2025-06-10', 'Movie Night', 'EXPENSE', 7),
+  (8, 20000, '2025-02-08', 'Dividends', 'INCOME', 8),
+  (9, 50000, '2024-10-20', 'Flight to Chicago', 'EXPENSE', 9),
+  (10, 8000, '2024-09-14', 'Birthday Gift', 'EXPENSE', 10);
 
 
 
@@ -0,0 +1,75 @@
+-- Schema as Hibernate generated it from the entities before migrations took over.
+-- Databases created by ddl-auto=update before then are baselined at version 0
+-- (see application-prod.properties) and run this script too: they already have
+-- users, category, budget and transaction, so every statement only adds what is
+-- missing. V7 fills the monthly rollups from their existing transactions.
+
+CREATE TABLE IF NOT EXISTS users (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+  username VARCHAR(255) NOT NULL,
+  password VARCHAR(255) NOT NULL,
+  data_version BIGINT DEFAULT 0 NOT NULL,
+  CONSTRAINT pk_users PRIMARY KEY (id),
+  CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS data_version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS category (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+  name VARCHAR(255),
+  type VARCHAR(255) CHECK (type IN ('EXPENSE', 'INCOME')),
+  user_id BIGINT,
+  CONSTRAINT pk_category PRIMARY KEY (id),
+  CONSTRAINT fk_category_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS budget (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+  budget_value NUMERIC(38, 2),
+  budget_month VARCHAR(255),
+  category_id BIGINT,
+  user_id BIGINT,
+  CONSTRAINT pk_budget PRIMARY KEY (id),
+  CONSTRAINT fk_budget_category FOREIGN KEY (category_id) REFERENCES category (id),
+  CONSTRAINT fk_budget_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS transaction_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS transaction (
+  id BIGINT NOT NULL,
+  amount NUMERIC(38, 2),
+  type VARCHAR(255) CHECK (type IN ('EXPENSE', 'INCOME')),
+  transaction_date DATE,
+  description VARCHAR(255),
+  category_id BIGINT,
+  user_id BIGINT,
+  CONSTRAINT pk_transaction PRIMARY KEY (id),
+  CONSTRAINT fk_transaction_category FOREIGN KEY (category_id) REFERENCES category (id),
+  CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS monthly_rollup (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+  rollup_month VARCHAR(255) NOT NULL,
+  type VARCHAR(255) NOT NULL CHECK (type IN ('EXPENSE', 'INCOME')),
+  total_amount NUMERIC(38, 2) NOT NULL,
+  transaction_count BIGINT NOT NULL,
+  category_id BIGINT NOT NULL,
+  user_id BIGINT NOT NULL,
+  CONSTRAINT pk_monthly_rollup PRIMARY KEY (id),
+  CONSTRAINT uk_monthly_rollup_bucket UNIQUE (user_id, category_id, rollup_month, type),
+  CONSTRAINT fk_monthly_rollup_category FOREIGN KEY (category_id) REFERENCES category (id),
+  CONSTRAINT fk_monthly_rollup_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Per-category spending sums; includes the amount so the sum never reads the table
+CREATE INDEX IF NOT EXISTS idx_transaction_user_category_type_date
+  ON transaction (user_id, category_id, type, transaction_date, amount);
+
+-- A user's budgets for one month, and the duplicate check on category and month
+CREATE INDEX IF NOT EXISTS idx_budget_user_month_category ON budget (user_id, budget_month, category_id);
+
+-- A user's categories sorted by name
+CREATE INDEX IF NOT EXISTS idx_category_user_name ON category (user_id, name);
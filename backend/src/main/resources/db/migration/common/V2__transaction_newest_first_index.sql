@@ -0,0 +1,7 @@
+-- Newest-first listing, cursor paging and date-range filters for one user.
+-- Replaces the ascending index Hibernate created from the entity: the key order now
+-- matches ORDER BY transaction_date DESC, id DESC, so pages are read in index order.
+DROP INDEX IF EXISTS idx_transaction_user_date;
+
+CREATE INDEX idx_transaction_user_date_desc
+  ON transaction (user_id, transaction_date DESC, id DESC);
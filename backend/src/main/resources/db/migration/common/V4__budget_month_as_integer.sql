@@ -0,0 +1,17 @@
+-- Budget months move from 'yyyy-MM' text to the integer yyyymm (see YearMonthIntConverter),
+-- so month-range filters are numeric range scans on idx_budget_user_month_category.
+ALTER TABLE budget ADD COLUMN budget_month_key INTEGER;
+
+UPDATE budget
+SET budget_month_key = CAST(SUBSTRING(budget_month, 1, 4) AS INTEGER) * 100
+                     + CAST(SUBSTRING(budget_month, 6, 2) AS INTEGER)
+WHERE budget_month IS NOT NULL;
+
+DROP INDEX IF EXISTS idx_budget_user_month_category;
+
+ALTER TABLE budget DROP COLUMN budget_month;
+
+ALTER TABLE budget RENAME COLUMN budget_month_key TO budget_month;
+
+-- A user's budgets for one month or a range of months, and the duplicate check on category and month
+CREATE INDEX idx_budget_user_month_category ON budget (user_id, budget_month, category_id);
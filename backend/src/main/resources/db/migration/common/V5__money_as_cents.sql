@@ -0,0 +1,20 @@
+-- Amounts move from NUMERIC to whole cents in BIGINT columns (see Money and MoneyConverter).
+-- Existing values already have two decimal places, so the conversion is exact.
+DROP INDEX IF EXISTS idx_transaction_user_category_type_date;
+
+ALTER TABLE transaction ADD COLUMN amount_cents BIGINT;
+UPDATE transaction SET amount_cents = CAST(amount * 100 AS BIGINT) WHERE amount IS NOT NULL;
+ALTER TABLE transaction DROP COLUMN amount;
+
+ALTER TABLE budget ADD COLUMN budget_value_cents BIGINT;
+UPDATE budget SET budget_value_cents = CAST(budget_value * 100 AS BIGINT) WHERE budget_value IS NOT NULL;
+ALTER TABLE budget DROP COLUMN budget_value;
+
+ALTER TABLE monthly_rollup ADD COLUMN total_amount_cents BIGINT DEFAULT 0 NOT NULL;
+UPDATE monthly_rollup SET total_amount_cents = CAST(total_amount * 100 AS BIGINT);
+ALTER TABLE monthly_rollup ALTER COLUMN total_amount_cents DROP DEFAULT;
+ALTER TABLE monthly_rollup DROP COLUMN total_amount;
+
+-- Per-category spending sums; includes the amount so the sum never reads the table
+CREATE INDEX idx_transaction_user_category_type_date
+  ON transaction (user_id, category_id, type, transaction_date, amount_cents);
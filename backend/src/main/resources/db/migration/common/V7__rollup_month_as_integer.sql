@@ -0,0 +1,31 @@
+-- Rollup months move from 'yyyy-MM' text to the integer yyyymm, as budget months did in V4,
+-- so a budget summary joins each budget to its rollup bucket on the same month value.
+ALTER TABLE monthly_rollup ADD COLUMN rollup_month_key INTEGER;
+
+UPDATE monthly_rollup
+SET rollup_month_key = CAST(SUBSTRING(rollup_month, 1, 4) AS INTEGER) * 100
+                     + CAST(SUBSTRING(rollup_month, 6, 2) AS INTEGER);
+
+ALTER TABLE monthly_rollup DROP CONSTRAINT IF EXISTS uk_monthly_rollup_bucket;
+
+ALTER TABLE monthly_rollup DROP COLUMN rollup_month;
+
+ALTER TABLE monthly_rollup RENAME COLUMN rollup_month_key TO rollup_month;
+
+ALTER TABLE monthly_rollup ALTER COLUMN rollup_month SET NOT NULL;
+
+ALTER TABLE monthly_rollup ADD CONSTRAINT uk_monthly_rollup_bucket UNIQUE (user_id, category_id, rollup_month, type);
+
+-- Only finds transactions on a database that predates the migrations
+INSERT INTO monthly_rollup (rollup_month, type, total_amount_cents, transaction_count, category_id, user_id)
+SELECT CAST(EXTRACT(YEAR FROM t.transaction_date) * 100 + EXTRACT(MONTH FROM t.transaction_date) AS INTEGER),
+       t.type, SUM(t.amount_cents), COUNT(*), t.category_id, t.user_id
+FROM transaction t
+WHERE t.category_id IS NOT NULL
+  AND t.user_id IS NOT NULL
+  AND t.type IS NOT NULL
+  AND t.transaction_date IS NOT NULL
+  AND t.amount_cents IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM monthly_rollup)
+GROUP BY CAST(EXTRACT(YEAR FROM t.transaction_date) * 100 + EXTRACT(MONTH FROM t.transaction_date) AS INTEGER),
+         t.type, t.category_id, t.user_id;
@@ -0,0 +1,3 @@
+-- H2 has no expression indexes. The case-insensitive duplicate-name check narrows to
+-- the user's categories through idx_category_user_name and filters lower(name) there;
+-- PostgreSQL gets the (user_id, lower(name)) index from its own V3.
@@ -0,0 +1,3 @@
+-- Transaction IDs come from transaction_seq (allocation size 50) instead of an identity
+-- column. Move the sequence past the IDs already used, so new inserts cannot collide with them.
+ALTER SEQUENCE transaction_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM transaction);
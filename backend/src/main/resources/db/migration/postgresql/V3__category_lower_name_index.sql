@@ -0,0 +1,3 @@
+-- Case-insensitive duplicate-name check: CategoryRepository compares lower(name),
+-- so the lookup is a single index probe instead of a scan of the user's categories.
+CREATE INDEX idx_category_user_lower_name ON category (user_id, lower(name));
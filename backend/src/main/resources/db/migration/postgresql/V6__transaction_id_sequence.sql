@@ -0,0 +1,6 @@
+-- Transaction IDs come from transaction_seq (allocation size 50) instead of an identity
+-- column. On a database created before the switch, drop the identity default and move
+-- the sequence past the IDs already used, so new inserts cannot collide with them.
+ALTER TABLE transaction ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('transaction_seq', (SELECT COALESCE(MAX(id), 0) FROM transaction) + 50);
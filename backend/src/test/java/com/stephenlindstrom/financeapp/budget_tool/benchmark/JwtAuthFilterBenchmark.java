@@ -0,0 +1,118 @@
+package com.stephenlindstrom.financeapp.budget_tool.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.stephenlindstrom.financeapp.budget_tool.security.JwtAuthFilter;
+import com.stephenlindstrom.financeapp.budget_tool.security.JwtAuthenticationEntryPoint;
+import com.stephenlindstrom.financeapp.budget_tool.security.VerifiedTokenCache;
+import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Measures authenticated-request throughput of the JWT filter.
+ * {@code filter} runs the real JwtAuthFilter, which serves repeat tokens from the verified-token cache.
+ * {@code singleVerification} verifies the token once with the cached key and parser, as on a cache miss.
+ * {@code legacyTripleVerification} replays the previous flow: the key is rebuilt and the
+ * token re-verified for the username, again for validity, and again for expiry.
+ * The filter builds the principal from the token; the legacy user lookup is stubbed
+ * so only token handling is measured.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.stephenlindstrom.financeapp.budget_tool.benchmark.JwtAuthFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+  private static final String SECRET = Base64.getEncoder().encodeToString("benchmark-secret-key-0123456789-abcdefghij".getBytes());
+
+  private JwtService jwtService;
+  private JwtAuthFilter filter;
+  private UserDetailsService userDetailsService;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtService = new JwtService(SECRET);
+    UserDetails user = new User("benchmarkUser", "password", List.of());
+    userDetailsService = username -> user;
+    VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, 10_000, Duration.ofMinutes(15), new SimpleMeterRegistry());
+    filter = new JwtAuthFilter(cache, new JwtAuthenticationEntryPoint());
+    token = jwtService.generateToken(1L, "benchmarkUser");
+  }
+
+  @Benchmark
+  public Object filter() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions");
+    request.addHeader("Authorization", "Bearer " + token);
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    SecurityContextHolder.clearContext();
+    return principal;
+  }
+
+  @Benchmark
+  public Object singleVerification() {
+    return jwtService.validateAndParse(token).getSubject();
+  }
+
+  @Benchmark
+  public Object legacyTripleVerification() {
+    String username = legacyParse().getSubject();
+    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    boolean valid = userDetails.getUsername().equals(legacyParse().getSubject())
+                    && !legacyParse().getExpiration().before(new Date());
+    return valid ? userDetails : null;
+  }
+
+  private io.jsonwebtoken.Claims legacyParse() {
+    return Jwts.parserBuilder()
+          .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+          .build()
+          .parseClaimsJws(token)
+          .getBody();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+          .include(JwtAuthFilterBenchmark.class.getSimpleName())
+          .build())
+        .run();
+  }
+}
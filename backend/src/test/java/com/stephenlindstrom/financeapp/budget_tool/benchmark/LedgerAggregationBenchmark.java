@@ -0,0 +1,152 @@
+package com.stephenlindstrom.financeapp.budget_tool.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
+import com.stephenlindstrom.financeapp.budget_tool.service.ColumnarLedger;
+import com.stephenlindstrom.financeapp.budget_tool.service.LedgerAggregate;
+import com.stephenlindstrom.financeapp.budget_tool.service.LedgerKernels;
+
+/**
+ * Measures a budget's spent amount (one category's expenses in one month) and a month's
+ * totals per category over ledgers of 1k, 100k and 10M transactions spread over two years.
+ * {@code bigDecimalReduce} filters the columns and reduces the matching BigDecimal amounts, as
+ * amounts were summed before they became cents; {@code scalarStream} does the same over the
+ * cents with an IntStream. {@code scalarKernel} and {@code vectorKernel} run the ledger's
+ * scalar and Vector API kernels, for the single sum and for the group-by.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.stephenlindstrom.financeapp.budget_tool.benchmark.LedgerAggregationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx4g"})
+public class LedgerAggregationBenchmark {
+
+  private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+  private static final int DAYS = 730;
+  private static final int CATEGORIES = 20;
+  private static final LocalDate START_DATE = LocalDate.of(2025, 5, 1);
+  private static final LocalDate END_DATE = LocalDate.of(2025, 5, 31);
+  private static final int FROM_DAY = (int) START_DATE.toEpochDay();
+  private static final int TO_DAY = (int) END_DATE.toEpochDay();
+  private static final long CATEGORY_ID = 7L;
+
+  @Param({"1000", "100000", "10000000"})
+  public int rows;
+
+  private int[] epochDays;
+  private long[] amountCents;
+  private long[] categoryIds;
+  private boolean[] expense;
+  private BigDecimal[] amounts;
+
+  private ColumnarLedger scalarLedger;
+  private ColumnarLedger vectorLedger;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    epochDays = new int[rows];
+    amountCents = new long[rows];
+    categoryIds = new long[rows];
+    expense = new boolean[rows];
+    amounts = new BigDecimal[rows];
+    for (int i = 0; i < rows; i++) {
+      epochDays[i] = (int) FIRST_DAY.toEpochDay() + random.nextInt(DAYS);
+      amountCents[i] = 100 + random.nextInt(50_000);
+      categoryIds[i] = 1 + random.nextInt(CATEGORIES);
+      expense[i] = random.nextInt(4) != 0;
+      amounts[i] = BigDecimal.valueOf(amountCents[i], 2);
+    }
+
+    List<LedgerRow> ledgerRows = new AbstractList<>() {
+      @Override
+      public LedgerRow get(int i) {
+        return new LedgerRow((long) i, LocalDate.ofEpochDay(epochDays[i]), Money.ofCents(amountCents[i]), categoryIds[i],
+                             expense[i] ? TransactionType.EXPENSE : TransactionType.INCOME);
+      }
+
+      @Override
+      public int size() {
+        return rows;
+      }
+    };
+    scalarLedger = ColumnarLedger.of(ledgerRows, LedgerKernels.scalar());
+    vectorLedger = ColumnarLedger.of(ledgerRows, LedgerKernels.vector());
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalReduce() {
+    return IntStream.range(0, rows)
+            .filter(this::matches)
+            .mapToObj(i -> amounts[i])
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+
+  @Benchmark
+  public long scalarStream() {
+    return IntStream.range(0, rows)
+            .filter(this::matches)
+            .mapToLong(i -> amountCents[i])
+            .sum();
+  }
+
+  @Benchmark
+  public LedgerAggregate scalarKernel() {
+    return scalarLedger.aggregate(CATEGORY_ID, TransactionType.EXPENSE, START_DATE, END_DATE);
+  }
+
+  @Benchmark
+  public LedgerAggregate vectorKernel() {
+    return vectorLedger.aggregate(CATEGORY_ID, TransactionType.EXPENSE, START_DATE, END_DATE);
+  }
+
+  @Benchmark
+  public Map<Long, Long> scalarKernelByCategory() {
+    return scalarLedger.sumCentsByCategory(TransactionType.EXPENSE, START_DATE, END_DATE);
+  }
+
+  @Benchmark
+  public Map<Long, Long> vectorKernelByCategory() {
+    return vectorLedger.sumCentsByCategory(TransactionType.EXPENSE, START_DATE, END_DATE);
+  }
+
+  private boolean matches(int i) {
+    return categoryIds[i] == CATEGORY_ID && expense[i] && epochDays[i] >= FROM_DAY && epochDays[i] <= TO_DAY;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+          .include(LedgerAggregationBenchmark.class.getSimpleName())
+          .build())
+        .run();
+  }
+}
@@ -0,0 +1,45 @@
+package com.stephenlindstrom.financeapp.budget_tool.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+public class YearMonthIntConverterTest {
+
+  private final YearMonthIntConverter converter = new YearMonthIntConverter();
+
+  @Test
+  void testConvertToDatabaseColumn_WithMonth_ReturnsYyyymm() {
+    // Act and Assert
+    assertEquals(202503, converter.convertToDatabaseColumn(YearMonth.of(2025, 3)));
+    assertEquals(202412, converter.convertToDatabaseColumn(YearMonth.of(2024, 12)));
+  }
+
+  @Test
+  void testConvertToEntityAttribute_WithYyyymm_ReturnsMonth() {
+    // Act and Assert
+    assertEquals(YearMonth.of(2025, 3), converter.convertToEntityAttribute(202503));
+    assertEquals(YearMonth.of(2024, 12), converter.convertToEntityAttribute(202412));
+  }
+
+  @Test
+  void testConvertToDatabaseColumn_AcrossYearBoundary_PreservesOrder() {
+    // Act
+    int december = converter.convertToDatabaseColumn(YearMonth.of(2024, 12));
+    int january = converter.convertToDatabaseColumn(YearMonth.of(2025, 1));
+
+    // Assert
+    assertTrue(december < january);
+  }
+
+  @Test
+  void testConvert_WithNull_ReturnsNull() {
+    // Act and Assert
+    assertNull(converter.convertToDatabaseColumn(null));
+    assertNull(converter.convertToEntityAttribute(null));
+  }
+}
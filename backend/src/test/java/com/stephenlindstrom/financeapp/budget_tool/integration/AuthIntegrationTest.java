@@ -5,16 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -29,6 +32,9 @@ public class AuthIntegrationTest extends AbstractIntegrationTest {
   @Autowired
   private JwtService jwtService;
 
+  @Value("${jwt.secret}")
+  private String jwtSecret;
+
   @Test
   void shouldRegisterUserSuccessfully() throws Exception {
     String username = "newuser_" + UUID.randomUUID();
@@ -111,6 +117,7 @@ public class AuthIntegrationTest extends AbstractIntegrationTest {
 
     String extractedUsername = jwtService.extractUsername(token);
     assertEquals(testUsername, extractedUsername);
+    assertEquals(testUser.getId(), jwtService.extractUserId(token));
   }
 
   @Test
@@ -177,6 +184,41 @@ public class AuthIntegrationTest extends AbstractIntegrationTest {
             .andExpect(status().isUnauthorized());
   }
 
+  @Test
+  void shouldReturn401WhenAccessingProtectedEndpointWithTokenWithoutUserId() throws Exception {
+    Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret));
+    String legacyToken = Jwts.builder()
+            .setSubject(testUsername)
+            .setIssuedAt(new Date())
+            .setExpiration(new Date(System.currentTimeMillis() + 60 * 1000))
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact();
+
+    mockMvc.perform(get("/api/transactions")
+            .header("Authorization", "Bearer " + legacyToken))
+            .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldReturn429WhenLoginAttemptsForOneUsernameExceedTheLimit() throws Exception {
+    String payload = buildUserJson(testUsername, "wrongPassword");
+
+    // The successful login during setup does not count against the limit
+    for (int i = 0; i < 5; i++) {
+      mockMvc.perform(post("/api/auth/login")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(payload))
+              .andExpect(status().isUnauthorized());
+    }
+
+    mockMvc.perform(post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(buildUserJson(testUsername, testPassword)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.message").value("Too many login attempts for this user"));
+  }
+
   private String buildUserJson(String username, String password) {
     return String.format("""
         {
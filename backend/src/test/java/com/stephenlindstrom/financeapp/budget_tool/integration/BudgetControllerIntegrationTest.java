@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -21,9 +22,14 @@ import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.model.Budget;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.BudgetRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.MonthlyRollupRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.service.MonthlyRollupService;
 
 public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
 
@@ -33,8 +39,19 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
   @Autowired
   private CategoryRepository categoryRepository;
 
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private MonthlyRollupRepository monthlyRollupRepository;
+
+  @Autowired
+  private MonthlyRollupService monthlyRollupService;
+
   @BeforeEach
   void setUp() {
+    monthlyRollupRepository.deleteAll();
+    transactionRepository.deleteAll();
     budgetRepository.deleteAll();
     categoryRepository.deleteAll();
   }
@@ -90,14 +107,14 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget1 = Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 6))
                       .category(category)
                       .user(testUser)
                       .build();
     
     Budget budget2 = Budget.builder()
-                      .value(BigDecimal.valueOf(400.00))
+                      .value(Money.of(BigDecimal.valueOf(400.00)))
                       .month(YearMonth.of(2025, 5))
                       .category(category)
                       .user(testUser)
@@ -140,21 +157,21 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget1 = Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 6))
                       .category(category1)
                       .user(testUser)
                       .build();
     
     Budget budget2 = Budget.builder()
-                      .value(BigDecimal.valueOf(400.00))
+                      .value(Money.of(BigDecimal.valueOf(400.00)))
                       .month(YearMonth.of(2025, 5))
                       .category(category1)
                       .user(testUser)
                       .build();
 
     Budget budget3 = Budget.builder()
-                      .value(BigDecimal.valueOf(600.00))
+                      .value(Money.of(BigDecimal.valueOf(600.00)))
                       .month(YearMonth.of(2025, 7))
                       .category(category2)
                       .user(anotherUser)
@@ -181,7 +198,7 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget = budgetRepository.save(Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 6))
                       .category(category)
                       .user(testUser)
@@ -218,7 +235,7 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget = budgetRepository.save(Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 6))
                       .category(category)
                       .user(anotherUser)
@@ -240,14 +257,14 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget1 = Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 6))
                       .category(category)
                       .user(testUser)
                       .build();
     
     Budget budget2 = Budget.builder()
-                      .value(BigDecimal.valueOf(400.00))
+                      .value(Money.of(BigDecimal.valueOf(400.00)))
                       .month(YearMonth.of(2025, 5))
                       .category(category)
                       .user(testUser)
@@ -265,6 +282,151 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
             .andExpect(jsonPath("$[1].display").value("May 2025"));
   }
 
+  @Test
+  void shouldReturnBudgetsWithinMonthRange() throws Exception {
+    Category category = categoryRepository.save(Category.builder()
+                        .name("Groceries")
+                        .type(TransactionType.EXPENSE)
+                        .user(testUser)
+                        .build()
+    );
+
+    budgetRepository.saveAll(List.of(
+      Budget.builder().value(Money.of(BigDecimal.valueOf(100.00))).month(YearMonth.of(2024, 11)).category(category).user(testUser).build(),
+      Budget.builder().value(Money.of(BigDecimal.valueOf(200.00))).month(YearMonth.of(2024, 12)).category(category).user(testUser).build(),
+      Budget.builder().value(Money.of(BigDecimal.valueOf(300.00))).month(YearMonth.of(2025, 1)).category(category).user(testUser).build(),
+      Budget.builder().value(Money.of(BigDecimal.valueOf(400.00))).month(YearMonth.of(2025, 2)).category(category).user(testUser).build()
+    ));
+
+    mockMvc.perform(get("/api/budgets")
+            .param("from", "2024-12")
+            .param("to", "2025-01")
+            .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].month").value("2025-01"))
+            .andExpect(jsonPath("$[1].month").value("2024-12"));
+
+    mockMvc.perform(get("/api/budgets/months")
+            .param("from", "2025-01")
+            .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].value").value("2025-02"))
+            .andExpect(jsonPath("$[1].value").value("2025-01"));
+  }
+
+  @Test
+  void shouldReturn400WhenMonthRangeStartsAfterItEnds() throws Exception {
+    mockMvc.perform(get("/api/budgets")
+            .param("from", "2025-06")
+            .param("to", "2025-01")
+            .with(bearerToken()))
+            .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldReturnBudgetSummariesForMonth() throws Exception {
+    User anotherUser = userRepository.save(
+      User.builder().username("anotherUser").password("hashedPassword").build()
+    );
+
+    Category groceries = categoryRepository.save(Category.builder()
+                        .name("Groceries")
+                        .type(TransactionType.EXPENSE)
+                        .user(testUser)
+                        .build()
+    );
+
+    Category dining = categoryRepository.save(Category.builder()
+                        .name("Dining")
+                        .type(TransactionType.EXPENSE)
+                        .user(testUser)
+                        .build()
+    );
+
+    Category otherGroceries = categoryRepository.save(Category.builder()
+                        .name("Groceries")
+                        .type(TransactionType.EXPENSE)
+                        .user(anotherUser)
+                        .build()
+    );
+
+    budgetRepository.saveAll(List.of(
+      Budget.builder().value(Money.of(BigDecimal.valueOf(500.00))).month(YearMonth.of(2025, 6)).category(groceries).user(testUser).build(),
+      Budget.builder().value(Money.of(BigDecimal.valueOf(200.00))).month(YearMonth.of(2025, 6)).category(dining).user(testUser).build(),
+      Budget.builder().value(Money.of(BigDecimal.valueOf(450.00))).month(YearMonth.of(2025, 5)).category(groceries).user(testUser).build(),
+      Budget.builder().value(Money.of(BigDecimal.valueOf(300.00))).month(YearMonth.of(2025, 6)).category(otherGroceries).user(anotherUser).build()
+    ));
+
+    monthlyRollupService.recordAll(transactionRepository.saveAll(List.of(
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(100.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 1)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(50.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 30)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(30.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 5, 31)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(75.00))).category(otherGroceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 15)).user(anotherUser).build()
+    )));
+
+    mockMvc.perform(get("/api/budgets/summary")
+            .param("month", "2025-06")
+            .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].category.name").value("Dining"))
+            .andExpect(jsonPath("$[0].month").value("2025-06"))
+            .andExpect(jsonPath("$[0].budgeted").value(200.00))
+            .andExpect(jsonPath("$[0].spent").value(0))
+            .andExpect(jsonPath("$[0].remaining").value(200.00))
+            .andExpect(jsonPath("$[1].category.name").value("Groceries"))
+            .andExpect(jsonPath("$[1].budgeted").value(500.00))
+            .andExpect(jsonPath("$[1].spent").value(150.00))
+            .andExpect(jsonPath("$[1].remaining").value(350.00));
+  }
+
+  @Test
+  void shouldReturnBudgetSummaryById() throws Exception {
+    Category category = categoryRepository.save(Category.builder()
+                        .name("Groceries")
+                        .type(TransactionType.EXPENSE)
+                        .user(testUser)
+                        .build()
+    );
+
+    Budget budget = budgetRepository.save(Budget.builder()
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
+                      .month(YearMonth.of(2025, 6))
+                      .category(category)
+                      .user(testUser)
+                      .build()
+    );
+
+    monthlyRollupService.record(transactionRepository.save(Transaction.builder()
+                      .amount(Money.of(BigDecimal.valueOf(120.00)))
+                      .category(category)
+                      .type(TransactionType.EXPENSE)
+                      .date(LocalDate.of(2025, 6, 10))
+                      .user(testUser)
+                      .build()
+    ));
+
+    mockMvc.perform(get("/api/budgets/{id}/summary", budget.getId())
+            .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.budgeted").value(500.00))
+            .andExpect(jsonPath("$.spent").value(120.00))
+            .andExpect(jsonPath("$.remaining").value(380.00));
+  }
+
+  @Test
+  void shouldReturn404WhenGettingSummaryOfNonExistentBudget() throws Exception {
+    mockMvc.perform(get("/api/budgets/{id}/summary", 999L)
+            .with(bearerToken()))
+            .andExpect(status().isNotFound());
+  }
+
   @Test
   void shouldUpdateBudgetById() throws Exception {
     Category category = categoryRepository.save(Category.builder()
@@ -275,7 +437,7 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
     
     Budget budget = budgetRepository.save(Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 5))
                       .category(category)
                       .user(testUser)
@@ -332,7 +494,7 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget = budgetRepository.save(Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 5))
                       .category(category)
                       .user(testUser)
@@ -362,7 +524,7 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
     );
 
     Budget budget = budgetRepository.save(Budget.builder()
-                      .value(BigDecimal.valueOf(500.00))
+                      .value(Money.of(BigDecimal.valueOf(500.00)))
                       .month(YearMonth.of(2025, 6))
                       .category(category)
                       .user(testUser)
@@ -373,7 +535,7 @@ public class BudgetControllerIntegrationTest extends AbstractIntegrationTest {
             .with(bearerToken()))
             .andExpect(status().isNoContent());
 
-    assertFalse(budgetRepository.findByIdAndUser(budget.getId(), testUser).isPresent());
+    assertFalse(budgetRepository.findByIdAndUserId(budget.getId(), testUser.getId()).isPresent());
   }
 
   @Test
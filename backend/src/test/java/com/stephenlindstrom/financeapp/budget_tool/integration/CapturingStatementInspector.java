@@ -0,0 +1,42 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate sends to the database from the current thread while
+ * {@link #capture(Runnable)} runs, so tests can inspect the statements a repository
+ * method really issues. Registered for the test profile in {@code application-test.properties}.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+  private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+  @Override
+  public String inspect(String sql) {
+    List<String> captured = CAPTURED.get();
+    if (captured != null) {
+      captured.add(sql);
+    }
+    return sql;
+  }
+
+  /**
+   * Runs an action and returns every statement it issued on this thread, in order.
+   *
+   * @param action the code to observe
+   * @return the SQL of each statement prepared while the action ran
+   */
+  public static List<String> capture(Runnable action) {
+    List<String> captured = new ArrayList<>();
+    CAPTURED.set(captured);
+    try {
+      action.run();
+    } finally {
+      CAPTURED.remove();
+    }
+    return captured;
+  }
+}
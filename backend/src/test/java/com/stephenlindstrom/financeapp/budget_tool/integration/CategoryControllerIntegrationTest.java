@@ -216,7 +216,7 @@ public class CategoryControllerIntegrationTest extends AbstractIntegrationTest {
           .with(bearerToken()))
           .andExpect(status().isNoContent());
     
-    assertFalse(categoryRepository.findByIdAndUser(category.getId(), testUser).isPresent());
+    assertFalse(categoryRepository.findByIdAndUserId(category.getId(), testUser.getId()).isPresent());
   }
 
   @Test
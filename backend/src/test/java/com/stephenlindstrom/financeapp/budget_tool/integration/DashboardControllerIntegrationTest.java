@@ -0,0 +1,102 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * The dashboard reads its parts on separate threads with their own connections, which
+ * cannot see rows inside a test-managed transaction. These tests therefore commit their
+ * data through the API; every test uses a fresh user, so nothing leaks between tests.
+ */
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class DashboardControllerIntegrationTest extends AbstractIntegrationTest {
+
+  private long groceriesId;
+
+  @BeforeEach
+  void seed() throws Exception {
+    groceriesId = create("/api/categories", "{\"name\": \"Groceries\", \"type\": \"EXPENSE\"}");
+    long rentId = create("/api/categories", "{\"name\": \"Rent\", \"type\": \"EXPENSE\"}");
+
+    create("/api/budgets", "{\"value\": 300.00, \"month\": \"2025-05\", \"categoryId\": " + groceriesId + "}");
+    create("/api/budgets", "{\"value\": 1000.00, \"month\": \"2025-05\", \"categoryId\": " + rentId + "}");
+    create("/api/budgets", "{\"value\": 250.00, \"month\": \"2025-04\", \"categoryId\": " + groceriesId + "}");
+
+    create("/api/transactions", transaction(groceriesId, "40.00", "2025-05-03"));
+    create("/api/transactions", transaction(groceriesId, "60.00", "2025-05-10"));
+    create("/api/transactions", transaction(rentId, "1000.00", "2025-05-01"));
+  }
+
+  @Test
+  void shouldReturnEveryPartOfTheDashboardInOneResponse() throws Exception {
+    mockMvc.perform(get("/api/dashboard?month=2025-05&recent=2").with(bearerToken()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.month").value("2025-05"))
+          .andExpect(jsonPath("$.months.length()").value(2))
+          .andExpect(jsonPath("$.months[0].value").value("2025-05"))
+          .andExpect(jsonPath("$.budgets.length()").value(2))
+          .andExpect(jsonPath("$.budgets[0].category.name").value("Groceries"))
+          .andExpect(jsonPath("$.budgets[0].spent").value(100.00))
+          .andExpect(jsonPath("$.budgets[0].remaining").value(200.00))
+          .andExpect(jsonPath("$.categories.length()").value(2))
+          .andExpect(jsonPath("$.recentTransactions.length()").value(2))
+          .andExpect(jsonPath("$.recentTransactions[0].date").value("2025-05-10"));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhileNothingChanged() throws Exception {
+    String eTag = mockMvc.perform(get("/api/dashboard?month=2025-05").with(bearerToken()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/dashboard?month=2025-05").with(bearerToken()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified());
+
+    create("/api/transactions", transaction(groceriesId, "5.00", "2025-05-12"));
+
+    mockMvc.perform(get("/api/dashboard?month=2025-05").with(bearerToken()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.budgets[0].spent").value(105.00));
+  }
+
+  @Test
+  void shouldReturn400WhenMonthIsMissing() throws Exception {
+    mockMvc.perform(get("/api/dashboard").with(bearerToken()))
+          .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldReturn400WhenRecentIsOutOfRange() throws Exception {
+    mockMvc.perform(get("/api/dashboard?month=2025-05&recent=0").with(bearerToken()))
+          .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldReturn401WithoutToken() throws Exception {
+    mockMvc.perform(get("/api/dashboard?month=2025-05"))
+          .andExpect(status().isUnauthorized());
+  }
+
+  private long create(String url, String json) throws Exception {
+    String body = mockMvc.perform(post(url)
+                    .with(bearerToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json))
+                  .andExpect(status().isCreated())
+                  .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("id").asLong();
+  }
+
+  private static String transaction(long categoryId, String amount, String date) {
+    return "{\"amount\": " + amount + ", \"categoryId\": " + categoryId + ", \"type\": \"EXPENSE\", \"date\": \"" + date + "\"}";
+  }
+}
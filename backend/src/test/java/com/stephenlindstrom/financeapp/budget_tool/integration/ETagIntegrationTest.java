@@ -0,0 +1,100 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Verifies that list endpoints carry the user's data version as an ETag and
+ * answer a matching If-None-Match with 304 until the user's data changes.
+ */
+public class ETagIntegrationTest extends AbstractIntegrationTest {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "/api/transactions?limit=10",
+    "/api/transactions?unpaged=true",
+    "/api/budgets",
+    "/api/budgets/months",
+    "/api/categories"
+  })
+  void shouldAnswerMatchingIfNoneMatchWithNotModifiedUsingOneStatement(String url) throws Exception {
+    String eTag = getETag(url);
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+                              .unwrap(SessionFactory.class)
+                              .getStatistics();
+    statistics.clear();
+
+    mockMvc.perform(get(url).with(bearerToken()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string(HttpHeaders.ETAG, eTag))
+          .andExpect(content().string(""));
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void shouldChangeETagAfterEveryWrite() throws Exception {
+    String initial = getETag("/api/categories");
+
+    String created = mockMvc.perform(post("/api/categories")
+            .with(bearerToken())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"name\": \"Groceries\", \"type\": \"EXPENSE\"}"))
+          .andExpect(status().isCreated())
+          .andReturn().getResponse().getContentAsString();
+    JsonNode category = objectMapper.readTree(created);
+
+    mockMvc.perform(get("/api/categories").with(bearerToken()).header(HttpHeaders.IF_NONE_MATCH, initial))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+
+    String afterCreate = getETag("/api/categories");
+    assertNotEquals(initial, afterCreate);
+
+    mockMvc.perform(delete("/api/categories/" + category.get("id").asLong()).with(bearerToken()))
+          .andExpect(status().isNoContent());
+
+    assertNotEquals(afterCreate, getETag("/api/categories"));
+  }
+
+  @Test
+  void shouldNotChangeETagWhenDeletingAMissingRow() throws Exception {
+    String initial = getETag("/api/budgets");
+
+    mockMvc.perform(delete("/api/budgets/999999").with(bearerToken()));
+
+    assertEquals(initial, getETag("/api/budgets"));
+  }
+
+  private String getETag(String url) throws Exception {
+    String eTag = mockMvc.perform(get(url).with(bearerToken()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertNotNull(eTag);
+    return eTag;
+  }
+}
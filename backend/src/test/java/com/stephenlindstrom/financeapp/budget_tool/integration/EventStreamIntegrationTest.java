@@ -0,0 +1,149 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Changes are pushed only after their transaction commits, so these tests commit their
+ * writes instead of running inside a test-managed transaction. Every test uses a fresh
+ * user, so nothing leaks between tests.
+ */
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
+public class EventStreamIntegrationTest extends AbstractIntegrationTest {
+
+  @Test
+  void shouldPushCreatedAndDeletedChangesToTheOwnersStream() throws Exception {
+    MockHttpServletResponse stream = openStream();
+
+    String body = mockMvc.perform(post("/api/categories")
+                    .with(bearerToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\": \"Groceries\", \"type\": \"EXPENSE\"}"))
+                  .andExpect(status().isCreated())
+                  .andReturn().getResponse().getContentAsString();
+    long id = objectMapper.readTree(body).get("id").asLong();
+
+    awaitContent(stream, "\"resource\":\"CATEGORY\",\"change\":\"CREATED\",\"id\":" + id);
+    assertTrue(stream.getContentAsString().contains("\"name\":\"Groceries\""), stream.getContentAsString());
+
+    mockMvc.perform(delete("/api/categories/" + id).with(bearerToken()))
+          .andExpect(status().isNoContent());
+
+    awaitContent(stream, "\"resource\":\"CATEGORY\",\"change\":\"DELETED\",\"id\":" + id);
+  }
+
+  @Test
+  void shouldPushOneBulkChangeForABatchLargerThanTheStreamQueue() throws Exception {
+    MockHttpServletResponse stream = openStream();
+    long categoryId = createCategory("Groceries");
+
+    // More items than events.queue-capacity; one change per item would evict the stream
+    StringBuilder batch = new StringBuilder("[");
+    for (int i = 0; i < 300; i++) {
+      batch.append(i == 0 ? "" : ",")
+           .append("{\"amount\": 1.00, \"type\": \"EXPENSE\", \"date\": \"2025-05-01\", \"categoryId\": ")
+           .append(categoryId)
+           .append('}');
+    }
+    batch.append(']');
+
+    mockMvc.perform(post("/api/transactions/batch")
+              .with(bearerToken())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(batch.toString()))
+          .andExpect(status().isOk());
+
+    awaitContent(stream, "\"resource\":\"TRANSACTION\",\"change\":\"BULK_CREATED\",\"id\":null,\"count\":300");
+
+    // Still subscribed: later changes keep arriving on the same stream
+    long otherId = createCategory("Dining");
+    awaitContent(stream, "\"resource\":\"CATEGORY\",\"change\":\"CREATED\",\"id\":" + otherId);
+  }
+
+  @Test
+  void shouldPushABulkChangeForEachImportedChunk() throws Exception {
+    MockHttpServletResponse stream = openStream();
+    createCategory("Groceries");
+
+    mockMvc.perform(post("/api/transactions/import")
+              .with(bearerToken())
+              .contentType("text/csv")
+              .content("Date,Amount,Category\n2025-05-01,-12.50,Groceries\n2025-05-02,-3.00,Groceries\n"))
+          .andExpect(status().isOk());
+
+    awaitContent(stream, "\"resource\":\"TRANSACTION\",\"change\":\"BULK_CREATED\",\"id\":null,\"count\":2");
+  }
+
+  @Test
+  void shouldNotPushChangesThatFailed() throws Exception {
+    MockHttpServletResponse stream = openStream();
+
+    mockMvc.perform(post("/api/budgets")
+              .with(bearerToken())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"value\": 100.00, \"month\": \"2025-05\", \"categoryId\": 999999}"))
+          .andExpect(status().isNotFound());
+
+    TimeUnit.MILLISECONDS.sleep(200);
+    assertFalse(stream.getContentAsString().contains("event:change"), stream.getContentAsString());
+  }
+
+  @Test
+  void shouldReturn429WhenTooManyStreamsAreOpen() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      openStream();
+    }
+
+    mockMvc.perform(get("/api/events").with(bearerToken()).accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+          .andExpect(status().isTooManyRequests())
+          .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  void shouldReturn401WithoutToken() throws Exception {
+    mockMvc.perform(get("/api/events"))
+          .andExpect(status().isUnauthorized());
+  }
+
+  private long createCategory(String name) throws Exception {
+    String body = mockMvc.perform(post("/api/categories")
+                    .with(bearerToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\": \"" + name + "\", \"type\": \"EXPENSE\"}"))
+                  .andExpect(status().isCreated())
+                  .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("id").asLong();
+  }
+
+  private MockHttpServletResponse openStream() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/events").with(bearerToken()))
+                         .andExpect(request().asyncStarted())
+                         .andReturn();
+    awaitContent(result.getResponse(), ":connected");
+    return result.getResponse();
+  }
+
+  private static void awaitContent(MockHttpServletResponse response, String text) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!response.getContentAsString().contains(text) && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertTrue(response.getContentAsString().contains(text), "expected " + text + " in " + response.getContentAsString());
+  }
+}
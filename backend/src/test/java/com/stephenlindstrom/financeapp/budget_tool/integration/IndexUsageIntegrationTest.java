@@ -0,0 +1,145 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCursor;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.repository.BudgetRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionSpecifications;
+
+/**
+ * Checks that the ledger queries are answered from the indexes created by the
+ * migrations in {@code db/migration}. Each case calls a repository method, captures
+ * the SQL Hibernate issued for it with {@link CapturingStatementInspector}, and asks
+ * H2 for the plan of that exact statement.
+ */
+public class IndexUsageIntegrationTest extends AbstractIntegrationTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private BudgetRepository budgetRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  /*
+   * Transaction pages join the category, and H2 ignores ORDER BY when it picks indexes for a join,
+   * so it takes any index on user_id; PostgreSQL reads these pages from idx_transaction_user_date_desc.
+   * Here the pages are only checked to be index lookups on the owner rather than table scans.
+   */
+  @Test
+  void shouldPageTransactionsNewestFirstWithoutScanning() {
+    String plan = explain(() -> transactionRepository.findRows(
+        TransactionSpecifications.matching(testUser.getId(), new TransactionFilter()), TransactionSpecifications.NEWEST_FIRST, 20));
+
+    assertLooksUpByUser(plan, "transaction");
+  }
+
+  @Test
+  void shouldSeekToCursorPageWithoutScanning() {
+    TransactionCursor cursor = new TransactionCursor(LocalDate.of(2025, 1, 15), 100L);
+
+    String plan = explain(() -> transactionRepository.findRows(
+        TransactionSpecifications.matching(testUser.getId(), new TransactionFilter()).and(TransactionSpecifications.after(cursor)),
+        TransactionSpecifications.NEWEST_FIRST, 20));
+
+    assertLooksUpByUser(plan, "transaction");
+  }
+
+  @Test
+  void shouldFilterTransactionsByDateRangeWithIndex() {
+    TransactionFilter filter = TransactionFilter.builder()
+                                .startDate(LocalDate.of(2025, 1, 1))
+                                .endDate(LocalDate.of(2025, 1, 31))
+                                .build();
+
+    String plan = explain(() -> transactionRepository.findRows(
+        TransactionSpecifications.matching(testUser.getId(), filter), TransactionSpecifications.NEWEST_FIRST, 20));
+
+    assertUsesIndex(plan, "idx_transaction_user_date_desc");
+  }
+
+  @Test
+  void shouldReadBudgetSpendingFromRollupBuckets() {
+    String plan = explain(() -> budgetRepository.findSpendingByMonthAndUserId(
+        YearMonth.of(2025, 1), testUser.getId(), TransactionType.EXPENSE));
+
+    assertUsesIndex(plan, "idx_budget_user_month_category");
+    assertUsesIndex(plan, "uk_monthly_rollup_bucket");
+  }
+
+  @Test
+  void shouldFindBudgetsForMonthWithIndex() {
+    String plan = explain(() -> budgetRepository.findRowsByMonthAndUserId(YearMonth.of(2025, 1), testUser.getId()));
+
+    assertUsesIndex(plan, "idx_budget_user_month_category");
+  }
+
+  @Test
+  void shouldFindBudgetsForMonthRangeWithIndex() {
+    String plan = explain(() -> budgetRepository.findRowsByMonthRangeAndUserId(
+        YearMonth.of(2024, 1), YearMonth.of(2024, 12), testUser.getId()));
+
+    assertUsesIndex(plan, "idx_budget_user_month_category");
+  }
+
+  @Test
+  void shouldCheckBudgetDuplicatesWithIndex() {
+    String plan = explain(() -> budgetRepository.existsByCategoryIdAndMonthAndUserId(
+        1L, YearMonth.of(2025, 1), testUser.getId()));
+
+    assertUsesIndex(plan, "idx_budget_user_month_category");
+  }
+
+  @Test
+  void shouldCheckCategoryNamesWithIndex() {
+    String plan = explain(() -> categoryRepository.existsByNameIgnoreCaseAndUserId("Groceries", testUser.getId()));
+
+    // H2 has no expression indexes; PostgreSQL uses idx_category_user_lower_name
+    assertUsesIndex(plan, "idx_category_user_name");
+  }
+
+  /**
+   * Runs a repository call and returns H2's plan for the last query it issued.
+   * H2 plans a statement without its parameters bound, so the SQL is explained as captured.
+   */
+  private String explain(Runnable repositoryCall) {
+    List<String> queries = CapturingStatementInspector.capture(repositoryCall).stream()
+            .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+            .toList();
+    assertTrue(!queries.isEmpty(), "Expected the repository call to issue a query");
+
+    String sql = queries.get(queries.size() - 1);
+    List<String> plan = jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                                           (rs, rowNum) -> rs.getString(1));
+    return String.join("\n", plan);
+  }
+
+  private void assertUsesIndex(String plan, String index) {
+    assertTrue(plan.toLowerCase(Locale.ROOT).contains(index),
+        "Expected plan to use " + index + ":\n" + plan);
+  }
+
+  private void assertLooksUpByUser(String plan, String table) {
+    String lower = plan.toLowerCase(Locale.ROOT);
+    assertTrue(!lower.contains(table + ".tablescan") && lower.contains("user_id = ?1"),
+        "Expected plan to look up " + table + " by user_id instead of scanning it:\n" + plan);
+  }
+}
@@ -0,0 +1,186 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs the migrations step by step against a scratch H2 database to check that
+ * data written under an older schema version survives the later ones.
+ */
+public class MigrationIntegrationTest {
+
+  private static final String[] LOCATIONS = {"classpath:db/migration/common", "classpath:db/migration/h2"};
+
+  private DriverManagerDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new DriverManagerDataSource("jdbc:h2:mem:migration_test;DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+  }
+
+  @Test
+  void shouldConvertBudgetMonthsToIntegers() {
+    migrateTo("3");
+    jdbcTemplate.update("INSERT INTO users (id, username, password) VALUES (1, 'alice', 'x')");
+    jdbcTemplate.update("INSERT INTO category (id, name, type, user_id) VALUES (1, 'Rent', 'EXPENSE', 1)");
+    jdbcTemplate.update("""
+        INSERT INTO budget (id, budget_value, budget_month, category_id, user_id) VALUES
+          (1, 1500.00, '2024-12', 1, 1),
+          (2, 1500.00, '2025-01', 1, 1),
+          (3, 1500.00, NULL, 1, 1)
+        """);
+
+    migrateTo("4");
+
+    List<Integer> months = jdbcTemplate.queryForList("SELECT budget_month FROM budget ORDER BY id", Integer.class);
+    assertEquals(202412, months.get(0));
+    assertEquals(202501, months.get(1));
+    assertNull(months.get(2));
+  }
+
+  @Test
+  void shouldConvertAmountsToCents() {
+    migrateTo("4");
+    jdbcTemplate.update("INSERT INTO users (id, username, password) VALUES (1, 'alice', 'x')");
+    jdbcTemplate.update("INSERT INTO category (id, name, type, user_id) VALUES (1, 'Rent', 'EXPENSE', 1)");
+    jdbcTemplate.update("""
+        INSERT INTO transaction (id, amount, type, transaction_date, category_id, user_id) VALUES
+          (1, 1234.56, 'EXPENSE', DATE '2025-01-15', 1, 1),
+          (2, 0.07, 'EXPENSE', DATE '2025-01-16', 1, 1)
+        """);
+    jdbcTemplate.update("INSERT INTO budget (id, budget_value, budget_month, category_id, user_id) VALUES (1, 1500.50, 202501, 1, 1)");
+    jdbcTemplate.update("""
+        INSERT INTO monthly_rollup (id, rollup_month, type, total_amount, transaction_count, category_id, user_id)
+        VALUES (1, '2025-01', 'EXPENSE', 1234.63, 2, 1, 1)
+        """);
+
+    migrateTo("5");
+
+    assertEquals(List.of(123_456L, 7L),
+        jdbcTemplate.queryForList("SELECT amount_cents FROM transaction ORDER BY id", Long.class));
+    assertEquals(150_050L, jdbcTemplate.queryForObject("SELECT budget_value_cents FROM budget", Long.class));
+    assertEquals(123_463L, jdbcTemplate.queryForObject("SELECT total_amount_cents FROM monthly_rollup", Long.class));
+  }
+
+  @Test
+  void shouldConvertRollupMonthsToIntegers() {
+    migrateTo("6");
+    jdbcTemplate.update("INSERT INTO users (id, username, password) VALUES (1, 'alice', 'x')");
+    jdbcTemplate.update("INSERT INTO category (id, name, type, user_id) VALUES (1, 'Rent', 'EXPENSE', 1)");
+    jdbcTemplate.update("""
+        INSERT INTO monthly_rollup (id, rollup_month, type, total_amount_cents, transaction_count, category_id, user_id) VALUES
+          (1, '2024-12', 'EXPENSE', 1000, 1, 1, 1),
+          (2, '2025-01', 'EXPENSE', 2000, 1, 1, 1)
+        """);
+
+    migrateTo("7");
+
+    assertEquals(List.of(202412, 202501),
+        jdbcTemplate.queryForList("SELECT rollup_month FROM monthly_rollup ORDER BY id", Integer.class));
+    assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update("""
+        INSERT INTO monthly_rollup (rollup_month, type, total_amount_cents, transaction_count, category_id, user_id)
+        VALUES (202501, 'EXPENSE', 1, 1, 1, 1)
+        """));
+  }
+
+  @Test
+  void shouldUpgradeDatabaseCreatedBeforeMigrations() {
+    createPreMigrationSchema();
+    jdbcTemplate.update("INSERT INTO users (id, username, password) VALUES (1, 'alice', 'x')");
+    jdbcTemplate.update("INSERT INTO category (id, name, type, user_id) VALUES (1, 'Rent', 'EXPENSE', 1)");
+    jdbcTemplate.update("""
+        INSERT INTO transaction (id, amount, type, transaction_date, category_id, user_id) VALUES
+          (1, 1000.00, 'EXPENSE', DATE '2025-01-01', 1, 1),
+          (2, 250.50, 'EXPENSE', DATE '2025-01-31', 1, 1),
+          (7, 99.99, 'EXPENSE', DATE '2025-02-03', 1, 1)
+        """);
+    jdbcTemplate.update("INSERT INTO budget (id, budget_value, budget_month, category_id, user_id) VALUES (1, 1500.00, '2025-01', 1, 1)");
+
+    Flyway.configure()
+      .dataSource(dataSource)
+      .locations(LOCATIONS)
+      .baselineOnMigrate(true)
+      .baselineVersion("0")
+      .load()
+      .migrate();
+
+    assertEquals(0L, jdbcTemplate.queryForObject("SELECT data_version FROM users WHERE id = 1", Long.class));
+    assertEquals(202501, jdbcTemplate.queryForObject("SELECT budget_month FROM budget", Integer.class));
+    assertEquals(List.of(202501, 202502), jdbcTemplate.queryForList(
+        "SELECT rollup_month FROM monthly_rollup ORDER BY rollup_month", Integer.class));
+    assertEquals(List.of(125_050L, 9_999L), jdbcTemplate.queryForList(
+        "SELECT total_amount_cents FROM monthly_rollup ORDER BY rollup_month", Long.class));
+    assertEquals(List.of(2L, 1L), jdbcTemplate.queryForList(
+        "SELECT transaction_count FROM monthly_rollup ORDER BY rollup_month", Long.class));
+    assertTrue(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR transaction_seq", Long.class) > 7L);
+  }
+
+  /**
+   * Creates the tables as ddl-auto=update built them from the entities before migrations existed.
+   */
+  private void createPreMigrationSchema() {
+    jdbcTemplate.execute("""
+        CREATE TABLE users (
+          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+          username VARCHAR(255) NOT NULL UNIQUE,
+          password VARCHAR(255) NOT NULL
+        )
+        """);
+    jdbcTemplate.execute("""
+        CREATE TABLE category (
+          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+          name VARCHAR(255),
+          type VARCHAR(255) CHECK (type IN ('EXPENSE', 'INCOME')),
+          user_id BIGINT REFERENCES users (id)
+        )
+        """);
+    jdbcTemplate.execute("""
+        CREATE TABLE budget (
+          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+          budget_value NUMERIC(38, 2),
+          budget_month VARCHAR(255),
+          category_id BIGINT REFERENCES category (id),
+          user_id BIGINT REFERENCES users (id)
+        )
+        """);
+    jdbcTemplate.execute("""
+        CREATE TABLE transaction (
+          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+          amount NUMERIC(38, 2),
+          type VARCHAR(255) CHECK (type IN ('EXPENSE', 'INCOME')),
+          transaction_date DATE,
+          description VARCHAR(255),
+          category_id BIGINT REFERENCES category (id),
+          user_id BIGINT REFERENCES users (id)
+        )
+        """);
+  }
+
+  private void migrateTo(String version) {
+    Flyway.configure()
+      .dataSource(dataSource)
+      .locations(LOCATIONS)
+      .target(version)
+      .load()
+      .migrate();
+  }
+}
@@ -0,0 +1,195 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Budget;
+import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.BudgetRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Guards against N+1 loading: every read endpoint must issue a fixed number of
+ * SQL statements no matter how many rows, categories or budgets it returns.
+ */
+public class QueryCountIntegrationTest extends AbstractIntegrationTest {
+
+  /**
+   * Statements a read may issue: the data version lookup behind the ETag on list
+   * endpoints, then the read itself. The authenticated user comes from the token
+   * and is never loaded.
+   */
+  private static final long MAX_STATEMENTS_PER_READ = 2;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private BudgetRepository budgetRepository;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Long budgetId;
+  private Long categoryId;
+
+  @BeforeEach
+  void seed() {
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      Category category = categoryRepository.save(
+        Category.builder()
+          .name("Category " + i)
+          .type(TransactionType.EXPENSE)
+          .user(testUser)
+          .build()
+      );
+
+      categoryId = category.getId();
+
+      budgetId = budgetRepository.save(
+        Budget.builder()
+          .value(Money.of(BigDecimal.valueOf(100L * i)))
+          .month(YearMonth.of(2025, 5))
+          .category(category)
+          .user(testUser)
+          .build()
+      ).getId();
+
+      for (int day = 1; day <= 4; day++) {
+        transactions.add(Transaction.builder()
+          .amount(Money.of(BigDecimal.valueOf(10.00)))
+          .category(category)
+          .type(TransactionType.EXPENSE)
+          .date(LocalDate.of(2025, 5, day * i))
+          .description("Transaction " + i + "-" + day)
+          .user(testUser)
+          .build());
+      }
+    }
+    transactionRepository.saveAll(transactions);
+
+    // Start every request from an empty persistence context so associations really load from the database
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "/api/transactions?unpaged=true",
+    "/api/transactions?limit=10",
+    "/api/transactions/filter?unpaged=true&type=EXPENSE",
+    "/api/transactions/filter?limit=10&startDate=2025-05-01&endDate=2025-05-31",
+    "/api/budgets",
+    "/api/budgets/summary?month=2025-05",
+    "/api/categories"
+  })
+  void shouldIssueAFixedNumberOfStatementsForListEndpoints(String url) throws Exception {
+    assertStatementCountWithinLimit(url);
+  }
+
+  @Test
+  void shouldFetchBudgetCategoryInTheSameStatement() throws Exception {
+    assertStatementCountWithinLimit("/api/budgets/" + budgetId);
+  }
+
+  @Test
+  void shouldNotLoadTheUserForReadsOrWrites() throws Exception {
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    mockMvc.perform(get("/api/transactions?limit=10").with(bearerToken()))
+          .andExpect(status().isOk());
+    mockMvc.perform(post("/api/transactions")
+          .with(bearerToken())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(TransactionCreateDTO.builder()
+            .amount(BigDecimal.valueOf(12.50))
+            .categoryId(categoryId)
+            .type(TransactionType.EXPENSE)
+            .date(LocalDate.of(2025, 5, 20))
+            .build())))
+          .andExpect(status().isCreated());
+    mockMvc.perform(get("/api/budgets/summary?month=2025-05").with(bearerToken()))
+          .andExpect(status().isOk());
+
+    assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+  }
+
+  @Test
+  void shouldAttachCachedCategoriesWithoutQueryingThem() throws Exception {
+    // The first write loads the user's categories into the cache
+    postTransaction(LocalDate.of(2025, 5, 20));
+
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    postTransaction(LocalDate.of(2025, 5, 21));
+
+    assertEquals(0, statistics.getEntityStatistics(Category.class.getName()).getLoadCount());
+    assertTrue(Arrays.stream(statistics.getQueries()).noneMatch(query -> query.matches("(?is).*\\bfrom Category\\b.*")),
+               "categories were queried: " + Arrays.toString(statistics.getQueries()));
+  }
+
+  private void postTransaction(LocalDate date) throws Exception {
+    mockMvc.perform(post("/api/transactions")
+          .with(bearerToken())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(TransactionCreateDTO.builder()
+            .amount(BigDecimal.valueOf(12.50))
+            .categoryId(categoryId)
+            .type(TransactionType.EXPENSE)
+            .date(date)
+            .build())))
+          .andExpect(status().isCreated());
+  }
+
+  private Statistics statistics() {
+    return entityManager.getEntityManagerFactory()
+              .unwrap(SessionFactory.class)
+              .getStatistics();
+  }
+
+  private void assertStatementCountWithinLimit(String url) throws Exception {
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    mockMvc.perform(get(url).with(bearerToken()))
+          .andExpect(status().isOk());
+
+    long statements = statistics.getPrepareStatementCount();
+    assertTrue(statements <= MAX_STATEMENTS_PER_READ,
+               url + " issued " + statements + " SQL statements, expected at most " + MAX_STATEMENTS_PER_READ);
+  }
+}
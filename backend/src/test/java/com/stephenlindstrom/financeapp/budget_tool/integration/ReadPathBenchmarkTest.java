@@ -0,0 +1,164 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares reading a user's ledger as managed entities against reading it as
+ * constructor-expression projections. Reports median latency and bytes allocated
+ * by the calling thread per read. Skipped unless run with {@code -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class ReadPathBenchmarkTest extends AbstractIntegrationTest {
+
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURED_ROUNDS = 7;
+  private static final int INSERT_CHUNK = 1_000;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @ParameterizedTest
+  @ValueSource(ints = {10_000, 100_000})
+  void compareEntityAndProjectionReads(int rows) {
+    seed(rows);
+
+    Result entities = measure(() -> transactionRepository.findByUserIdOrderByDateDesc(testUser.getId()).stream()
+                                      .map(ReadPathBenchmarkTest::fromEntity)
+                                      .toList());
+    Result projections = measure(() -> transactionRepository.findRowsByUserId(testUser.getId()).stream()
+                                         .map(ReadPathBenchmarkTest::fromRow)
+                                         .toList());
+
+    System.out.printf("read path, %,d rows: entities %,d ms / %,d KB, projections %,d ms / %,d KB%n",
+                      rows,
+                      entities.nanos() / 1_000_000, entities.bytes() / 1024,
+                      projections.nanos() / 1_000_000, projections.bytes() / 1024);
+
+    assertEquals(rows, entities.size());
+    assertEquals(rows, projections.size());
+  }
+
+  private void seed(int rows) {
+    Category category = categoryRepository.save(
+      Category.builder()
+        .name("Groceries")
+        .type(TransactionType.EXPENSE)
+        .user(testUser)
+        .build()
+    );
+
+    List<Transaction> chunk = new ArrayList<>(INSERT_CHUNK);
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < rows; i++) {
+      chunk.add(Transaction.builder()
+        .amount(Money.of(BigDecimal.valueOf(i % 500, 2)))
+        .category(category)
+        .type(TransactionType.EXPENSE)
+        .date(start.plusDays(i % 2_000))
+        .description("Row " + i)
+        .user(testUser)
+        .build());
+
+      if (chunk.size() == INSERT_CHUNK) {
+        transactionRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+      }
+    }
+    transactionRepository.saveAll(chunk);
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private Result measure(Supplier<List<TransactionDTO>> read) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      read.get();
+      entityManager.clear();
+    }
+
+    long[] nanos = new long[MEASURED_ROUNDS];
+    long[] bytes = new long[MEASURED_ROUNDS];
+    int size = 0;
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+      long startedAt = System.nanoTime();
+      size = read.get().size();
+      nanos[i] = System.nanoTime() - startedAt;
+      bytes[i] = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+      entityManager.clear();
+    }
+
+    Arrays.sort(nanos);
+    Arrays.sort(bytes);
+    return new Result(nanos[MEASURED_ROUNDS / 2], bytes[MEASURED_ROUNDS / 2], size);
+  }
+
+  private static TransactionDTO fromEntity(Transaction transaction) {
+    return TransactionDTO.builder()
+            .id(transaction.getId())
+            .amount(transaction.getAmount().toBigDecimal())
+            .type(transaction.getType())
+            .date(transaction.getDate())
+            .description(transaction.getDescription())
+            .category(CategoryDTO.builder()
+                        .id(transaction.getCategory().getId())
+                        .name(transaction.getCategory().getName())
+                        .type(transaction.getCategory().getType())
+                        .build())
+            .build();
+  }
+
+  private static TransactionDTO fromRow(TransactionRow row) {
+    return TransactionDTO.builder()
+            .id(row.id())
+            .amount(row.amount().toBigDecimal())
+            .type(row.type())
+            .date(row.date())
+            .description(row.description())
+            .category(CategoryDTO.builder()
+                        .id(row.categoryId())
+                        .name(row.categoryName())
+                        .type(row.categoryType())
+                        .build())
+            .build();
+  }
+
+  private record Result(long nanos, long bytes, int size) {
+  }
+}
@@ -0,0 +1,293 @@
+package com.stephenlindstrom.financeapp.budget_tool.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stephenlindstrom.financeapp.budget_tool.BudgetToolApplication;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Load-tests the real HTTP stack with platform-thread Tomcat and with virtual threads.
+ * Starts the application once per mode on a random port, seeds one user's ledger, then
+ * drives {@link #CLIENTS} concurrent clients in a closed loop over a mix of authenticated
+ * reads and writes and reports throughput and p50/p99 latency for each mode. Every
+ * {@link #WRITE_EVERY}th request creates a transaction and every {@link #RENAME_EVERY}th renames
+ * a category, so the category cache is repeatedly invalidated and reloaded under load.
+ * While virtual threads are on, JFR pinning events are recorded and the test fails if any
+ * pinned stack passes through this application's code. The virtual-thread run is repeated
+ * with {@code analytics.ledger.enabled}, so ledger loads and updates are checked too.
+ * Skipped unless run with {@code -Dbenchmarks=true}; {@code -Dload.seconds=N} sets the measured window.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class ThreadModelLoadTest {
+
+  private static final int CLIENTS = 1_000;
+  private static final Duration WARMUP = Duration.ofSeconds(5);
+  private static final Duration MEASURED = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+  private static final String APP_PACKAGE = "com.stephenlindstrom.financeapp";
+  private static final int WRITE_EVERY = 10;
+  private static final int RENAME_EVERY = 100;
+
+  private static final String[] READS = {
+    "/api/transactions?limit=20",
+    "/api/categories",
+    "/api/budgets/summary?month=2025-05",
+    "/api/transactions/filter?limit=20&type=EXPENSE&startDate=2025-05-01&endDate=2025-05-31"
+  };
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void comparePlatformAndVirtualThreads() throws Exception {
+    Result platform = run(false, false);
+    Result virtual = run(true, false);
+    Result ledger = run(true, true);
+
+    System.out.printf("%,d clients, %ds: platform threads %,.0f req/s, p50 %.1f ms, p99 %.1f ms, errors %d%n",
+                      CLIENTS, MEASURED.toSeconds(), platform.throughput(), platform.p50Millis(), platform.p99Millis(), platform.errors());
+    System.out.printf("%,d clients, %ds: virtual threads  %,.0f req/s, p50 %.1f ms, p99 %.1f ms, errors %d, pinned %d (in app code %d)%n",
+                      CLIENTS, MEASURED.toSeconds(), virtual.throughput(), virtual.p50Millis(), virtual.p99Millis(), virtual.errors(),
+                      virtual.pinned(), virtual.pinnedInApp());
+    System.out.printf("%,d clients, %ds: virtual threads with ledger %,.0f req/s, p50 %.1f ms, p99 %.1f ms, errors %d, pinned %d (in app code %d)%n",
+                      CLIENTS, MEASURED.toSeconds(), ledger.throughput(), ledger.p50Millis(), ledger.p99Millis(), ledger.errors(),
+                      ledger.pinned(), ledger.pinnedInApp());
+
+    assertEquals(0, platform.errors());
+    assertEquals(0, virtual.errors());
+    assertEquals(0, ledger.errors());
+    assertEquals(0, virtual.pinnedInApp(), "virtual threads were pinned inside application code");
+    assertEquals(0, ledger.pinnedInApp(), "virtual threads were pinned inside application code with the ledger enabled");
+  }
+
+  private Result run(boolean virtualThreads, boolean ledger) throws Exception {
+    try (ConfigurableApplicationContext context = start(virtualThreads, ledger);
+         HttpClient client = HttpClient.newBuilder()
+                               .executor(Executors.newVirtualThreadPerTaskExecutor())
+                               .connectTimeout(Duration.ofSeconds(30))
+                               .build()) {
+      String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+      Seed seed = seed(client, baseUrl);
+
+      load(client, baseUrl, seed, WARMUP);
+
+      AtomicLong pinned = new AtomicLong();
+      AtomicLong pinnedInApp = new AtomicLong();
+      try (RecordingStream recording = new RecordingStream()) {
+        if (virtualThreads) {
+          recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+          recording.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinned.incrementAndGet();
+            if (inApplicationCode(event)) {
+              pinnedInApp.incrementAndGet();
+            }
+          });
+          recording.startAsync();
+        }
+
+        Result result = load(client, baseUrl, seed, MEASURED);
+        return new Result(result.requests(), result.errors(), result.latencies(), pinned.get(), pinnedInApp.get());
+      }
+    }
+  }
+
+  private ConfigurableApplicationContext start(boolean virtualThreads, boolean ledger) {
+    return new SpringApplicationBuilder(BudgetToolApplication.class)
+            .profiles("test")
+            .properties(
+              "server.port=0",
+              "spring.threads.virtual.enabled=" + virtualThreads,
+              "analytics.ledger.enabled=" + ledger,
+              "spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+              "spring.jpa.show-sql=false",
+              "spring.jpa.properties.hibernate.generate_statistics=false",
+              "auth.login.rate-limit.username.capacity=100000")
+            .run();
+  }
+
+  /**
+   * Registers a user, logs in, and creates categories, budgets and a month of transactions.
+   *
+   * @return the user's bearer token and category IDs
+   */
+  private Seed seed(HttpClient client, String baseUrl) throws Exception {
+    String credentials = "{\"username\":\"load_" + UUID.randomUUID() + "\",\"password\":\"loadPassword\"}";
+    send(client, post(baseUrl + "/api/auth/register", null, credentials), 201);
+    String token = objectMapper.readTree(send(client, post(baseUrl + "/api/auth/login", null, credentials), 200))
+                     .get("token").asText();
+
+    StringBuilder batch = new StringBuilder("[");
+    long[] categoryIds = new long[5];
+    for (int i = 1; i <= 5; i++) {
+      JsonNode category = objectMapper.readTree(send(client, post(baseUrl + "/api/categories", token,
+        "{\"name\":\"Category " + i + "\",\"type\":\"EXPENSE\"}"), 201));
+      long categoryId = category.get("id").asLong();
+      categoryIds[i - 1] = categoryId;
+      send(client, post(baseUrl + "/api/budgets", token,
+        "{\"value\":500,\"month\":\"2025-05\",\"categoryId\":" + categoryId + "}"), 201);
+
+      for (int day = 1; day <= 28; day++) {
+        if (batch.length() > 1) {
+          batch.append(',');
+        }
+        batch.append("{\"amount\":12.50,\"categoryId\":").append(categoryId)
+             .append(",\"type\":\"EXPENSE\",\"date\":\"2025-05-").append(String.format("%02d", day))
+             .append("\",\"description\":\"Load ").append(i).append('-').append(day).append("\"}");
+      }
+    }
+    send(client, post(baseUrl + "/api/transactions/batch", token, batch.append(']').toString()), 200);
+    return new Seed(token, categoryIds);
+  }
+
+  /**
+   * Runs every client in a closed loop for the given window and collects per-request latencies.
+   */
+  private Result load(HttpClient client, String baseUrl, Seed seed, Duration window) throws Exception {
+    long deadline = System.nanoTime() + window.toNanos();
+    List<Future<long[]>> clients = new ArrayList<>(CLIENTS);
+    AtomicLong errors = new AtomicLong();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int c = 0; c < CLIENTS; c++) {
+        int offset = c;
+        clients.add(executor.submit(() -> {
+          long[] latencies = new long[1024];
+          int count = 0;
+          for (int i = offset; System.nanoTime() < deadline; i++) {
+            HttpRequest request = request(baseUrl, seed, i);
+            long start = System.nanoTime();
+            try {
+              HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+              if (response.statusCode() != (request.method().equals("POST") ? 201 : 200)) {
+                errors.incrementAndGet();
+              }
+            } catch (Exception e) {
+              errors.incrementAndGet();
+            }
+            if (count == latencies.length) {
+              latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+          }
+          return Arrays.copyOf(latencies, count);
+        }));
+      }
+    }
+
+    long[] all = clients.stream().map(ThreadModelLoadTest::join).flatMapToLong(Arrays::stream).sorted().toArray();
+    assertTrue(all.length > 0, "no requests completed");
+    return new Result(all.length, errors.get(), all, 0, 0);
+  }
+
+  /**
+   * Builds a client's i-th request: a category rename, a new transaction spread over five
+   * years of monthly rollups so writers rarely share a row, or one of the {@link #READS}.
+   */
+  private static HttpRequest request(String baseUrl, Seed seed, int i) {
+    long categoryId = seed.categoryIds()[i % seed.categoryIds().length];
+    if (i % RENAME_EVERY == 0) {
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/api/categories/" + categoryId))
+               .header("Authorization", "Bearer " + seed.token())
+               .header("Content-Type", "application/json")
+               .timeout(Duration.ofSeconds(60))
+               .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Renamed " + categoryId + "\",\"type\":\"EXPENSE\"}"))
+               .build();
+    }
+    if (i % WRITE_EVERY == 0) {
+      String date = String.format("%d-%02d-15", 2021 + i / 12 % 5, i % 12 + 1);
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/api/transactions"))
+               .header("Authorization", "Bearer " + seed.token())
+               .header("Content-Type", "application/json")
+               .timeout(Duration.ofSeconds(60))
+               .POST(HttpRequest.BodyPublishers.ofString("{\"amount\":3.25,\"categoryId\":" + categoryId
+                 + ",\"type\":\"EXPENSE\",\"date\":\"" + date + "\"}"))
+               .build();
+    }
+    return HttpRequest.newBuilder(URI.create(baseUrl + READS[i % READS.length]))
+             .header("Authorization", "Bearer " + seed.token())
+             .timeout(Duration.ofSeconds(60))
+             .build();
+  }
+
+  private static boolean inApplicationCode(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return false;
+    }
+    for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+      if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static HttpRequest post(String url, String token, String json) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(json));
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder.build();
+  }
+
+  private static String send(HttpClient client, HttpRequest request, int expectedStatus) throws Exception {
+    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    assertEquals(expectedStatus, response.statusCode(), request.uri() + ": " + response.body());
+    return response.body();
+  }
+
+  private static long[] join(Future<long[]> future) {
+    try {
+      return future.get();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Seed(String token, long[] categoryIds) {
+  }
+
+  private record Result(long requests, long errors, long[] latencies, long pinned, long pinnedInApp) {
+    double throughput() {
+      return requests / (double) MEASURED.toSeconds();
+    }
+
+    double p50Millis() {
+      return percentile(0.50);
+    }
+
+    double p99Millis() {
+      return percentile(0.99);
+    }
+
+    private double percentile(double p) {
+      int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+      return latencies[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+}
@@ -2,28 +2,49 @@ package com.stephenlindstrom.financeapp.budget_tool.integration;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.MonthlyRollup;
 import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.MonthlyRollupRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.service.MonthlyRollupService;
+import com.stephenlindstrom.financeapp.budget_tool.service.TransactionServiceImpl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
 
 public class TransactionControllerIntegrationTest extends AbstractIntegrationTest {
 
@@ -33,8 +54,18 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
   @Autowired
   private CategoryRepository categoryRepository;
 
+  @Autowired
+  private MonthlyRollupRepository monthlyRollupRepository;
+
+  @Autowired
+  private MonthlyRollupService monthlyRollupService;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
   @BeforeEach
   void setUp() {
+    monthlyRollupRepository.deleteAll();
     transactionRepository.deleteAll();
     categoryRepository.deleteAll();
   }
@@ -84,6 +115,185 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
             .andExpect(status().isBadRequest());
   }
 
+  @Test
+  void shouldCreateTransactionsInBatchAndReportFailedItems() throws Exception {
+    Category category = categoryRepository.save(
+      Category.builder()
+        .name("Groceries")
+        .type(TransactionType.EXPENSE)
+        .user(testUser)
+        .build()
+    );
+
+    List<TransactionCreateDTO> dtos = new ArrayList<>();
+    for (int day = 1; day <= 120; day++) {
+      dtos.add(TransactionCreateDTO.builder()
+                .amount(BigDecimal.valueOf(5.00))
+                .categoryId(category.getId())
+                .type(TransactionType.EXPENSE)
+                .date(LocalDate.of(2025, 1, 1).plusDays(day))
+                .description("Item " + day)
+                .build());
+    }
+    dtos.add(TransactionCreateDTO.builder()
+              .amount(BigDecimal.valueOf(5.00))
+              .categoryId(category.getId() + 1000)
+              .type(TransactionType.EXPENSE)
+              .build());
+
+    mockMvc.perform(post("/api/transactions/batch")
+            .with(bearerToken())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(dtos)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.created").value(120))
+          .andExpect(jsonPath("$.failed").value(1))
+          .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+          .andExpect(jsonPath("$.results[0].transaction.description").value("Item 1"))
+          .andExpect(jsonPath("$.results[120].status").value("FAILED"))
+          .andExpect(jsonPath("$.results[120].error").value("Category not found"));
+
+    entityManager.flush();
+    assertEquals(120, transactionRepository.findByUserIdOrderByDateDesc(testUser.getId()).size());
+    assertEquals(0, monthlyRollupService.verify(testUser));
+  }
+
+  @Test
+  void shouldReturn400WhenAmountHasFractionOfACent() throws Exception {
+    Category category = categoryRepository.save(
+      Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build()
+    );
+
+    TransactionCreateDTO dto = TransactionCreateDTO.builder()
+                                .amount(new BigDecimal("10.005"))
+                                .categoryId(category.getId())
+                                .type(TransactionType.EXPENSE)
+                                .date(LocalDate.of(2025, 6, 1))
+                                .build();
+
+    mockMvc.perform(post("/api/transactions")
+              .with(bearerToken())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldReturn400WhenBatchIsEmpty() throws Exception {
+    mockMvc.perform(post("/api/transactions/batch")
+            .with(bearerToken())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.message").value("Batch must contain between 1 and 5000 transactions"));
+  }
+
+  @Test
+  void shouldReturn400WhenBatchIsTooLarge() throws Exception {
+    String items = String.join(",", Collections.nCopies(TransactionServiceImpl.MAX_BATCH_SIZE + 1, "{}"));
+
+    mockMvc.perform(post("/api/transactions/batch")
+            .with(bearerToken())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + items + "]"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.message").value("Batch must contain between 1 and 5000 transactions"));
+
+    assertEquals(0, transactionRepository.findByUserIdOrderByDateDesc(testUser.getId()).size());
+  }
+
+  @Test
+  void shouldImportCsvAndReportRejectedLines() throws Exception {
+    categoryRepository.save(Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build());
+    categoryRepository.save(Category.builder().name("Salary").type(TransactionType.INCOME).user(testUser).build());
+
+    String csv = "Date,Description,Amount,Category\n"
+               + "2025-06-01,\"Fry's, weekly shop\",-84.20,groceries\n"
+               + "2025-06-15,Paycheck,2500.00,Salary\n"
+               + "2025-13-01,Bad date,-5.00,Groceries\n"
+               + "2025-06-20,Unknown,-5.00,Travel\n";
+
+    mockMvc.perform(post("/api/transactions/import")
+            .with(bearerToken())
+            .contentType("text/csv")
+            .content(csv))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.rowsRead").value(4))
+          .andExpect(jsonPath("$.imported").value(2))
+          .andExpect(jsonPath("$.failed").value(2))
+          .andExpect(jsonPath("$.errors[0].line").value(4))
+          .andExpect(jsonPath("$.errors[0].message").value("Invalid date '2025-13-01'"))
+          .andExpect(jsonPath("$.errors[1].line").value(5))
+          .andExpect(jsonPath("$.errors[1].message").value("Category not found: Travel"))
+          .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+    List<Transaction> transactions = transactionRepository.findByUserIdOrderByDateDesc(testUser.getId());
+    assertEquals(2, transactions.size());
+    assertEquals(TransactionType.INCOME, transactions.get(0).getType());
+    assertEquals(0, BigDecimal.valueOf(84.20).compareTo(transactions.get(1).getAmount().toBigDecimal()));
+    assertEquals(TransactionType.EXPENSE, transactions.get(1).getType());
+    assertEquals("Fry's, weekly shop", transactions.get(1).getDescription());
+    assertEquals(0, monthlyRollupService.verify(testUser));
+  }
+
+  @Test
+  void shouldImportCsvUsingCustomColumnMapping() throws Exception {
+    categoryRepository.save(Category.builder().name("Dining").type(TransactionType.EXPENSE).user(testUser).build());
+
+    String csv = "Posted;Memo;Value;Bucket;Kind\n"
+               + "06/03/2025;Lunch;12.75;Dining;DEBIT\n";
+
+    mockMvc.perform(post("/api/transactions/import")
+            .with(bearerToken())
+            .param("dateColumn", "Posted")
+            .param("descriptionColumn", "Memo")
+            .param("amountColumn", "Value")
+            .param("categoryColumn", "Bucket")
+            .param("typeColumn", "Kind")
+            .param("dateFormat", "MM/dd/yyyy")
+            .param("delimiter", ";")
+            .contentType("text/csv")
+            .content(csv))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.imported").value(1));
+
+    Transaction imported = transactionRepository.findByUserIdOrderByDateDesc(testUser.getId()).get(0);
+    assertEquals(LocalDate.of(2025, 6, 3), imported.getDate());
+    assertEquals(TransactionType.EXPENSE, imported.getType());
+    assertEquals("Lunch", imported.getDescription());
+  }
+
+  @Test
+  void shouldImportCsvLargerThanOneChunk() throws Exception {
+    categoryRepository.save(Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build());
+
+    StringBuilder csv = new StringBuilder("Date,Description,Amount,Category\n");
+    for (int i = 0; i < 1_203; i++) {
+      csv.append(LocalDate.of(2020, 1, 1).plusDays(i)).append(",Row ").append(i).append(",-1.00,Groceries\n");
+    }
+
+    mockMvc.perform(post("/api/transactions/import")
+            .with(bearerToken())
+            .contentType("text/csv")
+            .content(csv.toString()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.imported").value(1_203))
+          .andExpect(jsonPath("$.failed").value(0));
+
+    assertEquals(1_203, transactionRepository.findByUserIdOrderByDateDesc(testUser.getId()).size());
+    assertEquals(0, monthlyRollupService.verify(testUser));
+  }
+
+  @Test
+  void shouldReturn400WhenCsvIsMissingAColumn() throws Exception {
+    mockMvc.perform(post("/api/transactions/import")
+            .with(bearerToken())
+            .contentType("text/csv")
+            .content("Date,Amount\n2025-06-01,-5.00\n"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.message").value("CSV is missing column: Category"));
+  }
+
   @Test
   void shouldReturnAllTransactions() throws Exception {
     Category category = categoryRepository.save(
@@ -95,7 +305,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
     );
 
     Transaction transaction1 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(100.00))
+                                .amount(Money.of(BigDecimal.valueOf(100.00)))
                                 .category(category)
                                 .type(category.getType())
                                 .date(LocalDate.of(2025, 6, 12))
@@ -104,7 +314,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
                                 .build();
 
     Transaction transaction2 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(50.00))
+                                .amount(Money.of(BigDecimal.valueOf(50.00)))
                                 .category(category)
                                 .type(category.getType())
                                 .date(LocalDate.of(2025, 6, 4))
@@ -115,6 +325,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
     transactionRepository.saveAll(List.of(transaction1, transaction2));
 
     mockMvc.perform(get("/api/transactions")
+          .param("unpaged", "true")
           .with(bearerToken()))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.length()").value(2))
@@ -126,6 +337,172 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
           .andExpect(jsonPath("$[1].amount").value(50.00));
   }
 
+  @Test
+  void shouldPageThroughTransactionsNewestFirstUsingCursor() throws Exception {
+    Category category = categoryRepository.save(
+      Category.builder()
+        .name("Groceries")
+        .type(TransactionType.EXPENSE)
+        .user(testUser)
+        .build()
+    );
+
+    List<Transaction> saved = transactionRepository.saveAll(List.of(
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(10.00))).category(category).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 1)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(20.00))).category(category).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 3)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(30.00))).category(category).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 3)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(40.00))).category(category).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 3)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(50.00))).category(category).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 9)).user(testUser).build()
+    ));
+
+    // Newest date first, ties broken by the higher ID
+    List<Long> expectedOrder = List.of(
+      saved.get(4).getId(), saved.get(3).getId(), saved.get(2).getId(), saved.get(1).getId(), saved.get(0).getId()
+    );
+
+    List<Long> seen = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+
+    do {
+      MvcResult result = mockMvc.perform(get("/api/transactions")
+              .param("limit", "2")
+              .param("cursor", cursor)
+              .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andReturn();
+
+      JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+      page.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+      cursor = page.get("next").isNull() ? null : page.get("next").asText();
+      pages++;
+    } while (cursor != null);
+
+    assertEquals(3, pages);
+    assertEquals(expectedOrder, seen);
+  }
+
+  @Test
+  void shouldPageFilteredTransactions() throws Exception {
+    Category groceries = categoryRepository.save(
+      Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build()
+    );
+
+    Category salary = categoryRepository.save(
+      Category.builder().name("Salary").type(TransactionType.INCOME).user(testUser).build()
+    );
+
+    transactionRepository.saveAll(List.of(
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(10.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 1)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(3000.00))).category(salary).type(TransactionType.INCOME)
+        .date(LocalDate.of(2025, 6, 2)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(20.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 3)).user(testUser).build()
+    ));
+
+    MvcResult first = mockMvc.perform(get("/api/transactions/filter")
+              .param("type", "EXPENSE")
+              .param("limit", "1")
+              .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].amount").value(20.00))
+            .andExpect(jsonPath("$.next").isNotEmpty())
+            .andReturn();
+
+    String next = objectMapper.readTree(first.getResponse().getContentAsString()).get("next").asText();
+
+    mockMvc.perform(get("/api/transactions/filter")
+              .param("type", "EXPENSE")
+              .param("limit", "1")
+              .param("cursor", next)
+              .with(bearerToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].amount").value(10.00))
+            .andExpect(jsonPath("$.next").isEmpty());
+  }
+
+  @Test
+  void shouldReturn400WhenPagingWithInvalidCursor() throws Exception {
+    mockMvc.perform(get("/api/transactions")
+              .param("cursor", "not-a-cursor")
+              .with(bearerToken()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid cursor"));
+  }
+
+  @Test
+  void shouldReturn400WhenPagingWithLimitOutOfRange() throws Exception {
+    mockMvc.perform(get("/api/transactions")
+              .param("limit", "0")
+              .with(bearerToken()))
+            .andExpect(status().isBadRequest());
+
+    mockMvc.perform(get("/api/transactions/filter")
+              .param("limit", "501")
+              .with(bearerToken()))
+            .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
+  void shouldStreamAllTransactionsAsNdjson() throws Exception {
+    // The export is written on an async thread in its own transaction,
+    // so this test commits its data and removes it afterwards
+    try {
+      Category groceries = categoryRepository.save(
+        Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build()
+      );
+
+      transactionRepository.saveAll(List.of(
+        Transaction.builder().amount(Money.of(BigDecimal.valueOf(10.00))).category(groceries).type(TransactionType.EXPENSE)
+          .date(LocalDate.of(2024, 1, 5)).description("first").user(testUser).build(),
+        Transaction.builder().amount(Money.of(BigDecimal.valueOf(20.00))).category(groceries).type(TransactionType.EXPENSE)
+          .date(LocalDate.of(2025, 6, 3)).description("latest").user(testUser).build(),
+        Transaction.builder().amount(Money.of(BigDecimal.valueOf(30.00))).category(groceries).type(TransactionType.EXPENSE)
+          .date(LocalDate.of(2024, 11, 20)).description("middle").user(testUser).build()
+      ));
+
+      MvcResult started = mockMvc.perform(get("/api/transactions/stream")
+              .with(bearerToken()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+      String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+      String[] lines = body.split("\n");
+      assertEquals(3, lines.length);
+      assertTrue(body.endsWith("\n"));
+
+      JsonNode first = objectMapper.readTree(lines[0]);
+      assertEquals("latest", first.get("description").asText());
+      assertEquals("2025-06-03", first.get("date").asText());
+      assertEquals("Groceries", first.get("category").get("name").asText());
+      assertEquals("middle", objectMapper.readTree(lines[1]).get("description").asText());
+      assertEquals("first", objectMapper.readTree(lines[2]).get("description").asText());
+    } finally {
+      userRepository.delete(testUser);
+    }
+  }
+
+  @Test
+  void shouldReturn401WhenStreamingWithoutToken() throws Exception {
+    mockMvc.perform(get("/api/transactions/stream"))
+            .andExpect(status().isUnauthorized());
+  }
+
   @Test
   void shouldOnlyReturnCurrentUserTransactions() throws Exception {
     User anotherUser = userRepository.save(
@@ -149,7 +526,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
     );
 
     Transaction transaction1 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(100.00))
+                                .amount(Money.of(BigDecimal.valueOf(100.00)))
                                 .category(category1)
                                 .type(category1.getType())
                                 .date(LocalDate.of(2025, 6, 12))
@@ -158,7 +535,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
                                 .build();
 
     Transaction transaction2 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(50.00))
+                                .amount(Money.of(BigDecimal.valueOf(50.00)))
                                 .category(category1)
                                 .type(category1.getType())
                                 .date(LocalDate.of(2025, 6, 4))
@@ -167,7 +544,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
                                 .build();
     
     Transaction transaction3 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(75.00))
+                                .amount(Money.of(BigDecimal.valueOf(75.00)))
                                 .category(category2)
                                 .type(category2.getType())
                                 .date(LocalDate.of(2025, 7, 5))
@@ -178,6 +555,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
     transactionRepository.saveAll(List.of(transaction1, transaction2, transaction3));
 
     mockMvc.perform(get("/api/transactions")
+            .param("unpaged", "true")
             .with(bearerToken()))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.length()").value(2))
@@ -197,7 +575,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
     );
 
     Transaction transaction1 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(100.00))
+                                .amount(Money.of(BigDecimal.valueOf(100.00)))
                                 .category(category)
                                 .type(category.getType())
                                 .date(LocalDate.of(2025, 6, 12))
@@ -206,7 +584,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
                                 .build();
 
     Transaction transaction2 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(50.00))
+                                .amount(Money.of(BigDecimal.valueOf(50.00)))
                                 .category(category)
                                 .type(category.getType())
                                 .date(LocalDate.of(2025, 6, 4))
@@ -215,7 +593,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
                                 .build();
 
     Transaction transaction3 = Transaction.builder()
-                                .amount(BigDecimal.valueOf(25.00))
+                                .amount(Money.of(BigDecimal.valueOf(25.00)))
                                 .category(category)
                                 .type(category.getType())
                                 .date(LocalDate.of(2024, 11, 23))
@@ -226,6 +604,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
     transactionRepository.saveAll(List.of(transaction1, transaction2, transaction3));
 
     mockMvc.perform(get("/api/transactions/filter")
+            .param("unpaged", "true")
             .param("startDate", "2025-06-01")
             .with(bearerToken()))
           .andExpect(status().isOk())
@@ -234,6 +613,274 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
           .andExpect(jsonPath("$[1].date").value("2025-06-04"));
   }
 
+  @Test
+  void shouldFilterTransactionsByTypeCategoryAndDateRange() throws Exception {
+    Category groceries = categoryRepository.save(
+      Category.builder()
+        .name("Groceries")
+        .type(TransactionType.EXPENSE)
+        .user(testUser)
+        .build()
+    );
+
+    Category salary = categoryRepository.save(
+      Category.builder()
+        .name("Salary")
+        .type(TransactionType.INCOME)
+        .user(testUser)
+        .build()
+    );
+
+    transactionRepository.saveAll(List.of(
+      Transaction.builder()
+        .amount(Money.of(BigDecimal.valueOf(100.00)))
+        .category(groceries)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 12))
+        .description("Fry's")
+        .user(testUser)
+        .build(),
+      Transaction.builder()
+        .amount(Money.of(BigDecimal.valueOf(50.00)))
+        .category(groceries)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 5, 4))
+        .description("Whole Foods")
+        .user(testUser)
+        .build(),
+      Transaction.builder()
+        .amount(Money.of(BigDecimal.valueOf(2000.00)))
+        .category(salary)
+        .type(TransactionType.INCOME)
+        .date(LocalDate.of(2025, 6, 1))
+        .description("Paycheck")
+        .user(testUser)
+        .build()
+    ));
+
+    mockMvc.perform(get("/api/transactions/filter")
+            .param("unpaged", "true")
+            .param("type", "INCOME")
+            .with(bearerToken()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].description").value("Paycheck"));
+
+    mockMvc.perform(get("/api/transactions/filter")
+            .param("unpaged", "true")
+            .param("categoryId", groceries.getId().toString())
+            .with(bearerToken()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(2))
+          .andExpect(jsonPath("$[0].date").value("2025-06-12"))
+          .andExpect(jsonPath("$[1].date").value("2025-05-04"));
+
+    mockMvc.perform(get("/api/transactions/filter")
+            .param("unpaged", "true")
+            .param("type", "EXPENSE")
+            .param("categoryId", groceries.getId().toString())
+            .param("startDate", "2025-05-01")
+            .param("endDate", "2025-05-31")
+            .with(bearerToken()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].description").value("Whole Foods"));
+  }
+
+  @Test
+  void shouldOnlyFetchMatchingRowsWhenFiltering() throws Exception {
+    Category category = categoryRepository.save(
+      Category.builder()
+        .name("Groceries")
+        .type(TransactionType.EXPENSE)
+        .user(testUser)
+        .build()
+    );
+
+    List<Transaction> transactions = new ArrayList<>();
+    for (int day = 1; day <= 28; day++) {
+      transactions.add(Transaction.builder()
+        .amount(Money.of(BigDecimal.valueOf(10.00)))
+        .category(category)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 2, day))
+        .description("Day " + day)
+        .user(testUser)
+        .build());
+    }
+    transactionRepository.saveAll(transactions);
+
+    // Detach everything so the filter query has to read rows from the database
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+                              .unwrap(SessionFactory.class)
+                              .getStatistics();
+    statistics.clear();
+
+    mockMvc.perform(get("/api/transactions/filter")
+            .param("unpaged", "true")
+            .param("startDate", "2025-02-10")
+            .param("endDate", "2025-02-12")
+            .with(bearerToken()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(3));
+
+    // Matching rows are read as projections, so no entities are materialized at all
+    assertEquals(0, statistics.getEntityStatistics(Transaction.class.getName()).getLoadCount());
+    assertEquals(0, statistics.getEntityStatistics(Category.class.getName()).getLoadCount());
+  }
+
+  @Test
+  void shouldSumExpensesForCategoryAndMonthInDatabase() {
+    Category groceries = categoryRepository.save(
+      Category.builder()
+        .name("Groceries")
+        .type(TransactionType.EXPENSE)
+        .user(testUser)
+        .build()
+    );
+
+    monthlyRollupService.recordAll(transactionRepository.saveAll(List.of(
+      Transaction.builder()
+        .amount(Money.of(new BigDecimal("100.25")))
+        .category(groceries)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 5, 1))
+        .user(testUser)
+        .build(),
+      Transaction.builder()
+        .amount(Money.of(new BigDecimal("49.75")))
+        .category(groceries)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 5, 31))
+        .user(testUser)
+        .build(),
+      Transaction.builder()
+        .amount(Money.of(new BigDecimal("500.00")))
+        .category(groceries)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 1))
+        .user(testUser)
+        .build()
+    )));
+
+    long spent = monthlyRollupRepository.sumCentsByCategoryAndMonth(
+      testUser.getId(), groceries.getId(), YearMonth.of(2025, 5), TransactionType.EXPENSE);
+    long none = monthlyRollupRepository.sumCentsByCategoryAndMonth(
+      testUser.getId(), groceries.getId(), YearMonth.of(2025, 4), TransactionType.EXPENSE);
+
+    assertEquals(15_000, spent);
+    assertEquals(0, none);
+  }
+
+  @Test
+  void shouldMaintainMonthlyRollupsAcrossCreateUpdateAndDelete() throws Exception {
+    Category groceries = categoryRepository.save(
+      Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build()
+    );
+
+    Category dining = categoryRepository.save(
+      Category.builder().name("Dining").type(TransactionType.EXPENSE).user(testUser).build()
+    );
+
+    Long firstId = createTransaction(groceries, 40.00, LocalDate.of(2025, 6, 3));
+    Long secondId = createTransaction(groceries, 60.00, LocalDate.of(2025, 6, 20));
+
+    MonthlyRollup june = findRollup(groceries, YearMonth.of(2025, 6));
+    assertEquals(0, BigDecimal.valueOf(100.00).compareTo(june.getTotal().toBigDecimal()));
+    assertEquals(2, june.getCount());
+
+    TransactionCreateDTO moved = TransactionCreateDTO.builder()
+                                  .amount(BigDecimal.valueOf(25.00))
+                                  .categoryId(dining.getId())
+                                  .type(TransactionType.EXPENSE)
+                                  .date(LocalDate.of(2025, 7, 1))
+                                  .description("moved")
+                                  .build();
+
+    mockMvc.perform(put("/api/transactions/{id}", firstId)
+              .with(bearerToken())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(moved)))
+            .andExpect(status().isOk());
+
+    june = findRollup(groceries, YearMonth.of(2025, 6));
+    assertEquals(0, BigDecimal.valueOf(60.00).compareTo(june.getTotal().toBigDecimal()));
+    assertEquals(1, june.getCount());
+
+    MonthlyRollup july = findRollup(dining, YearMonth.of(2025, 7));
+    assertEquals(0, BigDecimal.valueOf(25.00).compareTo(july.getTotal().toBigDecimal()));
+    assertEquals(1, july.getCount());
+
+    mockMvc.perform(delete("/api/transactions/{id}", secondId)
+              .with(bearerToken()))
+            .andExpect(status().isNoContent());
+
+    june = findRollup(groceries, YearMonth.of(2025, 6));
+    assertEquals(0, BigDecimal.ZERO.compareTo(june.getTotal().toBigDecimal()));
+    assertEquals(0, june.getCount());
+
+    assertEquals(0, monthlyRollupService.verify(testUser));
+  }
+
+  @Test
+  void shouldRebuildMonthlyRollupsFromTransactions() {
+    Category groceries = categoryRepository.save(
+      Category.builder().name("Groceries").type(TransactionType.EXPENSE).user(testUser).build()
+    );
+
+    transactionRepository.saveAll(List.of(
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(40.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 5, 31)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(60.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 1)).user(testUser).build(),
+      Transaction.builder().amount(Money.of(BigDecimal.valueOf(15.00))).category(groceries).type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 30)).user(testUser).build()
+    ));
+
+    // Saved directly through the repository, so the rollups have drifted
+    assertEquals(2, monthlyRollupService.verify(testUser));
+
+    assertEquals(2, monthlyRollupService.rebuild(testUser));
+    assertEquals(0, monthlyRollupService.verify(testUser));
+
+    MonthlyRollup june = findRollup(groceries, YearMonth.of(2025, 6));
+    assertEquals(0, BigDecimal.valueOf(75.00).compareTo(june.getTotal().toBigDecimal()));
+    assertEquals(2, june.getCount());
+  }
+
+  private Long createTransaction(Category category, double amount, LocalDate date) throws Exception {
+    TransactionCreateDTO dto = TransactionCreateDTO.builder()
+                                .amount(BigDecimal.valueOf(amount))
+                                .categoryId(category.getId())
+                                .type(category.getType())
+                                .date(date)
+                                .build();
+
+    MvcResult result = mockMvc.perform(post("/api/transactions")
+              .with(bearerToken())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+    return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+  }
+
+  private MonthlyRollup findRollup(Category category, YearMonth month) {
+    // Rollups are written with native upserts, so drop any copies loaded earlier in this transaction
+    entityManager.flush();
+    entityManager.clear();
+    return monthlyRollupRepository.findByUser(testUser).stream()
+      .filter(rollup -> rollup.getCategory().getId().equals(category.getId())
+          && rollup.getMonth().equals(month)
+          && rollup.getType() == category.getType())
+      .findFirst()
+      .orElseThrow();
+  }
+
   @Test 
   void shouldUpdateTransactionById() throws Exception {
     Category category1 = categoryRepository.save(
@@ -256,7 +903,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
 
     Transaction transaction = transactionRepository.save(
       Transaction.builder()
-        .amount(BigDecimal.valueOf(100.00))
+        .amount(Money.of(BigDecimal.valueOf(100.00)))
         .category(category1)
         .type(TransactionType.EXPENSE)
         .date(LocalDate.of(2025, 5, 31))
@@ -324,7 +971,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
 
     Transaction transaction = transactionRepository.save(
       Transaction.builder()
-        .amount(BigDecimal.valueOf(100.00))
+        .amount(Money.of(BigDecimal.valueOf(100.00)))
         .category(category)
         .type(TransactionType.EXPENSE)
         .date(LocalDate.of(2025, 5, 31))
@@ -361,7 +1008,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
 
     Transaction transaction1 = transactionRepository.save(
       Transaction.builder()
-          .amount(BigDecimal.valueOf(100.00))
+          .amount(Money.of(BigDecimal.valueOf(100.00)))
           .category(category)
           .type(category.getType())
           .date(LocalDate.of(2025, 6, 12))
@@ -374,7 +1021,7 @@ public class TransactionControllerIntegrationTest extends AbstractIntegrationTes
           .with(bearerToken()))
           .andExpect(status().isNoContent());
 
-    assertFalse(transactionRepository.findByIdAndUser(transaction1.getId(), testUser).isPresent());
+    assertFalse(transactionRepository.findByIdAndUserId(transaction1.getId(), testUser.getId()).isPresent());
   }
 
   @Test
@@ -0,0 +1,68 @@
+package com.stephenlindstrom.financeapp.budget_tool.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+  @Test
+  void testOf_WithUpToTwoDecimalPlaces_ReturnsExactCents() {
+    // Act and Assert
+    assertEquals(1234L, Money.of(new BigDecimal("12.34")).cents());
+    assertEquals(1250L, Money.of(new BigDecimal("12.5")).cents());
+    assertEquals(1200L, Money.of(new BigDecimal("12")).cents());
+    assertEquals(-705L, Money.of(new BigDecimal("-7.05")).cents());
+  }
+
+  @Test
+  void testOf_WithTrailingZeros_IgnoresThem() {
+    // Act and Assert
+    assertEquals(1250L, Money.of(new BigDecimal("12.5000")).cents());
+  }
+
+  @Test
+  void testOf_WithFractionOfACent_ThrowsIllegalArgumentException() {
+    // Act and Assert
+    assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("12.345")));
+  }
+
+  @Test
+  void testOf_BeyondLongRange_ThrowsIllegalArgumentException() {
+    // Act and Assert
+    assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("100000000000000000000")));
+  }
+
+  @Test
+  void testToBigDecimal_AlwaysHasTwoDecimalPlaces() {
+    // Act
+    BigDecimal value = Money.ofCents(50_000).toBigDecimal();
+
+    // Assert
+    assertEquals(new BigDecimal("500.00"), value);
+    assertEquals("500.00", Money.ofCents(50_000).toString());
+    assertEquals("0.07", Money.ofCents(7).toString());
+  }
+
+  @Test
+  void testPlusAndMinus_ComputeInCents() {
+    // Arrange
+    Money budgeted = Money.of(new BigDecimal("500.00"));
+    Money spent = Money.of(new BigDecimal("150.25"));
+
+    // Act and Assert
+    assertEquals(Money.ofCents(34_975), budgeted.minus(spent));
+    assertEquals(Money.ofCents(65_025), budgeted.plus(spent));
+    assertSame(Money.ZERO, spent.minus(spent));
+  }
+
+  @Test
+  void testPlus_OnOverflow_ThrowsArithmeticException() {
+    // Act and Assert
+    assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+  }
+}
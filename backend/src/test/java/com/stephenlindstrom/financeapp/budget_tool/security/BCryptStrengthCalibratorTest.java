@@ -0,0 +1,34 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class BCryptStrengthCalibratorTest {
+
+  // Simulated host where strength 10 takes 60ms and each step doubles it
+  private static long hashNanos(int strength) {
+    return Duration.ofMillis(60).toNanos() << (strength - 10);
+  }
+
+  @Test
+  void testCalibrate_PicksStrongestStrengthWithinTarget() {
+    assertEquals(12, BCryptStrengthCalibrator.calibrate(Duration.ofMillis(250), 10, 14, BCryptStrengthCalibratorTest::hashNanos));
+    assertEquals(13, BCryptStrengthCalibrator.calibrate(Duration.ofMillis(480), 10, 14, BCryptStrengthCalibratorTest::hashNanos));
+  }
+
+  @Test
+  void testCalibrate_ClampsToConfiguredRange() {
+    assertEquals(10, BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 10, 14, BCryptStrengthCalibratorTest::hashNanos));
+    assertEquals(14, BCryptStrengthCalibrator.calibrate(Duration.ofSeconds(60), 10, 14, BCryptStrengthCalibratorTest::hashNanos));
+  }
+
+  @Test
+  void testCalibrate_WithInvalidRange_ThrowsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+      () -> BCryptStrengthCalibrator.calibrate(Duration.ofMillis(250), 12, 10, BCryptStrengthCalibratorTest::hashNanos));
+  }
+}
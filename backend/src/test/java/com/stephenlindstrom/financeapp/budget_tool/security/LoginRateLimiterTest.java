@@ -0,0 +1,127 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.stephenlindstrom.financeapp.budget_tool.errors.TooManyRequestsException;
+
+public class LoginRateLimiterTest {
+
+  private AtomicLong now;
+  private LoginRateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    now = new AtomicLong(1_000_000_000L);
+    limiter = new LoginRateLimiter(
+      new LoginRateLimiter.Limit(3, Duration.ofMinutes(1)),
+      new LoginRateLimiter.Limit(5, Duration.ofMinutes(1)),
+      now::get);
+  }
+
+  @Test
+  void testCheckLoginAttempt_BeyondUsernameCapacity_ThrowsWithRetryAfter() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      limiter.checkLoginAttempt("alice", "10.0.0." + i);
+    }
+
+    // Act
+    TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+      () -> limiter.checkLoginAttempt("ALICE ", "10.0.0.9"));
+
+    // Assert
+    assertEquals("Too many login attempts for this user", ex.getMessage());
+    assertEquals(Duration.ofSeconds(20), ex.getRetryAfter());
+  }
+
+  @Test
+  void testCheckLoginAttempt_BeyondIpCapacity_ThrowsForAnyUsername() {
+    // Arrange
+    for (int i = 0; i < 5; i++) {
+      limiter.checkLoginAttempt("user" + i, "10.0.0.1");
+    }
+
+    // Act and Assert
+    TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+      () -> limiter.checkLoginAttempt("someoneElse", "10.0.0.1"));
+    assertEquals("Too many login attempts from this address", ex.getMessage());
+    assertDoesNotThrow(() -> limiter.checkLoginAttempt("someoneElse", "10.0.0.2"));
+  }
+
+  @Test
+  void testCheckLoginAttempt_AfterRefillInterval_AllowsAnotherAttempt() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      limiter.checkLoginAttempt("alice", "10.0.0.1");
+    }
+    assertThrows(TooManyRequestsException.class, () -> limiter.checkLoginAttempt("alice", "10.0.0.1"));
+
+    // Act
+    now.addAndGet(Duration.ofSeconds(20).toNanos());
+
+    // Assert
+    assertDoesNotThrow(() -> limiter.checkLoginAttempt("alice", "10.0.0.1"));
+    assertThrows(TooManyRequestsException.class, () -> limiter.checkLoginAttempt("alice", "10.0.0.1"));
+  }
+
+  @Test
+  void testCheckLoginAttempt_WhenUsernameBucketIsEmpty_LeavesIpTokens() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      limiter.checkLoginAttempt("alice", "10.0.0." + i);
+    }
+    for (int i = 0; i < 10; i++) {
+      assertThrows(TooManyRequestsException.class, () -> limiter.checkLoginAttempt("alice", "10.0.0.9"));
+    }
+
+    // Act and Assert
+    for (int i = 0; i < 5; i++) {
+      String username = "user" + i;
+      assertDoesNotThrow(() -> limiter.checkLoginAttempt(username, "10.0.0.9"));
+    }
+  }
+
+  @Test
+  void testCheckLoginAttempt_WhenIpBucketIsEmpty_LeavesUsernameTokens() {
+    // Arrange
+    for (int i = 0; i < 5; i++) {
+      limiter.checkLoginAttempt("user" + i, "10.0.0.1");
+    }
+    for (int i = 0; i < 10; i++) {
+      assertThrows(TooManyRequestsException.class, () -> limiter.checkLoginAttempt("alice", "10.0.0.1"));
+    }
+
+    // Act and Assert
+    for (int i = 0; i < 3; i++) {
+      String ip = "10.0.1." + i;
+      assertDoesNotThrow(() -> limiter.checkLoginAttempt("alice", ip));
+    }
+  }
+
+  @Test
+  void testRecordSuccessfulLogin_ResetsUsernameAndRefundsIpToken() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      limiter.checkLoginAttempt("alice", "10.0.0.1");
+    }
+
+    // Act
+    limiter.recordSuccessfulLogin("Alice", "10.0.0.1");
+
+    // Assert
+    for (int i = 0; i < 3; i++) {
+      assertDoesNotThrow(() -> limiter.checkLoginAttempt("alice", "10.0.0.1"));
+    }
+    TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+      () -> limiter.checkLoginAttempt("bob", "10.0.0.1"));
+    assertEquals("Too many login attempts from this address", ex.getMessage());
+  }
+}
@@ -0,0 +1,78 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.stephenlindstrom.financeapp.budget_tool.errors.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PasswordHashingExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private PasswordHashingExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void testRun_ReturnsTaskResult() {
+    assertEquals("hash", executor.run(() -> "hash"));
+  }
+
+  @Test
+  void testRun_WhenPoolAndQueueAreFull_ShedsImmediately() throws Exception {
+    // Arrange: occupy the single thread and the single queue slot
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.run(() -> {
+      started.countDown();
+      await(release);
+      return "first";
+    }));
+    started.await();
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.run(() -> "second"));
+    while (meterRegistry.get("auth.hashing.queue.size").gauge().value() < 1) {
+      Thread.onSpinWait();
+    }
+
+    // Act and Assert
+    assertThrows(ServiceOverloadedException.class, () -> executor.run(() -> "third"));
+    assertEquals(1.0, meterRegistry.get("auth.hashing.rejected").counter().count());
+
+    release.countDown();
+    assertEquals("first", running.get());
+    assertEquals("second", queued.get());
+  }
+
+  @Test
+  void testRun_WhenTaskThrows_RethrowsItsException() {
+    assertThrows(IllegalStateException.class, () -> executor.run(() -> {
+      throw new IllegalStateException("boom");
+    }));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
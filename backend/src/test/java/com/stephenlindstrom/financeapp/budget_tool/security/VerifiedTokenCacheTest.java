@@ -0,0 +1,148 @@
+package com.stephenlindstrom.financeapp.budget_tool.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.stephenlindstrom.financeapp.budget_tool.service.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTest {
+
+  @Mock
+  private JwtService jwtService;
+
+  private MutableClock clock;
+  private SimpleMeterRegistry meterRegistry;
+  private VerifiedTokenCache cache;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-06-01T12:00:00Z"));
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new VerifiedTokenCache(jwtService, 100, Duration.ofMinutes(15), meterRegistry, clock);
+  }
+
+  @Test
+  void testVerify_WithRepeatedToken_VerifiesSignatureOnce() {
+    // Arrange
+    when(jwtService.validateAndParse("token")).thenReturn(claims("alice", clock.instant().plus(Duration.ofHours(24))));
+
+    // Act
+    VerifiedTokenCache.VerifiedToken first = cache.verify("token");
+    VerifiedTokenCache.VerifiedToken second = cache.verify("token");
+
+    // Assert
+    verify(jwtService, times(1)).validateAndParse("token");
+    assertEquals("alice", first.subject());
+    assertEquals(7L, first.userId());
+    assertEquals(first, second);
+    assertEquals(0.5, cache.hitRate());
+    assertEquals(0.5, meterRegistry.get("jwt.cache.hit.rate").gauge().value());
+  }
+
+  @Test
+  void testVerify_AfterTokenExpires_VerifiesAgainInsteadOfServingCachedEntry() {
+    // Arrange
+    when(jwtService.validateAndParse("token"))
+      .thenReturn(claims("alice", clock.instant().plus(Duration.ofSeconds(30))))
+      .thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+    cache.verify("token");
+
+    // Act
+    clock.advance(Duration.ofSeconds(31));
+
+    // Assert
+    assertThrows(ExpiredJwtException.class, () -> cache.verify("token"));
+    verify(jwtService, times(2)).validateAndParse("token");
+  }
+
+  @Test
+  void testVerify_AfterTimeToLive_VerifiesAgain() {
+    // Arrange
+    when(jwtService.validateAndParse("token")).thenReturn(claims("alice", clock.instant().plus(Duration.ofHours(24))));
+
+    cache.verify("token");
+
+    // Act
+    clock.advance(Duration.ofMinutes(16));
+    cache.verify("token");
+
+    // Assert
+    verify(jwtService, times(2)).validateAndParse("token");
+  }
+
+  @Test
+  void testVerify_WithInvalidToken_DoesNotCacheFailure() {
+    // Arrange
+    when(jwtService.validateAndParse("bad")).thenThrow(new MalformedJwtException("bad token"));
+
+    // Act and Assert
+    assertThrows(MalformedJwtException.class, () -> cache.verify("bad"));
+    assertThrows(MalformedJwtException.class, () -> cache.verify("bad"));
+    verify(jwtService, times(2)).validateAndParse("bad");
+  }
+
+  @Test
+  void testVerify_WithEmptyToken_ThrowsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> cache.verify(""));
+    assertThrows(IllegalArgumentException.class, () -> cache.verify(null));
+  }
+
+  private static Claims claims(String subject, Instant expiresAt) {
+    Claims claims = Jwts.claims()
+            .setSubject(subject)
+            .setExpiration(Date.from(expiresAt));
+    claims.put(JwtService.USER_ID_CLAIM, 7);
+    return claims;
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
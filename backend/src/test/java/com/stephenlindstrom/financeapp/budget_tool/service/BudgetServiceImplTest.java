@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -27,21 +28,29 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetMonthSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetSummaryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.MonthDTO;
-import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
-import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
 import com.stephenlindstrom.financeapp.budget_tool.model.Budget;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.BudgetRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.MonthlyRollupRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.BudgetSpending;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
 
 @ExtendWith(MockitoExtension.class)
 public class BudgetServiceImplTest {
@@ -52,11 +61,23 @@ public class BudgetServiceImplTest {
   private CategoryRepository categoryRepository;
 
   @Mock
-  private TransactionService transactionService;
+  private MonthlyRollupRepository monthlyRollupRepository;
 
   @Mock
   private UserService userService;
 
+  @Mock
+  private DataVersionService dataVersionService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CategoryCache categoryCache;
+
+  @Mock
+  private LedgerCache ledgerCache;
+
   @InjectMocks
   private BudgetServiceImpl budgetService;
 
@@ -68,7 +89,9 @@ public class BudgetServiceImplTest {
   @BeforeEach
   void setup() {
     mockUser = User.builder().id(1L).username("mockUser").build();
-    when(userService.getAuthenticatedUser()).thenReturn(mockUser);
+    // Write paths need the owning entity, read paths only its ID
+    lenient().when(userService.getAuthenticatedUser()).thenReturn(mockUser);
+    lenient().when(userService.getAuthenticatedUserId()).thenReturn(mockUser.getId());
   }
 
   @Test
@@ -95,21 +118,22 @@ public class BudgetServiceImplTest {
 
     Budget savedBudget = Budget.builder()
             .id(1L)
-            .value(BigDecimal.valueOf(500.00))
+            .value(Money.of(BigDecimal.valueOf(500.00)))
             .month(YearMonth.of(2025, 5))
             .category(savedCategory)
             .user(mockUser)
             .build();
     
     when(budgetRepository.save(budgetCaptor.capture())).thenReturn(savedBudget);
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(savedCategory));
+    when(categoryCache.find(mockUser.getId(), 1L)).thenReturn(Optional.of(toRow(savedCategory)));
+    when(categoryRepository.getReferenceById(1L)).thenReturn(savedCategory);
 
     // Act
     BudgetDTO result = budgetService.create(dto);
 
     // Assert
     assertEquals(1, result.getId());
-    assertEquals(BigDecimal.valueOf(500.00), result.getValue());
+    assertEquals(new BigDecimal("500.00"), result.getValue());
     assertEquals(YearMonth.of(2025, 5), result.getMonth());
     assertEquals(categoryDTO.getId(), result.getCategory().getId());
     assertEquals(categoryDTO.getName(), result.getCategory().getName());
@@ -131,7 +155,7 @@ public class BudgetServiceImplTest {
 
     Budget savedBudget1 = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(500.00))
+          .value(Money.of(BigDecimal.valueOf(500.00)))
           .month(YearMonth.of(2025, 5))
           .category(savedCategory)
           .user(mockUser)
@@ -139,7 +163,7 @@ public class BudgetServiceImplTest {
 
     Budget savedBudget2 = Budget.builder()
           .id(2L)
-          .value(BigDecimal.valueOf(300.00))
+          .value(Money.of(BigDecimal.valueOf(300.00)))
           .month(YearMonth.of(2025, 4))
           .category(savedCategory)
           .user(mockUser)
@@ -147,7 +171,7 @@ public class BudgetServiceImplTest {
 
     List<Budget> budgetList = new ArrayList<>(Arrays.asList(savedBudget1, savedBudget2));
 
-    when(budgetRepository.findByUserOrderByMonthDesc(mockUser)).thenReturn(budgetList);
+    when(budgetRepository.findRowsByUserId(mockUser.getId())).thenReturn(toRows(budgetList));
 
     // Act
     List<BudgetDTO> dtos = budgetService.getAll();
@@ -156,8 +180,8 @@ public class BudgetServiceImplTest {
     assertEquals(2, dtos.size());
     assertEquals(1L, dtos.get(0).getId());
     assertEquals(2L, dtos.get(1).getId());
-    assertEquals(BigDecimal.valueOf(500.00), dtos.get(0).getValue());
-    assertEquals(BigDecimal.valueOf(300.00), dtos.get(1).getValue());
+    assertEquals(new BigDecimal("500.00"), dtos.get(0).getValue());
+    assertEquals(new BigDecimal("300.00"), dtos.get(1).getValue());
     assertEquals(YearMonth.of(2025, 5), dtos.get(0).getMonth());
     assertEquals(YearMonth.of(2025, 4), dtos.get(1).getMonth());
     assertEquals(1L, dtos.get(0).getCategory().getId());
@@ -167,20 +191,20 @@ public class BudgetServiceImplTest {
     assertEquals(TransactionType.EXPENSE, dtos.get(0).getCategory().getType());
     assertEquals(TransactionType.EXPENSE, dtos.get(1).getCategory().getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testGetAll_WithNoEntries_ReturnsEmptyList() {
     // Arrange
-    when(budgetRepository.findByUserOrderByMonthDesc(mockUser)).thenReturn(Collections.emptyList());
+    when(budgetRepository.findRowsByUserId(mockUser.getId())).thenReturn(Collections.emptyList());
 
     // Act
     List<BudgetDTO> dtos = budgetService.getAll();
 
     // Assert
     assertTrue(dtos.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -195,14 +219,14 @@ public class BudgetServiceImplTest {
 
     Budget savedBudget = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(500.00))
+          .value(Money.of(BigDecimal.valueOf(500.00)))
           .month(YearMonth.of(2025, 5))
           .category(savedCategory)
           .user(mockUser)
           .build();
 
 
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(savedBudget));
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(savedBudget));
     
     // Act
     Optional<BudgetDTO> result = budgetService.getById(1L);
@@ -210,26 +234,26 @@ public class BudgetServiceImplTest {
 
     // Assert
     assertEquals(1L, dto.getId());
-    assertEquals(BigDecimal.valueOf(500.00), dto.getValue());
+    assertEquals(new BigDecimal("500.00"), dto.getValue());
     assertEquals(YearMonth.of(2025, 5), dto.getMonth());
     assertEquals(1L, dto.getCategory().getId());
     assertEquals("Groceries", dto.getCategory().getName());
     assertEquals(TransactionType.EXPENSE, dto.getCategory().getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testGetById_IdDoesNotExist_ReturnsOptionalEmpty() {
     // Arrange
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
 
     // Act
     Optional<BudgetDTO> result = budgetService.getById(1L);
 
     // Assert
     assertTrue(result.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -244,7 +268,7 @@ public class BudgetServiceImplTest {
 
     Budget existingBudget = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(500.00))
+          .value(Money.of(BigDecimal.valueOf(500.00)))
           .month(YearMonth.of(2025, 5))
           .category(category)
           .user(mockUser)
@@ -252,7 +276,7 @@ public class BudgetServiceImplTest {
     
     Budget updatedBudget = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(300.00))
+          .value(Money.of(BigDecimal.valueOf(300.00)))
           .month(YearMonth.of(2025, 4))
           .category(category)
           .user(mockUser)
@@ -264,8 +288,9 @@ public class BudgetServiceImplTest {
                             .categoryId(1L)
                             .build();
 
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(existingBudget));
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(category));
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(existingBudget));
+    when(categoryCache.find(mockUser.getId(), 1L)).thenReturn(Optional.of(toRow(category)));
+    when(categoryRepository.getReferenceById(1L)).thenReturn(category);
     when(budgetRepository.save(any(Budget.class))).thenReturn(updatedBudget);
 
     // Act
@@ -273,12 +298,12 @@ public class BudgetServiceImplTest {
 
     // Assert
     assertEquals(1L, result.getId());
-    assertEquals(BigDecimal.valueOf(300.00), result.getValue());
+    assertEquals(new BigDecimal("300.00"), result.getValue());
     assertEquals(YearMonth.of(2025, 4), result.getMonth());
     assertEquals(1L, result.getCategory().getId());
 
     verify(budgetRepository).save(any(Budget.class));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -290,7 +315,7 @@ public class BudgetServiceImplTest {
                             .categoryId(1L)
                             .build();
     
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
     
     // Act and Assert
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -299,7 +324,7 @@ public class BudgetServiceImplTest {
 
     assertEquals("Budget not found", exception.getMessage());
     verifyNoInteractions(categoryRepository);
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test 
@@ -314,7 +339,7 @@ public class BudgetServiceImplTest {
 
     Budget existingBudget = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(500.00))
+          .value(Money.of(BigDecimal.valueOf(500.00)))
           .month(YearMonth.of(2025, 5))
           .category(unrelatedCategory)
           .user(mockUser)
@@ -326,8 +351,8 @@ public class BudgetServiceImplTest {
                             .categoryId(1L)
                             .build();
     
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(existingBudget));
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(existingBudget));
+    when(categoryCache.find(mockUser.getId(), 1L)).thenReturn(Optional.empty());
 
     // Act and Assert
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -336,37 +361,42 @@ public class BudgetServiceImplTest {
 
     assertEquals("Category not found", exception.getMessage());
     verify(budgetRepository, never()).save(any());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testDeleteById_WithValidId_DeletesBudgetForUser() {
+    // Arrange
+    when(budgetRepository.deleteByIdAndUserId(1L, mockUser.getId())).thenReturn(1L);
+
     // Act
     budgetService.deleteById(1L);
 
     // Assert
-    verify(userService).getAuthenticatedUser();
-    verify(budgetRepository).deleteByIdAndUser(1L, mockUser);
+    verify(userService).getAuthenticatedUserId();
+    verify(budgetRepository).deleteByIdAndUserId(1L, mockUser.getId());
+    verify(dataVersionService).increment();
+    verify(eventPublisher).publishEvent(DataChangedEvent.of(mockUser.getId(), ResourceType.BUDGET, ChangeType.DELETED, 1L, null));
   }
 
   @Test
   void testExistsByCategoryIdAndMonth_ValidInput_ReturnsTrue() {
     // Arrange
-    when(budgetRepository.existsByCategoryIdAndMonthAndUser(1L, YearMonth.of(2025, 5), mockUser)).thenReturn(true);
+    when(budgetRepository.existsByCategoryIdAndMonthAndUserId(1L, YearMonth.of(2025, 5), mockUser.getId())).thenReturn(true);
 
     // Act and Assert
     assertTrue(budgetService.existsByCategoryIdAndMonth(1L, YearMonth.of(2025, 5)));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testExistsByCategoryIdAndMonth_InvalidInput_ReturnsFalse() {
      // Arrange
-    when(budgetRepository.existsByCategoryIdAndMonthAndUser(1L, YearMonth.of(2025, 5), mockUser)).thenReturn(false);
+    when(budgetRepository.existsByCategoryIdAndMonthAndUserId(1L, YearMonth.of(2025, 5), mockUser.getId())).thenReturn(false);
 
     // Act and Assert
     assertFalse(budgetService.existsByCategoryIdAndMonth(1L, YearMonth.of(2025, 5)));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -379,58 +409,34 @@ public class BudgetServiceImplTest {
             .user(mockUser)
             .build();
     
-    CategoryDTO savedCategoryDTO = CategoryDTO.builder()
-              .id(1L)
-              .name("Groceries")
-              .type(TransactionType.EXPENSE)
-              .build();
-
-    TransactionDTO savedTransactionDTO1 = TransactionDTO.builder()
-              .id(1L)
-              .amount(BigDecimal.valueOf(100.00))
-              .category(savedCategoryDTO)
-              .type(TransactionType.EXPENSE)
-              .date(LocalDate.of(2025, 5, 1))
-              .description("Food")
-              .build();
-
-    TransactionDTO savedTransactionDTO2 = TransactionDTO.builder()
-              .id(2L)
-              .amount(BigDecimal.valueOf(50.00))
-              .category(savedCategoryDTO)
-              .type(TransactionType.EXPENSE)
-              .date(LocalDate.of(2025, 5, 31))
-              .description("Drinks")
-              .build();
-            
-    List<TransactionDTO> transactionDTOs = new ArrayList<>(Arrays.asList(savedTransactionDTO1, savedTransactionDTO2));
-
     Budget savedBudget = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(500.00))
+          .value(Money.of(BigDecimal.valueOf(500.00)))
           .month(YearMonth.of(2025, 5))
           .category(savedCategory)
           .user(mockUser)
           .build();
 
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(savedBudget));
-    when(transactionService.filter(any(TransactionFilter.class))).thenReturn(transactionDTOs);
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(savedBudget));
+    when(monthlyRollupRepository.sumCentsByCategoryAndMonth(
+          mockUser.getId(), 1L, YearMonth.of(2025, 5), TransactionType.EXPENSE))
+      .thenReturn(15_000L);
 
     // Act
     BudgetSummaryDTO result = budgetService.getBudgetSummary(1L);
 
     // Assert
-    assertEquals(BigDecimal.valueOf(500.00), result.getBudgeted());
-    assertEquals(BigDecimal.valueOf(150.00), result.getSpent());
-    assertEquals(BigDecimal.valueOf(350.00), result.getRemaining());
+    assertEquals(new BigDecimal("500.00"), result.getBudgeted());
+    assertEquals(new BigDecimal("150.00"), result.getSpent());
+    assertEquals(new BigDecimal("350.00"), result.getRemaining());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testGetBudgetSummary_WithInvalidId_ThrowsResourceNotFoundException() {
     // Arrange
-    when(budgetRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(budgetRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
 
     // Act and Assert
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -438,8 +444,65 @@ public class BudgetServiceImplTest {
     });
 
     assertEquals("Budget not found", exception.getMessage());
-    verify(userService).getAuthenticatedUser();
-    verifyNoInteractions(transactionService);
+    verify(userService).getAuthenticatedUserId();
+    verifyNoInteractions(monthlyRollupRepository);
+  }
+
+  @Test
+  void testGetSummariesByMonth_WithEntries_ReturnsBudgetMonthSummaryDTOs() {
+    // Arrange
+    YearMonth month = YearMonth.of(2025, 5);
+    BudgetSpending groceries = new BudgetSpending(1L, month, 1L, "Groceries", TransactionType.EXPENSE,
+                                  Money.of(BigDecimal.valueOf(500.00)), 15_000L);
+    BudgetSpending rent = new BudgetSpending(2L, month, 2L, "Rent", TransactionType.EXPENSE,
+                                  Money.of(BigDecimal.valueOf(1200.00)), 0L);
+
+    when(budgetRepository.findSpendingByMonthAndUserId(month, mockUser.getId(), TransactionType.EXPENSE))
+      .thenReturn(List.of(groceries, rent));
+
+    // Act
+    List<BudgetMonthSummaryDTO> result = budgetService.getSummariesByMonth(month);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals(1L, result.get(0).getBudgetId());
+    assertEquals("Groceries", result.get(0).getCategory().getName());
+    assertEquals(new BigDecimal("500.00"), result.get(0).getBudgeted());
+    assertEquals(new BigDecimal("150.00"), result.get(0).getSpent());
+    assertEquals(new BigDecimal("350.00"), result.get(0).getRemaining());
+    assertEquals(new BigDecimal("1200.00"), result.get(1).getRemaining());
+
+    verify(userService).getAuthenticatedUserId();
+    verifyNoInteractions(monthlyRollupRepository);
+  }
+
+  @Test
+  void testGetSummariesByMonth_WithLedger_SumsSpendingFromLedger() {
+    // Arrange
+    YearMonth month = YearMonth.of(2025, 5);
+    ColumnarLedger ledger = ColumnarLedger.of(List.of(
+        new LedgerRow(10L, LocalDate.of(2025, 5, 3), Money.ofCents(10_000), 1L, TransactionType.EXPENSE),
+        new LedgerRow(11L, LocalDate.of(2025, 5, 20), Money.ofCents(5_000), 1L, TransactionType.EXPENSE),
+        new LedgerRow(12L, LocalDate.of(2025, 6, 1), Money.ofCents(7_000), 1L, TransactionType.EXPENSE)));
+    BudgetRow rent = new BudgetRow(2L, Money.of(BigDecimal.valueOf(1200.00)), month, 2L, "Rent", TransactionType.EXPENSE);
+    BudgetRow groceries = new BudgetRow(1L, Money.of(BigDecimal.valueOf(500.00)), month, 1L, "Groceries", TransactionType.EXPENSE);
+
+    when(ledgerCache.find(mockUser.getId())).thenReturn(Optional.of(ledger));
+    when(budgetRepository.findRowsByMonthAndUserId(month, mockUser.getId())).thenReturn(List.of(rent, groceries));
+
+    // Act
+    List<BudgetMonthSummaryDTO> result = budgetService.getSummariesByMonth(month);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals("Groceries", result.get(0).getCategory().getName());
+    assertEquals(new BigDecimal("150.00"), result.get(0).getSpent());
+    assertEquals(new BigDecimal("350.00"), result.get(0).getRemaining());
+    assertEquals("Rent", result.get(1).getCategory().getName());
+    assertEquals(new BigDecimal("0.00"), result.get(1).getSpent());
+
+    verify(budgetRepository, never()).findSpendingByMonthAndUserId(any(), any(), any());
+    verifyNoInteractions(monthlyRollupRepository);
   }
 
   @Test
@@ -454,7 +517,7 @@ public class BudgetServiceImplTest {
 
     Budget savedBudget1 = Budget.builder()
           .id(1L)
-          .value(BigDecimal.valueOf(500.00))
+          .value(Money.of(BigDecimal.valueOf(500.00)))
           .month(YearMonth.of(2025, 5))
           .category(savedCategory)
           .user(mockUser)
@@ -462,14 +525,14 @@ public class BudgetServiceImplTest {
 
     Budget savedBudget2 = Budget.builder()
           .id(2L)
-          .value(BigDecimal.valueOf(300.00))
+          .value(Money.of(BigDecimal.valueOf(300.00)))
           .month(YearMonth.of(2025, 5))
           .category(savedCategory)
           .user(mockUser)
           .build();
 
     List<Budget> budgetList = new ArrayList<>(Arrays.asList(savedBudget1, savedBudget2));
-    when(budgetRepository.findByMonthAndUser(YearMonth.of(2025, 5), mockUser)).thenReturn(budgetList);
+    when(budgetRepository.findRowsByMonthAndUserId(YearMonth.of(2025, 5), mockUser.getId())).thenReturn(toRows(budgetList));
 
     // Act
     List<BudgetDTO> result = budgetService.getByMonth(YearMonth.of(2025, 5));
@@ -478,8 +541,8 @@ public class BudgetServiceImplTest {
     assertEquals(2, result.size());
     assertEquals(1L, result.get(0).getId());
     assertEquals(2L, result.get(1).getId());
-    assertEquals(BigDecimal.valueOf(500.00), result.get(0).getValue());
-    assertEquals(BigDecimal.valueOf(300.00), result.get(1).getValue());
+    assertEquals(new BigDecimal("500.00"), result.get(0).getValue());
+    assertEquals(new BigDecimal("300.00"), result.get(1).getValue());
     assertEquals(YearMonth.of(2025, 5), result.get(0).getMonth());
     assertEquals(YearMonth.of(2025, 5), result.get(1).getMonth());
     assertEquals(1L, result.get(0).getCategory().getId());
@@ -489,26 +552,26 @@ public class BudgetServiceImplTest {
     assertEquals(TransactionType.EXPENSE, result.get(0).getCategory().getType());
     assertEquals(TransactionType.EXPENSE, result.get(1).getCategory().getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testGetByMonth_WithoutEntries_ReturnsEmptyList() {
     // Arrange
-    when(budgetRepository.findByMonthAndUser(YearMonth.of(2025, 5), mockUser)).thenReturn(Collections.emptyList());
+    when(budgetRepository.findRowsByMonthAndUserId(YearMonth.of(2025, 5), mockUser.getId())).thenReturn(Collections.emptyList());
 
     // Act
     List<BudgetDTO> result = budgetService.getByMonth(YearMonth.of(2025, 5));
 
     // Assert
     assertTrue(result.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test 
   void testGetAvailableMonths_WithEntries_ReturnsListOfMonthDTOs() {
     // Arrange
-    when(budgetRepository.findDistinctMonthsByUser(mockUser)).thenReturn(List.of(YearMonth.of(2025, 3), YearMonth.of(2025, 4), YearMonth.of(2025,5)));
+    when(budgetRepository.findDistinctMonthsByUserId(mockUser.getId())).thenReturn(List.of(YearMonth.of(2025, 3), YearMonth.of(2025, 4), YearMonth.of(2025,5)));
 
     // Act
     List<MonthDTO> result = budgetService.getAvailableMonths();
@@ -522,19 +585,98 @@ public class BudgetServiceImplTest {
     assertEquals("2025-03", result.get(2).getValue());
     assertEquals("March 2025", result.get(2).getDisplay());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testGetAvailableMonths_WithoutEntries_ReturnsEmptyList() {
     // Arrange
-    when(budgetRepository.findDistinctMonthsByUser(mockUser)).thenReturn(Collections.emptyList());
+    when(budgetRepository.findDistinctMonthsByUserId(mockUser.getId())).thenReturn(Collections.emptyList());
 
     // Act
     List<MonthDTO> result = budgetService.getAvailableMonths();
 
     // Assert
     assertTrue(result.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
+  }
+
+  @Test
+  void testGetByMonthRange_WithBothBounds_ReturnsRowsInRange() {
+    // Arrange
+    Category category = Category.builder().id(1L).name("Groceries").type(TransactionType.EXPENSE).build();
+    Budget budget = Budget.builder().id(1L).value(Money.of(BigDecimal.valueOf(500.00))).month(YearMonth.of(2025, 3)).category(category).build();
+    when(budgetRepository.findRowsByMonthRangeAndUserId(YearMonth.of(2025, 1), YearMonth.of(2025, 6), mockUser.getId()))
+      .thenReturn(toRows(List.of(budget)));
+
+    // Act
+    List<BudgetDTO> result = budgetService.getByMonthRange(YearMonth.of(2025, 1), YearMonth.of(2025, 6));
+
+    // Assert
+    assertEquals(1, result.size());
+    assertEquals(1L, result.get(0).getId());
+    assertEquals(YearMonth.of(2025, 3), result.get(0).getMonth());
+    assertEquals("Groceries", result.get(0).getCategory().getName());
+  }
+
+  @Test
+  void testGetByMonthRange_WithOpenBounds_QueriesWholeEncodableRange() {
+    // Arrange
+    when(budgetRepository.findRowsByMonthRangeAndUserId(YearMonth.of(0, 1), YearMonth.of(2025, 6), mockUser.getId()))
+      .thenReturn(Collections.emptyList());
+    when(budgetRepository.findRowsByMonthRangeAndUserId(YearMonth.of(2025, 1), YearMonth.of(9999, 12), mockUser.getId()))
+      .thenReturn(Collections.emptyList());
+
+    // Act
+    List<BudgetDTO> untilJune = budgetService.getByMonthRange(null, YearMonth.of(2025, 6));
+    List<BudgetDTO> sinceJanuary = budgetService.getByMonthRange(YearMonth.of(2025, 1), null);
+
+    // Assert
+    assertTrue(untilJune.isEmpty());
+    assertTrue(sinceJanuary.isEmpty());
+  }
+
+  @Test
+  void testGetByMonthRange_WithStartAfterEnd_ThrowsIllegalArgumentException() {
+    // Act and Assert
+    assertThrows(IllegalArgumentException.class,
+      () -> budgetService.getByMonthRange(YearMonth.of(2025, 6), YearMonth.of(2025, 1)));
+
+    verifyNoInteractions(budgetRepository);
+  }
+
+  @Test
+  void testGetAvailableMonthsInRange_WithEntries_ReturnsMonthsAsReturnedByQuery() {
+    // Arrange
+    when(budgetRepository.findDistinctMonthsByMonthRangeAndUserId(YearMonth.of(2025, 1), YearMonth.of(2025, 6), mockUser.getId()))
+      .thenReturn(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 2)));
+
+    // Act
+    List<MonthDTO> result = budgetService.getAvailableMonths(YearMonth.of(2025, 1), YearMonth.of(2025, 6));
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals("2025-05", result.get(0).getValue());
+    assertEquals("2025-02", result.get(1).getValue());
+  }
+
+  @Test
+  void testGetAvailableMonthsInRange_WithStartAfterEnd_ThrowsIllegalArgumentException() {
+    // Act and Assert
+    assertThrows(IllegalArgumentException.class,
+      () -> budgetService.getAvailableMonths(YearMonth.of(2025, 6), YearMonth.of(2025, 1)));
+
+    verifyNoInteractions(budgetRepository);
+  }
+
+  private static List<BudgetRow> toRows(List<Budget> budgets) {
+    return budgets.stream()
+            .map(b -> new BudgetRow(b.getId(), b.getValue(), b.getMonth(),
+                        b.getCategory().getId(), b.getCategory().getName(), b.getCategory().getType()))
+            .toList();
+  }
+
+  private static CategoryRow toRow(Category category) {
+    return new CategoryRow(category.getId(), category.getName(), category.getType());
   }
 }
@@ -0,0 +1,165 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryCacheTest {
+
+  private static final CategoryRow GROCERIES = new CategoryRow(1L, "Groceries", TransactionType.EXPENSE);
+  private static final CategoryRow SALARY = new CategoryRow(2L, "Salary", TransactionType.INCOME);
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  private CategoryCache categoryCache;
+
+  @BeforeEach
+  void setUp() {
+    categoryCache = new CategoryCache(categoryRepository, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+  }
+
+  @Test
+  void testFind_RepeatedLookups_LoadTheUsersCategoriesOnce() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenReturn(List.of(GROCERIES, SALARY));
+
+    // Act
+    Optional<CategoryRow> first = categoryCache.find(7L, 1L);
+    Optional<CategoryRow> second = categoryCache.find(7L, 2L);
+
+    // Assert
+    assertEquals(Optional.of(GROCERIES), first);
+    assertEquals(Optional.of(SALARY), second);
+    verify(categoryRepository, times(1)).findRowsByUserId(7L);
+  }
+
+  @Test
+  void testFind_UnknownCategory_ChecksOneRowWithoutReloading() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    when(categoryRepository.findRowByIdAndUserId(99L, 7L)).thenReturn(Optional.empty());
+
+    // Act
+    Optional<CategoryRow> first = categoryCache.find(7L, 99L);
+    Optional<CategoryRow> second = categoryCache.find(7L, 99L);
+
+    // Assert
+    assertTrue(first.isEmpty());
+    assertTrue(second.isEmpty());
+    verify(categoryRepository, times(1)).findRowsByUserId(7L);
+    verify(categoryRepository, times(2)).findRowByIdAndUserId(99L, 7L);
+  }
+
+  @Test
+  void testFind_CategoryCreatedAfterLoading_IsFoundByTheReload() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenReturn(List.of(GROCERIES), List.of(GROCERIES, SALARY));
+    when(categoryRepository.findRowByIdAndUserId(2L, 7L)).thenReturn(Optional.of(SALARY));
+    categoryCache.find(7L, 1L);
+
+    // Act
+    Optional<CategoryRow> result = categoryCache.find(7L, 2L);
+    Optional<CategoryRow> again = categoryCache.find(7L, 2L);
+
+    // Assert
+    assertEquals(Optional.of(SALARY), result);
+    assertEquals(Optional.of(SALARY), again);
+    verify(categoryRepository, times(1)).findRowByIdAndUserId(2L, 7L);
+    verify(categoryRepository, times(2)).findRowsByUserId(7L);
+  }
+
+  @Test
+  void testInvalidate_NextLookupReloads() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    categoryCache.find(7L, 1L);
+
+    // Act
+    categoryCache.invalidate(7L);
+    categoryCache.find(7L, 1L);
+
+    // Assert
+    verify(categoryRepository, times(2)).findRowsByUserId(7L);
+  }
+
+  @Test
+  void testFind_NullCategoryId_ReturnsEmptyWithoutLoading() {
+    // Act & Assert
+    assertTrue(categoryCache.find(7L, null).isEmpty());
+    verifyNoInteractions(categoryRepository);
+  }
+
+  @Test
+  void testFind_InvalidatedWhileLoading_DoesNotKeepTheLoad() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenAnswer(invocation -> {
+      categoryCache.invalidate(7L);
+      return List.of(GROCERIES);
+    }).thenReturn(List.of(GROCERIES, SALARY));
+
+    // Act
+    Optional<CategoryRow> first = categoryCache.find(7L, 1L);
+    Optional<CategoryRow> second = categoryCache.find(7L, 2L);
+
+    // Assert
+    assertEquals(Optional.of(GROCERIES), first);
+    assertEquals(Optional.of(SALARY), second);
+    verify(categoryRepository, times(2)).findRowsByUserId(7L);
+  }
+
+  @Test
+  void testFindAll_ChecksMissingCategoriesWithOneQuery() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    when(categoryRepository.findRowsByUserIdAndIdIn(7L, List.of(99L))).thenReturn(List.of());
+
+    // Act
+    Map<Long, CategoryRow> found = categoryCache.findAll(7L, Set.of(1L, 99L));
+    categoryCache.findAll(7L, Set.of(1L));
+
+    // Assert
+    assertEquals(Map.of(1L, GROCERIES), found);
+    verify(categoryRepository, times(1)).findRowsByUserId(7L);
+    verify(categoryRepository, times(1)).findRowsByUserIdAndIdIn(7L, List.of(99L));
+  }
+
+  @Test
+  void testFindAll_CategoryCreatedAfterLoading_IsFoundAndReloaded() {
+    // Arrange
+    when(categoryRepository.findRowsByUserId(7L)).thenReturn(List.of(GROCERIES), List.of(GROCERIES, SALARY));
+    when(categoryRepository.findRowsByUserIdAndIdIn(7L, List.of(2L))).thenReturn(List.of(SALARY));
+
+    // Act
+    Map<Long, CategoryRow> found = categoryCache.findAll(7L, List.of(1L, 2L));
+    Map<Long, CategoryRow> again = categoryCache.findAll(7L, List.of(1L, 2L));
+
+    // Assert
+    assertEquals(Map.of(1L, GROCERIES, 2L, SALARY), found);
+    assertEquals(found, again);
+    verify(categoryRepository, times(1)).findRowsByUserIdAndIdIn(7L, List.of(2L));
+    verify(categoryRepository, times(2)).findRowsByUserId(7L);
+  }
+}
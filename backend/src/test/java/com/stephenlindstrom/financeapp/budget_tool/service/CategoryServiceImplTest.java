@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -23,14 +25,18 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryCreateDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
 
 @ExtendWith(MockitoExtension.class)
 public class CategoryServiceImplTest {
@@ -40,6 +46,18 @@ public class CategoryServiceImplTest {
   @Mock 
   private UserService userService;
 
+  @Mock
+  private DataVersionService dataVersionService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CategoryCache categoryCache;
+
+  @Mock
+  private LedgerCache ledgerCache;
+
   @InjectMocks
   private CategoryServiceImpl categoryService;
 
@@ -51,7 +69,9 @@ public class CategoryServiceImplTest {
   @BeforeEach
   void setup() {
     mockUser = User.builder().id(1L).username("mockUser").build();
-    when(userService.getAuthenticatedUser()).thenReturn(mockUser);
+    // Write paths need the owning entity, read paths only its ID
+    lenient().when(userService.getAuthenticatedUser()).thenReturn(mockUser);
+    lenient().when(userService.getAuthenticatedUserId()).thenReturn(mockUser.getId());
   }
 
   @Test
@@ -81,6 +101,9 @@ public class CategoryServiceImplTest {
     assertEquals(mockUser, categoryCaptor.getValue().getUser());
 
     verify(userService).getAuthenticatedUser();
+    verify(categoryCache).invalidate(mockUser.getId());
+    verify(dataVersionService).increment();
+    verify(eventPublisher).publishEvent(DataChangedEvent.of(mockUser.getId(), ResourceType.CATEGORY, ChangeType.CREATED, 1L, result));
   }
 
   @Test
@@ -100,6 +123,7 @@ public class CategoryServiceImplTest {
     });
 
     assertEquals("Database error", exception.getMessage());
+    verifyNoInteractions(dataVersionService);
   }
   
   @Test
@@ -122,7 +146,7 @@ public class CategoryServiceImplTest {
 
     List<Category> categoryList = new ArrayList<>(Arrays.asList(savedCategory1, savedCategory2));
 
-    when(categoryRepository.findByUserOrderByName(mockUser)).thenReturn(categoryList);
+    when(categoryRepository.findRowsByUserId(mockUser.getId())).thenReturn(toRows(categoryList));
 
     // Act
     List<CategoryDTO> result = categoryService.getAll();
@@ -132,20 +156,20 @@ public class CategoryServiceImplTest {
     assertEquals("Rent", result.get(1).getName());
     assertEquals(TransactionType.EXPENSE, result.get(1).getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test 
   void testGetAll_WithNoEntries_ReturnsEmptyList() {
     // Arrange
-    when(categoryRepository.findByUserOrderByName(mockUser)).thenReturn(Collections.emptyList());
+    when(categoryRepository.findRowsByUserId(mockUser.getId())).thenReturn(Collections.emptyList());
 
     // Act
     List<CategoryDTO> result = categoryService.getAll();
 
     // Assert
     assertTrue(result.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -158,7 +182,7 @@ public class CategoryServiceImplTest {
             .user(mockUser)
             .build();
 
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(savedCategory));
+    when(categoryRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(savedCategory));
 
     // Act
     Optional<CategoryDTO> result = categoryService.getById(1L);
@@ -169,20 +193,20 @@ public class CategoryServiceImplTest {
     assertEquals("Groceries", dto.getName());
     assertEquals(TransactionType.EXPENSE, dto.getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test 
   void testGetById_IdDoesNotExist_ReturnsOptionalEmpty() {
     // Arrange
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(categoryRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
 
     // Act
     Optional<CategoryDTO> result = categoryService.getById(1L);
 
     // Assert
     assertTrue(result.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -207,7 +231,7 @@ public class CategoryServiceImplTest {
             .type(TransactionType.INCOME)
             .build();
 
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(existingCategory));
+    when(categoryRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(existingCategory));
     when(categoryRepository.save(any(Category.class))).thenReturn(updatedCategory);
 
     // Act
@@ -219,7 +243,7 @@ public class CategoryServiceImplTest {
     assertEquals(TransactionType.INCOME, result.getType());
 
     verify(categoryRepository).save(any(Category.class));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -230,7 +254,7 @@ public class CategoryServiceImplTest {
             .type(TransactionType.INCOME)
             .build();
 
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(categoryRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
 
     // Act and Assert
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -240,37 +264,53 @@ public class CategoryServiceImplTest {
     assertEquals("Category not found", exception.getMessage());
 
     verify(categoryRepository, never()).save(any(Category.class));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testDeleteById_IdExists_DeletesCategoryForUser() {
+    // Arrange
+    when(categoryRepository.deleteByIdAndUserId(1L, mockUser.getId())).thenReturn(1L);
+
     // Act
     categoryService.deleteById(1L);
 
     // Assert
-    verify(userService).getAuthenticatedUser();
-    verify(categoryRepository).deleteByIdAndUser(1L, mockUser);
+    verify(userService).getAuthenticatedUserId();
+    verify(categoryRepository).deleteByIdAndUserId(1L, mockUser.getId());
+    verify(categoryCache).invalidate(mockUser.getId());
+    verify(dataVersionService).increment();
+    verify(eventPublisher).publishEvent(DataChangedEvent.of(mockUser.getId(), ResourceType.CATEGORY, ChangeType.DELETED, 1L, null));
+  }
+
+  @Test
+  void testDeleteById_IdDoesNotExist_KeepsDataVersion() {
+    // Act
+    categoryService.deleteById(1L);
+
+    // Assert
+    verify(categoryRepository).deleteByIdAndUserId(1L, mockUser.getId());
+    verifyNoInteractions(dataVersionService, eventPublisher, categoryCache);
   }
 
   @Test
   void testExistsByNameIgnoreCase_NameExists_ReturnsTrue() {
     // Arrange
-    when(categoryRepository.existsByNameIgnoreCaseAndUser("Groceries", mockUser)).thenReturn(true);
+    when(categoryRepository.existsByNameIgnoreCaseAndUserId("Groceries", mockUser.getId())).thenReturn(true);
 
     // Act and Assert
     assertTrue(categoryService.existsByNameIgnoreCase("Groceries"));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testExistsByNameIgnoreCase_NameDoesNotExist_ReturnsFalse() {
     // Arrange
-    when(categoryRepository.existsByNameIgnoreCaseAndUser("Groceries", mockUser)).thenReturn(false);
+    when(categoryRepository.existsByNameIgnoreCaseAndUserId("Groceries", mockUser.getId())).thenReturn(false);
 
     // Act and Assert
     assertFalse(categoryService.existsByNameIgnoreCase("Groceries"));
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -300,7 +340,8 @@ public class CategoryServiceImplTest {
 
     List<Category> categoryList = new ArrayList<>(Arrays.asList(savedCategory1, savedCategory2, savedCategory3));
 
-    when(categoryRepository.findByUserOrderByName(mockUser)).thenReturn(categoryList);
+    when(categoryRepository.findRowsByUserIdAndType(mockUser.getId(), TransactionType.EXPENSE))
+      .thenReturn(toRows(categoryList.stream().filter(c -> c.getType() == TransactionType.EXPENSE).toList()));
 
     // Act
     List<CategoryDTO> result = categoryService.getByType(TransactionType.EXPENSE);
@@ -310,7 +351,7 @@ public class CategoryServiceImplTest {
     assertEquals(TransactionType.EXPENSE, result.get(0).getType());
     assertEquals(TransactionType.EXPENSE, result.get(1).getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -333,13 +374,20 @@ public class CategoryServiceImplTest {
 
     List<Category> categoryList = new ArrayList<>(Arrays.asList(savedCategory1, savedCategory2));
 
-    when(categoryRepository.findByUserOrderByName(mockUser)).thenReturn(categoryList);
+    when(categoryRepository.findRowsByUserIdAndType(mockUser.getId(), TransactionType.INCOME))
+      .thenReturn(toRows(categoryList.stream().filter(c -> c.getType() == TransactionType.INCOME).toList()));
 
     // Act
     List<CategoryDTO> result = categoryService.getByType(TransactionType.INCOME);
 
     // Assert
     assertTrue(result.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
+  }
+
+  private static List<CategoryRow> toRows(List<Category> categories) {
+    return categories.stream()
+            .map(c -> new CategoryRow(c.getId(), c.getName(), c.getType()))
+            .toList();
   }
 }
@@ -0,0 +1,157 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
+import com.stephenlindstrom.financeapp.budget_tool.errors.TooManyRequestsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeFeedServiceImplTest {
+
+  private static final Duration HEARTBEAT = Duration.ofMillis(50);
+
+  @Mock
+  private UserService userService;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ChangeFeedServiceImpl changeFeed;
+
+  @AfterEach
+  void tearDown() {
+    if (changeFeed != null) {
+      changeFeed.shutdown();
+    }
+  }
+
+  @Test
+  void testOnDataChanged_DeliversOnlyToTheOwnersStreams() throws Exception {
+    // Arrange
+    changeFeed = changeFeed(RecordingEmitter::new, 16, 5);
+    when(userService.getAuthenticatedUserId()).thenReturn(1L, 2L);
+    RecordingEmitter owner = (RecordingEmitter) changeFeed.subscribe();
+    RecordingEmitter other = (RecordingEmitter) changeFeed.subscribe();
+
+    // Act
+    changeFeed.onDataChanged(DataChangedEvent.of(1L, ResourceType.CATEGORY, ChangeType.DELETED, 7L, null));
+
+    // Assert
+    owner.awaitSent("event:change");
+    assertTrue(owner.sent().contains("resource=CATEGORY, change=DELETED, id=7"), owner.sent());
+    assertFalse(other.sent().contains("event:change"), other.sent());
+  }
+
+  @Test
+  void testSubscribe_WhenIdle_SendsHeartbeats() throws Exception {
+    // Arrange
+    changeFeed = changeFeed(RecordingEmitter::new, 16, 5);
+    when(userService.getAuthenticatedUserId()).thenReturn(1L);
+
+    // Act
+    RecordingEmitter emitter = (RecordingEmitter) changeFeed.subscribe();
+
+    // Assert
+    emitter.awaitSent(":heartbeat");
+  }
+
+  @Test
+  void testOnDataChanged_WhenStreamFallsBehind_EvictsIt() throws Exception {
+    // Arrange
+    BlockingEmitter stuck = new BlockingEmitter();
+    changeFeed = changeFeed(() -> stuck, 2, 5);
+    when(userService.getAuthenticatedUserId()).thenReturn(1L);
+    changeFeed.subscribe();
+    assertTrue(stuck.blocked.await(5, TimeUnit.SECONDS));
+
+    // Act
+    for (long id = 1; id <= 3; id++) {
+      changeFeed.onDataChanged(DataChangedEvent.of(1L, ResourceType.TRANSACTION, ChangeType.CREATED, id, null));
+    }
+
+    // Assert
+    assertEquals(1.0, meterRegistry.get("events.evicted").counter().count());
+    assertEquals(0.0, meterRegistry.get("events.subscribers").gauge().value());
+  }
+
+  @Test
+  void testSubscribe_BeyondTheLimitPerUser_ThrowsTooManyRequestsException() {
+    // Arrange
+    changeFeed = changeFeed(RecordingEmitter::new, 16, 2);
+    when(userService.getAuthenticatedUserId()).thenReturn(1L);
+    changeFeed.subscribe();
+    changeFeed.subscribe();
+
+    // Act & Assert
+    assertThrows(TooManyRequestsException.class, () -> changeFeed.subscribe());
+    assertEquals(2.0, meterRegistry.get("events.subscribers").gauge().value());
+  }
+
+  private ChangeFeedServiceImpl changeFeed(Supplier<SseEmitter> emitters, int queueCapacity, int maxStreamsPerUser) {
+    return new ChangeFeedServiceImpl(userService, meterRegistry, emitters, HEARTBEAT, queueCapacity, maxStreamsPerUser);
+  }
+
+  /**
+   * Records everything sent instead of writing to a response.
+   */
+  private static class RecordingEmitter extends SseEmitter {
+    private final StringBuffer sent = new StringBuffer();
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      sent.append(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+    }
+
+    String sent() {
+      return sent.toString();
+    }
+
+    void awaitSent(String text) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (!sent().contains(text) && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertTrue(sent().contains(text), "expected " + text + " in " + sent());
+    }
+  }
+
+  /**
+   * Blocks the first send forever, like a client that stopped reading.
+   */
+  private static class BlockingEmitter extends SseEmitter {
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      blocked.countDown();
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+}
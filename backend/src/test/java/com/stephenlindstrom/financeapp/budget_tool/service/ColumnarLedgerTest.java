@@ -0,0 +1,161 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
+
+public class ColumnarLedgerTest {
+
+  private static final LocalDate MAY_1 = LocalDate.of(2025, 5, 1);
+  private static final LocalDate MAY_31 = LocalDate.of(2025, 5, 31);
+
+  private static final List<LedgerRow> ROWS = List.of(
+      row(1L, LocalDate.of(2025, 5, 1), 1_000, 1L, TransactionType.EXPENSE),
+      row(2L, LocalDate.of(2025, 5, 31), 2_000, 1L, TransactionType.EXPENSE),
+      row(3L, LocalDate.of(2025, 6, 1), 4_000, 1L, TransactionType.EXPENSE),
+      row(4L, LocalDate.of(2025, 5, 15), 8_000, 1L, TransactionType.INCOME),
+      row(5L, LocalDate.of(2025, 5, 15), 16_000, 2L, TransactionType.EXPENSE),
+      row(6L, LocalDate.of(2025, 4, 30), 32_000, 2L, TransactionType.EXPENSE));
+
+  @Test
+  void testSumCents_MatchesCategoryTypeAndInclusiveDateRange() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(ROWS);
+
+    // Act & Assert
+    assertEquals(3_000, ledger.sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(8_000, ledger.sumCents(1L, TransactionType.INCOME, MAY_1, MAY_31));
+    assertEquals(16_000, ledger.sumCents(2L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(0, ledger.sumCents(99L, TransactionType.EXPENSE, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testSumCentsByCategory_GroupsMatchingTransactions() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(ROWS);
+
+    // Act
+    Map<Long, Long> result = ledger.sumCentsByCategory(TransactionType.EXPENSE, MAY_1, MAY_31);
+
+    // Assert
+    assertEquals(Map.of(1L, 3_000L, 2L, 16_000L), result);
+  }
+
+  @Test
+  void testSumCentsByCategory_LeavesOutTransactionsWithoutCategory() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(List.of(
+        row(1L, MAY_1, 500, null, TransactionType.EXPENSE),
+        row(2L, MAY_1, 700, 1L, TransactionType.EXPENSE)));
+
+    // Act & Assert
+    assertEquals(Map.of(1L, 700L), ledger.sumCentsByCategory(TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(500, ledger.sumCents(null, TransactionType.EXPENSE, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testWithUpserted_ReplacesExistingAndAppendsNew() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(ROWS);
+
+    // Act
+    ColumnarLedger updated = ledger.withUpserted(List.of(
+        row(2L, LocalDate.of(2025, 5, 31), 2_500, 2L, TransactionType.EXPENSE),
+        row(7L, LocalDate.of(2025, 5, 10), 100, 3L, TransactionType.EXPENSE)));
+
+    // Assert
+    assertEquals(7, updated.size());
+    assertEquals(Map.of(1L, 1_000L, 2L, 18_500L, 3L, 100L),
+        updated.sumCentsByCategory(TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(Map.of(1L, 3_000L, 2L, 16_000L),
+        ledger.sumCentsByCategory(TransactionType.EXPENSE, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testWithUpserted_AppliedTwice_HasNoFurtherEffect() {
+    // Arrange
+    List<LedgerRow> change = List.of(row(7L, MAY_1, 100, 1L, TransactionType.EXPENSE));
+
+    // Act
+    ColumnarLedger once = ColumnarLedger.of(ROWS).withUpserted(change);
+    ColumnarLedger twice = once.withUpserted(change);
+
+    // Assert
+    assertEquals(once.size(), twice.size());
+    assertEquals(3_100, twice.sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testWithUpserted_ChangingType_MovesTransactionBetweenTypes() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(ROWS);
+
+    // Act
+    ColumnarLedger updated = ledger.withUpserted(List.of(row(4L, LocalDate.of(2025, 5, 15), 8_000, 1L, TransactionType.EXPENSE)));
+
+    // Assert
+    assertEquals(11_000, updated.sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(0, updated.sumCents(1L, TransactionType.INCOME, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testWithout_RemovesTransactionAndKeepsTheRest() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(ROWS);
+
+    // Act
+    ColumnarLedger updated = ledger.without(1L);
+
+    // Assert
+    assertEquals(5, updated.size());
+    assertEquals(2_000, updated.sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(8_000, updated.sumCents(1L, TransactionType.INCOME, MAY_1, MAY_31));
+    assertEquals(16_000, updated.sumCents(2L, TransactionType.EXPENSE, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testWithout_UnknownId_ReturnsSameLedger() {
+    // Arrange
+    ColumnarLedger ledger = ColumnarLedger.of(ROWS);
+
+    // Act & Assert
+    assertSame(ledger, ledger.without(99L));
+  }
+
+  @Test
+  void testScans_AcrossManyWordsOfTheTypeBitset_MatchRowByRowTotals() {
+    // Arrange
+    List<LedgerRow> rows = new ArrayList<>();
+    long expected = 0;
+    for (int i = 0; i < 1_000; i++) {
+      TransactionType type = i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+      rows.add(row(i, MAY_1.plusDays(i % 31), i, (long) (i % 7), type));
+      if (type == TransactionType.EXPENSE && i % 7 == 3) {
+        expected += i;
+      }
+    }
+    ColumnarLedger ledger = ColumnarLedger.of(rows);
+
+    // Act
+    ColumnarLedger trimmed = ledger.without(10L);
+
+    // Assert
+    assertEquals(expected, ledger.sumCents(3L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(expected - 10, trimmed.sumCents(3L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    assertEquals(expected - 10, trimmed.sumCentsByCategory(TransactionType.EXPENSE, MAY_1, MAY_31).get(3L));
+  }
+
+  private static LedgerRow row(long id, LocalDate date, long cents, Long categoryId, TransactionType type) {
+    return new LedgerRow(id, date, Money.ofCents(cents), categoryId, type);
+  }
+}
@@ -0,0 +1,79 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+  @Test
+  void testNext_WithQuotedFields_HandlesDelimitersQuotesAndLineBreaks() throws IOException {
+    // Arrange
+    String csv = "Date,Description,Amount\r\n"
+               + "2025-06-01,\"Coffee, large\",-4.50\r\n"
+               + "2025-06-02,\"Said \"\"hi\"\"\nto the bank\",10\r\n"
+               + "2025-06-03,Rent,-1200\n";
+
+    try (CsvReader reader = new CsvReader(new StringReader(csv), ',', 100)) {
+      // Act
+      CsvReader.CsvRecord header = reader.next();
+      CsvReader.CsvRecord first = reader.next();
+      CsvReader.CsvRecord second = reader.next();
+      CsvReader.CsvRecord third = reader.next();
+
+      // Assert
+      assertEquals(List.of("Date", "Description", "Amount"), header.fields());
+      assertEquals(List.of("2025-06-01", "Coffee, large", "-4.50"), first.fields());
+      assertEquals(List.of("2025-06-02", "Said \"hi\"\nto the bank", "10"), second.fields());
+      assertEquals(List.of("2025-06-03", "Rent", "-1200"), third.fields());
+
+      assertEquals(1, header.line());
+      assertEquals(3, second.line());
+      assertEquals(5, third.line());
+      assertNull(reader.next());
+    }
+  }
+
+  @Test
+  void testNext_WithBlankLinesAndMissingTrailingNewline_SkipsBlankLines() throws IOException {
+    // Arrange
+    String csv = "a;b\n\n\nc;d";
+
+    try (CsvReader reader = new CsvReader(new StringReader(csv), ';', 100)) {
+      // Act and Assert
+      assertEquals(List.of("a", "b"), reader.next().fields());
+
+      CsvReader.CsvRecord last = reader.next();
+      assertEquals(List.of("c", "d"), last.fields());
+      assertEquals(4, last.line());
+      assertNull(reader.next());
+    }
+  }
+
+  @Test
+  void testNext_WithRecordOverLimit_FlagsRecordAndContinuesWithNextLine() throws IOException {
+    // Arrange
+    String csv = "short,row\n" + "x".repeat(50) + ",y\n" + "next,row\n";
+
+    try (CsvReader reader = new CsvReader(new StringReader(csv), ',', 20)) {
+      // Act
+      CsvReader.CsvRecord first = reader.next();
+      CsvReader.CsvRecord tooLong = reader.next();
+      CsvReader.CsvRecord next = reader.next();
+
+      // Assert
+      assertFalse(first.tooLong());
+      assertTrue(tooLong.tooLong());
+      assertTrue(tooLong.fields().isEmpty());
+      assertEquals(2, tooLong.line());
+      assertEquals(List.of("next", "row"), next.fields());
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.stephenlindstrom.financeapp.budget_tool.dto.BudgetMonthSummaryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.DashboardDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.MonthDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionPageDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
+import com.stephenlindstrom.financeapp.budget_tool.security.AuthenticatedUser;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceImplTest {
+
+  @Mock
+  private BudgetService budgetService;
+
+  @Mock
+  private CategoryService categoryService;
+
+  @Mock
+  private TransactionService transactionService;
+
+  private DashboardServiceImpl dashboardService;
+
+  private Authentication authentication;
+
+  @BeforeEach
+  void setUp() {
+    dashboardService = new DashboardServiceImpl(budgetService, categoryService, transactionService, 6);
+    authentication = new UsernamePasswordAuthenticationToken(new AuthenticatedUser(1L, "testuser"), null, List.of());
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    dashboardService.shutdown();
+  }
+
+  @Test
+  void testGet_WithValidMonth_CombinesEveryPart() {
+    // Arrange
+    YearMonth month = YearMonth.of(2025, 5);
+    List<MonthDTO> months = List.of(MonthDTO.builder().value("2025-05").display("May 2025").build());
+    List<BudgetMonthSummaryDTO> budgets = List.of(BudgetMonthSummaryDTO.builder().budgetId(1L).month(month).build());
+    List<CategoryDTO> categories = List.of(CategoryDTO.builder().id(1L).name("Groceries").type(TransactionType.EXPENSE).build());
+    List<TransactionDTO> transactions = List.of(TransactionDTO.builder().id(1L).build());
+
+    when(budgetService.getAvailableMonths()).thenReturn(months);
+    when(budgetService.getSummariesByMonth(month)).thenReturn(budgets);
+    when(categoryService.getAll()).thenReturn(categories);
+    when(transactionService.getAll(10, null)).thenReturn(TransactionPageDTO.builder().items(transactions).build());
+
+    // Act
+    DashboardDTO result = dashboardService.get(month, 10);
+
+    // Assert
+    assertEquals(month, result.getMonth());
+    assertSame(months, result.getMonths());
+    assertSame(budgets, result.getBudgets());
+    assertSame(categories, result.getCategories());
+    assertSame(transactions, result.getRecentTransactions());
+  }
+
+  @Test
+  void testGet_PartsRunConcurrently_SeeTheCallersAuthentication() {
+    // Arrange
+    YearMonth month = YearMonth.of(2025, 5);
+    AtomicReference<Authentication> seen = new AtomicReference<>();
+    AtomicReference<Thread> thread = new AtomicReference<>();
+
+    when(budgetService.getAvailableMonths()).thenReturn(List.of());
+    when(budgetService.getSummariesByMonth(month)).thenReturn(List.of());
+    when(categoryService.getAll()).thenAnswer(invocation -> {
+      seen.set(SecurityContextHolder.getContext().getAuthentication());
+      thread.set(Thread.currentThread());
+      return List.of();
+    });
+    when(transactionService.getAll(10, null)).thenReturn(TransactionPageDTO.builder().items(List.of()).build());
+
+    // Act
+    dashboardService.get(month, 10);
+
+    // Assert
+    assertSame(authentication, seen.get());
+    assertTrue(thread.get().isVirtual());
+  }
+
+  @Test
+  void testGet_WithOneReadPermit_RunsPartsOneAtATime() {
+    // Arrange
+    dashboardService.shutdown();
+    dashboardService = new DashboardServiceImpl(budgetService, categoryService, transactionService, 1);
+    YearMonth month = YearMonth.of(2025, 5);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger mostInFlight = new AtomicInteger();
+
+    when(budgetService.getAvailableMonths()).thenAnswer(invocation -> track(inFlight, mostInFlight, List.of()));
+    when(budgetService.getSummariesByMonth(month)).thenAnswer(invocation -> track(inFlight, mostInFlight, List.of()));
+    when(categoryService.getAll()).thenAnswer(invocation -> track(inFlight, mostInFlight, List.of()));
+    when(transactionService.getAll(10, null)).thenAnswer(invocation ->
+        track(inFlight, mostInFlight, TransactionPageDTO.builder().items(List.of()).build()));
+
+    // Act
+    dashboardService.get(month, 10);
+
+    // Assert
+    assertEquals(1, mostInFlight.get());
+  }
+
+  @Test
+  void testConstructor_WithNoReadPermits_ThrowsIllegalArgumentException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class,
+        () -> new DashboardServiceImpl(budgetService, categoryService, transactionService, 0));
+  }
+
+  @Test
+  void testGet_WhenAPartFails_RethrowsItsException() {
+    // Arrange
+    YearMonth month = YearMonth.of(2025, 5);
+    lenient().when(budgetService.getAvailableMonths()).thenReturn(List.of());
+    when(budgetService.getSummariesByMonth(month)).thenThrow(new ResourceNotFoundException("Category not found"));
+    lenient().when(categoryService.getAll()).thenReturn(List.of());
+    when(transactionService.getAll(10, null)).thenReturn(TransactionPageDTO.builder().items(List.of()).build());
+
+    // Act & Assert
+    ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> dashboardService.get(month, 10));
+    assertEquals("Category not found", exception.getMessage());
+  }
+
+  @Test
+  void testGet_WithRecentCountOutOfRange_ThrowsIllegalArgumentException() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> dashboardService.get(YearMonth.of(2025, 5), 0));
+    assertThrows(IllegalArgumentException.class, () -> dashboardService.get(YearMonth.of(2025, 5), TransactionServiceImpl.MAX_PAGE_SIZE + 1));
+
+    verifyNoInteractions(budgetService, categoryService, transactionService);
+  }
+
+  /**
+   * Records how many parts are running at once while this one runs for a moment.
+   */
+  private static <T> T track(AtomicInteger inFlight, AtomicInteger mostInFlight, T result) throws InterruptedException {
+    mostInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    Thread.sleep(20);
+    inFlight.decrementAndGet();
+    return result;
+  }
+}
@@ -8,8 +8,8 @@ import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
@@ -23,24 +23,57 @@ public class JwtServiceTest {
 
   @BeforeEach
   void setup() {
-    jwtService = new JwtService();
-    ReflectionTestUtils.setField(jwtService, "secretKey", secret);
+    jwtService = new JwtService(secret);
   }
 
   @Test
   void testGenerateTokenAndExtractUsername() {
     String username = "testuser";
-    String token = jwtService.generateToken(username);
+    String token = jwtService.generateToken(1L, username);
 
     assertNotNull(token);
     String extractedUsername = jwtService.extractUsername(token);
     assertEquals(username, extractedUsername);
   }
 
+  @Test
+  void testGenerateToken_CarriesUserId() {
+    String token = jwtService.generateToken(42L, "testuser");
+
+    assertEquals(42L, jwtService.extractUserId(token));
+  }
+
+  @Test
+  void testValidateAndParse_ReturnsClaimsOfValidToken() {
+    String token = jwtService.generateToken(1L, "testuser");
+
+    Claims claims = jwtService.validateAndParse(token);
+
+    assertEquals("testuser", claims.getSubject());
+    assertTrue(claims.getExpiration().after(new Date()));
+  }
+
+  @Test
+  void testValidateAndParse_RejectsExpiredAndForeignTokens() {
+    Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+    String expiredToken = Jwts.builder()
+                          .setSubject("expiredUser")
+                          .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                          .signWith(key, SignatureAlgorithm.HS256)
+                          .compact();
+
+    JwtService otherService = new JwtService(
+      Base64.getEncoder().encodeToString("another-secret-key-0987654321-abcdefghij".getBytes()));
+    String foreignToken = otherService.generateToken(1L, "testuser");
+
+    assertThrows(ExpiredJwtException.class, () -> jwtService.validateAndParse(expiredToken));
+    assertThrows(JwtException.class, () -> jwtService.validateAndParse(foreignToken));
+  }
+
   @Test
   void testIsTokenValid() {
     String username = "testuser";
-    String token = jwtService.generateToken(username);
+    String token = jwtService.generateToken(1L, username);
 
     assertTrue(jwtService.isTokenValid(token, username));
     assertFalse(jwtService.isTokenValid(token, "InvalidUser"));
@@ -0,0 +1,173 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.LedgerRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class LedgerCacheTest {
+
+  private static final LocalDate MAY_1 = LocalDate.of(2025, 5, 1);
+  private static final LocalDate MAY_31 = LocalDate.of(2025, 5, 31);
+  private static final LedgerRow GROCERIES = new LedgerRow(1L, LocalDate.of(2025, 5, 3), Money.ofCents(2_500), 1L, TransactionType.EXPENSE);
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  private LedgerCache ledgerCache;
+
+  @BeforeEach
+  void setUp() {
+    ledgerCache = new LedgerCache(transactionRepository, true, 1_000, Duration.ofMinutes(30), true, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void testFind_Disabled_ReturnsEmptyWithoutLoading() {
+    // Arrange
+    LedgerCache disabled = new LedgerCache(transactionRepository, false, 1_000, Duration.ofMinutes(30), true, new SimpleMeterRegistry());
+
+    // Act & Assert
+    assertTrue(disabled.find(7L).isEmpty());
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  void testFind_RepeatedLookups_LoadTheUsersTransactionsOnce() {
+    // Arrange
+    when(transactionRepository.findLedgerRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+
+    // Act
+    ledgerCache.find(7L);
+    long spent = ledgerCache.find(7L).orElseThrow().sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31);
+
+    // Assert
+    assertEquals(2_500, spent);
+    verify(transactionRepository, times(1)).findLedgerRowsByUserId(7L);
+  }
+
+  @Test
+  void testUpsert_LoadedLedger_AppliesChangeWithoutReloading() {
+    // Arrange
+    when(transactionRepository.findLedgerRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    ledgerCache.find(7L);
+
+    // Act
+    ledgerCache.upsert(7L, List.of(transaction(2L, 1_000)));
+
+    // Assert
+    assertEquals(3_500, ledgerCache.find(7L).orElseThrow().sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31));
+    verify(transactionRepository, times(1)).findLedgerRowsByUserId(7L);
+  }
+
+  @Test
+  void testUpsert_NoLedgerLoaded_DoesNotLoadOne() {
+    // Act
+    ledgerCache.upsert(7L, List.of(transaction(2L, 1_000)));
+
+    // Assert
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  void testUpsert_InsideTransaction_AppliesOnlyAfterCommit() {
+    // Arrange
+    when(transactionRepository.findLedgerRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    ledgerCache.find(7L);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    ledgerCache.upsert(7L, List.of(transaction(2L, 1_000)));
+    long beforeCommit = ledgerCache.find(7L).orElseThrow().sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31);
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+    // Assert
+    assertEquals(2_500, beforeCommit);
+    assertEquals(3_500, ledgerCache.find(7L).orElseThrow().sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31));
+  }
+
+  @Test
+  void testRemove_LoadedLedger_DropsTransaction() {
+    // Arrange
+    when(transactionRepository.findLedgerRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    ledgerCache.find(7L);
+
+    // Act
+    ledgerCache.remove(7L, 1L);
+
+    // Assert
+    assertEquals(0, ledgerCache.find(7L).orElseThrow().size());
+  }
+
+  @Test
+  void testInvalidate_NextLookupReloads() {
+    // Arrange
+    when(transactionRepository.findLedgerRowsByUserId(7L)).thenReturn(List.of(GROCERIES));
+    ledgerCache.find(7L);
+
+    // Act
+    ledgerCache.invalidate(7L);
+    ledgerCache.find(7L);
+
+    // Assert
+    verify(transactionRepository, times(2)).findLedgerRowsByUserId(7L);
+  }
+
+  @Test
+  void testUpsert_CommittedWhileLoading_LoadIsNotKept() {
+    // Arrange
+    when(transactionRepository.findLedgerRowsByUserId(7L)).thenAnswer(invocation -> {
+      ledgerCache.upsert(7L, List.of(transaction(2L, 1_000)));
+      return List.of(GROCERIES);
+    }).thenReturn(List.of(GROCERIES, new LedgerRow(2L, LocalDate.of(2025, 5, 10), Money.ofCents(1_000), 1L, TransactionType.EXPENSE)));
+
+    // Act
+    ledgerCache.find(7L);
+    long reloaded = ledgerCache.find(7L).orElseThrow().sumCents(1L, TransactionType.EXPENSE, MAY_1, MAY_31);
+
+    // Assert
+    assertEquals(3_500, reloaded);
+    verify(transactionRepository, times(2)).findLedgerRowsByUserId(7L);
+  }
+
+  private static Transaction transaction(Long id, long cents) {
+    return Transaction.builder()
+            .id(id)
+            .amount(Money.ofCents(cents))
+            .type(TransactionType.EXPENSE)
+            .date(LocalDate.of(2025, 5, 10))
+            .category(Category.builder().id(1L).build())
+            .build();
+  }
+}
@@ -0,0 +1,118 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that the Vector API kernels agree with the scalar kernels, including on the
+ * transactions left over after the last full vector. Surefire runs with the
+ * {@code jdk.incubator.vector} module added, as the application does.
+ */
+public class LedgerKernelsTest {
+
+  private static final int CATEGORIES = 5;
+  private static final int FROM_DAY = 20_000;
+  private static final int TO_DAY = 20_030;
+
+  private final LedgerKernels scalar = LedgerKernels.scalar();
+  private final LedgerKernels vector = LedgerKernels.vector();
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 7, 64, 65, 1_000, 1_027})
+  void testAggregate_VectorKernels_MatchScalarKernels(int size) {
+    // Arrange
+    Columns columns = Columns.random(size, new Random(size));
+
+    for (short category = 0; category < CATEGORIES; category++) {
+      for (boolean expense : new boolean[] {true, false}) {
+        // Act
+        LedgerAggregate expected = scalar.aggregate(columns.epochDays, columns.amountCents, columns.categoryIndexes,
+            columns.expenseBits, size, FROM_DAY, TO_DAY, category, expense);
+        LedgerAggregate actual = vector.aggregate(columns.epochDays, columns.amountCents, columns.categoryIndexes,
+            columns.expenseBits, size, FROM_DAY, TO_DAY, category, expense);
+
+        // Assert
+        assertEquals(expected, actual);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 7, 64, 65, 1_000, 1_027})
+  void testSumByCategory_VectorKernels_MatchScalarKernels(int size) {
+    // Arrange
+    Columns columns = Columns.random(size, new Random(size));
+    long[] expectedTotals = new long[CATEGORIES];
+    long[] expectedCounts = new long[CATEGORIES];
+    long[] totals = new long[CATEGORIES];
+    long[] counts = new long[CATEGORIES];
+
+    // Act
+    scalar.sumByCategory(columns.epochDays, columns.amountCents, columns.categoryIndexes, columns.expenseBits,
+        size, FROM_DAY, TO_DAY, true, expectedTotals, expectedCounts);
+    vector.sumByCategory(columns.epochDays, columns.amountCents, columns.categoryIndexes, columns.expenseBits,
+        size, FROM_DAY, TO_DAY, true, totals, counts);
+
+    // Assert
+    assertArrayEquals(expectedTotals, totals);
+    assertArrayEquals(expectedCounts, counts);
+  }
+
+  @Test
+  void testAggregate_ReportsSumCountMinAndMax() {
+    // Arrange
+    int[] epochDays = {FROM_DAY, FROM_DAY + 1, TO_DAY, TO_DAY + 1, FROM_DAY, FROM_DAY};
+    long[] amountCents = {500, -200, 900, 10_000, 700, 300};
+    short[] categoryIndexes = {0, 0, 0, 0, 1, 0};
+    long[] expenseBits = {0b011111L};
+
+    // Act
+    LedgerAggregate result = scalar.aggregate(epochDays, amountCents, categoryIndexes, expenseBits,
+        epochDays.length, FROM_DAY, TO_DAY, (short) 0, true);
+
+    // Assert
+    assertEquals(new LedgerAggregate(1_200, 3, -200, 900), result);
+  }
+
+  @Test
+  void testAggregate_NothingMatches_ReturnsEmpty() {
+    // Act
+    LedgerAggregate result = vector.aggregate(new int[8], new long[8], new short[8], new long[1],
+        8, FROM_DAY, TO_DAY, (short) 0, true);
+
+    // Assert
+    assertSame(LedgerAggregate.EMPTY, result);
+  }
+
+  @Test
+  void testSelect_VectorNotPreferred_ReturnsScalarKernels() {
+    // Act & Assert
+    assertSame(LedgerKernels.scalar(), LedgerKernels.select(false));
+  }
+
+  private record Columns(int[] epochDays, long[] amountCents, short[] categoryIndexes, long[] expenseBits) {
+
+    static Columns random(int size, Random random) {
+      int[] epochDays = new int[size];
+      long[] amountCents = new long[size];
+      short[] categoryIndexes = new short[size];
+      long[] expenseBits = new long[(size + 63) >>> 6];
+      for (int i = 0; i < size; i++) {
+        epochDays[i] = FROM_DAY - 10 + random.nextInt(50);
+        amountCents[i] = random.nextInt(1_000_000) - 1_000;
+        categoryIndexes[i] = (short) random.nextInt(CATEGORIES);
+        if (random.nextBoolean()) {
+          expenseBits[i >>> 6] |= 1L << i;
+        }
+      }
+      return new Columns(epochDays, amountCents, categoryIndexes, expenseBits);
+    }
+  }
+}
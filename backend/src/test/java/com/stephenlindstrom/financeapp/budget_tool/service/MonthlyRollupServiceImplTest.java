@@ -0,0 +1,255 @@
+package com.stephenlindstrom.financeapp.budget_tool.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
+import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
+import com.stephenlindstrom.financeapp.budget_tool.model.MonthlyRollup;
+import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
+import com.stephenlindstrom.financeapp.budget_tool.model.User;
+import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.MonthlyRollupRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.MonthlyTotal;
+
+@ExtendWith(MockitoExtension.class)
+public class MonthlyRollupServiceImplTest {
+  @Mock
+  private MonthlyRollupRepository monthlyRollupRepository;
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @InjectMocks
+  private MonthlyRollupServiceImpl monthlyRollupService;
+
+  private User mockUser;
+  private Category groceries;
+  private Category dining;
+
+  @BeforeEach
+  void setUp() {
+    mockUser = User.builder().id(1L).username("testUser").password("hashedPassword").build();
+    groceries = Category.builder().id(1L).name("Groceries").type(TransactionType.EXPENSE).user(mockUser).build();
+    dining = Category.builder().id(2L).name("Dining").type(TransactionType.EXPENSE).user(mockUser).build();
+  }
+
+  @Test
+  void testRecord_AddsTransactionToItsBucket() {
+    // Arrange
+    Transaction transaction = expense(groceries, 40.00, LocalDate.of(2025, 6, 3));
+
+    // Act
+    monthlyRollupService.record(transaction);
+
+    // Assert
+    verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 4_000L, 1L);
+  }
+
+  @Test
+  void testRecordAll_WithSeveralTransactionsPerBucket_WritesEachBucketOnce() {
+    // Arrange
+    List<Transaction> transactions = List.of(
+      expense(groceries, 10.00, LocalDate.of(2025, 6, 1)),
+      expense(dining, 25.00, LocalDate.of(2025, 6, 2)),
+      expense(groceries, 15.00, LocalDate.of(2025, 6, 20))
+    );
+
+    // Act
+    monthlyRollupService.recordAll(transactions);
+
+    // Assert
+    verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 2_500L, 2L);
+    verify(monthlyRollupRepository).addToBucket(1L, 2L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 2_500L, 1L);
+    verifyNoMoreInteractions(monthlyRollupRepository);
+  }
+
+  @Test
+  void testReverse_SubtractsTransactionFromItsBucket() {
+    // Arrange
+    Transaction transaction = expense(groceries, 40.00, LocalDate.of(2025, 6, 3));
+
+    // Act
+    monthlyRollupService.reverse(transaction);
+
+    // Assert
+    verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 6), TransactionType.EXPENSE, -4_000L, -1L);
+  }
+
+  @Test
+  void testReplace_WithinSameBucket_AppliesAmountDifferenceOnly() {
+    // Arrange
+    Transaction previous = expense(groceries, 40.00, LocalDate.of(2025, 6, 3));
+    Transaction current = expense(groceries, 55.00, LocalDate.of(2025, 6, 28));
+
+    // Act
+    monthlyRollupService.replace(previous, current);
+
+    // Assert
+    verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 1_500L, 0L);
+    verifyNoMoreInteractions(monthlyRollupRepository);
+  }
+
+  @Test
+  void testReplace_WithUnchangedBucketAndAmount_DoesNotTouchRollups() {
+    // Arrange
+    Transaction previous = expense(groceries, 40.00, LocalDate.of(2025, 6, 3));
+    Transaction current = expense(groceries, 40.00, LocalDate.of(2025, 6, 3));
+
+    // Act
+    monthlyRollupService.replace(previous, current);
+
+    // Assert
+    verifyNoInteractions(monthlyRollupRepository);
+  }
+
+  @Test
+  void testReplace_AcrossBuckets_MovesContributionBetweenBuckets() {
+    // Arrange
+    Transaction previous = expense(groceries, 40.00, LocalDate.of(2025, 5, 31));
+    Transaction current = expense(dining, 45.00, LocalDate.of(2025, 6, 1));
+
+    // Act
+    monthlyRollupService.replace(previous, current);
+
+    // Assert
+    verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 5), TransactionType.EXPENSE, -4_000L, -1L);
+    verify(monthlyRollupRepository).addToBucket(1L, 2L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 4_500L, 1L);
+  }
+
+  @Test
+  void testRecordAll_LocksBucketsInCategoryMonthTypeOrder() {
+    // Arrange
+    List<Transaction> transactions = List.of(
+      expense(dining, 25.00, LocalDate.of(2025, 6, 2)),
+      expense(groceries, 10.00, LocalDate.of(2025, 7, 1)),
+      expense(groceries, 15.00, LocalDate.of(2025, 6, 20))
+    );
+
+    // Act
+    monthlyRollupService.recordAll(transactions);
+
+    // Assert
+    InOrder inOrder = inOrder(monthlyRollupRepository);
+    inOrder.verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 1_500L, 1L);
+    inOrder.verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 7), TransactionType.EXPENSE, 1_000L, 1L);
+    inOrder.verify(monthlyRollupRepository).addToBucket(1L, 2L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 2_500L, 1L);
+  }
+
+  @Test
+  void testReplace_AcrossBuckets_LocksBucketsInCategoryMonthTypeOrder() {
+    // Arrange
+    Transaction previous = expense(dining, 40.00, LocalDate.of(2025, 5, 31));
+    Transaction current = expense(groceries, 45.00, LocalDate.of(2025, 6, 1));
+
+    // Act
+    monthlyRollupService.replace(previous, current);
+
+    // Assert
+    InOrder inOrder = inOrder(monthlyRollupRepository);
+    inOrder.verify(monthlyRollupRepository).addToBucket(1L, 1L, YearMonth.of(2025, 6), TransactionType.EXPENSE, 4_500L, 1L);
+    inOrder.verify(monthlyRollupRepository).addToBucket(1L, 2L, YearMonth.of(2025, 5), TransactionType.EXPENSE, -4_000L, -1L);
+  }
+
+  @Test
+  void testVerify_WithConsistentRollups_ReturnsZero() {
+    // Arrange
+    when(monthlyRollupRepository.findByUser(mockUser)).thenReturn(List.of(
+      rollup(groceries, YearMonth.of(2025, 6), 100.00, 3),
+      rollup(dining, YearMonth.of(2025, 6), 0.00, 0)
+    ));
+    when(transactionRepository.sumByCategoryMonthAndType(mockUser.getId())).thenReturn(List.of(
+      new MonthlyTotal(1L, 2025, 6, TransactionType.EXPENSE, 10_000L, 3L)
+    ));
+
+    // Act and Assert
+    assertEquals(0, monthlyRollupService.verify(mockUser));
+  }
+
+  @Test
+  void testVerify_WithDriftedRollups_CountsMismatchedBuckets() {
+    // Arrange
+    when(monthlyRollupRepository.findByUser(mockUser)).thenReturn(List.of(
+      rollup(groceries, YearMonth.of(2025, 6), 90.00, 3),
+      rollup(dining, YearMonth.of(2025, 4), 15.00, 1)
+    ));
+    when(transactionRepository.sumByCategoryMonthAndType(mockUser.getId())).thenReturn(List.of(
+      new MonthlyTotal(1L, 2025, 6, TransactionType.EXPENSE, 10_000L, 3L),
+      new MonthlyTotal(2L, 2025, 5, TransactionType.EXPENSE, 3_000L, 1L)
+    ));
+
+    // Act and Assert
+    assertEquals(3, monthlyRollupService.verify(mockUser));
+  }
+
+  @Test
+  void testRebuild_ReplacesRollupsWithRecomputedTotals() {
+    // Arrange
+    when(transactionRepository.sumByCategoryMonthAndType(mockUser.getId())).thenReturn(List.of(
+      new MonthlyTotal(1L, 2025, 6, TransactionType.EXPENSE, 10_000L, 3L),
+      new MonthlyTotal(2L, 2025, 5, TransactionType.EXPENSE, 3_000L, 1L)
+    ));
+    when(categoryRepository.getReferenceById(1L)).thenReturn(groceries);
+    when(categoryRepository.getReferenceById(2L)).thenReturn(dining);
+
+    // Act
+    int written = monthlyRollupService.rebuild(mockUser);
+
+    // Assert
+    assertEquals(2, written);
+    verify(monthlyRollupRepository).deleteByUser(mockUser);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<MonthlyRollup>> listCaptor = ArgumentCaptor.forClass(List.class);
+    verify(monthlyRollupRepository).saveAll(listCaptor.capture());
+    List<MonthlyRollup> saved = listCaptor.getValue();
+    assertEquals(YearMonth.of(2025, 6), saved.get(0).getMonth());
+    assertEquals(3, saved.get(0).getCount());
+    assertEquals(dining, saved.get(1).getCategory());
+    assertEquals(YearMonth.of(2025, 5), saved.get(1).getMonth());
+  }
+
+  private Transaction expense(Category category, double amount, LocalDate date) {
+    return Transaction.builder()
+            .amount(Money.of(BigDecimal.valueOf(amount)))
+            .category(category)
+            .type(TransactionType.EXPENSE)
+            .date(date)
+            .user(mockUser)
+            .build();
+  }
+
+  private MonthlyRollup rollup(Category category, YearMonth month, double total, long count) {
+    return MonthlyRollup.builder()
+            .user(mockUser)
+            .category(category)
+            .month(month)
+            .type(TransactionType.EXPENSE)
+            .total(Money.of(BigDecimal.valueOf(total)))
+            .count(count)
+            .build();
+  }
+}
@@ -5,9 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -16,29 +23,50 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.CategoryDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionBatchResultDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCreateDTO;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionCursor;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionDTO;
 import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionFilter;
+import com.stephenlindstrom.financeapp.budget_tool.dto.TransactionPageDTO;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ChangeType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.ResourceType;
+import com.stephenlindstrom.financeapp.budget_tool.enums.BatchItemStatus;
 import com.stephenlindstrom.financeapp.budget_tool.enums.TransactionType;
 import com.stephenlindstrom.financeapp.budget_tool.errors.ResourceNotFoundException;
 import com.stephenlindstrom.financeapp.budget_tool.model.Category;
+import com.stephenlindstrom.financeapp.budget_tool.model.Money;
 import com.stephenlindstrom.financeapp.budget_tool.model.Transaction;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.CategoryRepository;
 import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionRepository;
+import com.stephenlindstrom.financeapp.budget_tool.repository.TransactionSpecifications;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.CategoryRow;
+import com.stephenlindstrom.financeapp.budget_tool.repository.projection.TransactionRow;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 @ExtendWith(MockitoExtension.class)
 public class TransactionServiceImplTest {
@@ -51,6 +79,27 @@ public class TransactionServiceImplTest {
   @Mock
   private UserService userService;
 
+  @Mock
+  private MonthlyRollupService monthlyRollupService;
+
+  @Mock
+  private DataVersionService dataVersionService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CategoryCache categoryCache;
+
+  @Mock
+  private LedgerCache ledgerCache;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Spy
+  private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
   @InjectMocks
   private TransactionServiceImpl transactionService;
 
@@ -83,7 +132,7 @@ public class TransactionServiceImplTest {
 
     Transaction transaction1 = Transaction.builder()
                                 .id(1L)
-                                .amount(BigDecimal.valueOf(100.00))
+                                .amount(Money.of(BigDecimal.valueOf(100.00)))
                                 .category(category1)
                                 .type(category1.getType())
                                 .date(LocalDate.of(2025, 6, 4))
@@ -92,7 +141,7 @@ public class TransactionServiceImplTest {
 
     Transaction transaction2 = Transaction.builder()
                                 .id(2L)
-                                .amount(BigDecimal.valueOf(50.00))
+                                .amount(Money.of(BigDecimal.valueOf(50.00)))
                                 .category(category2)
                                 .type(category2.getType())
                                 .date(LocalDate.of(2025, 5, 1))
@@ -101,7 +150,7 @@ public class TransactionServiceImplTest {
     
     Transaction transaction3 = Transaction.builder()
                                 .id(3L)
-                                .amount(BigDecimal.valueOf(150.00))
+                                .amount(Money.of(BigDecimal.valueOf(150.00)))
                                 .category(category2)
                                 .type(category2.getType())
                                 .date(LocalDate.of(2025, 4, 15))
@@ -110,7 +159,7 @@ public class TransactionServiceImplTest {
 
     Transaction transaction4 = Transaction.builder()
                                 .id(4L)
-                                .amount(BigDecimal.valueOf(2000.00))
+                                .amount(Money.of(BigDecimal.valueOf(2000.00)))
                                 .category(category3)
                                 .type(category3.getType())
                                 .date(LocalDate.of(2024, 12, 23))
@@ -123,13 +172,15 @@ public class TransactionServiceImplTest {
   @BeforeEach
   void setup() {
     mockUser = User.builder().id(1L).username("mockUser").build();
-    when(userService.getAuthenticatedUser()).thenReturn(mockUser);
+    // Write paths need the owning entity, read paths only its ID
+    lenient().when(userService.getAuthenticatedUser()).thenReturn(mockUser);
+    lenient().when(userService.getAuthenticatedUserId()).thenReturn(mockUser.getId());
   }
 
   @Test
   void testCreate_WithValidInput_ReturnsTransactionDTO() {
     // Arrange
-    BigDecimal amount = BigDecimal.valueOf(100.00);
+    BigDecimal amount = new BigDecimal("100.00");
     Long categoryId = 1L;
     TransactionType type = TransactionType.EXPENSE;
     LocalDate date = LocalDate.of(2025, 5, 1);
@@ -152,7 +203,7 @@ public class TransactionServiceImplTest {
 
     Transaction savedTransaction = Transaction.builder()
         .id(1L)
-        .amount(amount)
+        .amount(Money.of(amount))
         .category(savedCategory)
         .type(type)
         .date(date)
@@ -161,7 +212,8 @@ public class TransactionServiceImplTest {
         .build();
 
     when(transactionRepository.save(transactionCaptor.capture())).thenReturn(savedTransaction);
-    when(categoryRepository.findByIdAndUser(categoryId, mockUser)).thenReturn(Optional.of(savedCategory));
+    when(categoryCache.find(mockUser.getId(), categoryId)).thenReturn(Optional.of(toRow(savedCategory)));
+    when(categoryRepository.getReferenceById(categoryId)).thenReturn(savedCategory);
 
     // Act
     TransactionDTO result = transactionService.create(dto);
@@ -169,6 +221,7 @@ public class TransactionServiceImplTest {
     // Assert
     verify(userService).getAuthenticatedUser();
     verify(transactionRepository).save(any(Transaction.class));
+    verify(monthlyRollupService).record(savedTransaction);
 
     assertEquals(1L, result.getId());
     assertEquals(amount, result.getAmount());
@@ -195,7 +248,7 @@ public class TransactionServiceImplTest {
         .description("food")
         .build();
 
-    when(categoryRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(categoryCache.find(mockUser.getId(), 1L)).thenReturn(Optional.empty());
 
     // Act
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -210,7 +263,7 @@ public class TransactionServiceImplTest {
   @Test
   void testCreate_WithNullDateAndNullDescription_ReturnsTransactionDTOWithCurrentDateAndEmptyDescription() {
       // Arrange
-    BigDecimal amount = BigDecimal.valueOf(100.00);
+    BigDecimal amount = new BigDecimal("100.00");
     Long categoryId = 1L;
     TransactionType type = TransactionType.EXPENSE;
     LocalDate now = LocalDate.now();
@@ -230,7 +283,7 @@ public class TransactionServiceImplTest {
 
     Transaction savedTransaction = Transaction.builder()
         .id(1L)
-        .amount(amount)
+        .amount(Money.of(amount))
         .category(savedCategory)
         .type(type)
         .date(now)
@@ -238,7 +291,8 @@ public class TransactionServiceImplTest {
         .user(mockUser)
         .build();
 
-    when(categoryRepository.findByIdAndUser(categoryId, mockUser)).thenReturn(Optional.of(savedCategory));
+    when(categoryCache.find(mockUser.getId(), categoryId)).thenReturn(Optional.of(toRow(savedCategory)));
+    when(categoryRepository.getReferenceById(categoryId)).thenReturn(savedCategory);
     when(transactionRepository.save(transactionCaptor.capture())).thenReturn(savedTransaction);    
 
     // Act
@@ -264,16 +318,119 @@ public class TransactionServiceImplTest {
     assertEquals(type, categoryDTO.getType());
   }
 
+  @Test
+  void testCreateAll_WithMixedItems_CreatesValidItemsAndReportsFailures() {
+    // Arrange
+    Category groceries = Category.builder().id(1L).name("Groceries").type(TransactionType.EXPENSE).user(mockUser).build();
+    Category car = Category.builder().id(2L).name("Car").type(TransactionType.EXPENSE).user(mockUser).build();
+
+    List<TransactionCreateDTO> dtos = Arrays.asList(
+      TransactionCreateDTO.builder().amount(BigDecimal.valueOf(12.50)).categoryId(1L).type(TransactionType.EXPENSE).date(LocalDate.of(2025, 6, 1)).build(),
+      TransactionCreateDTO.builder().amount(BigDecimal.valueOf(5.00)).categoryId(99L).type(TransactionType.EXPENSE).date(LocalDate.of(2025, 6, 2)).build(),
+      TransactionCreateDTO.builder().categoryId(2L).type(TransactionType.EXPENSE).date(LocalDate.of(2025, 6, 3)).build(),
+      TransactionCreateDTO.builder().amount(BigDecimal.valueOf(40.00)).categoryId(2L).type(TransactionType.EXPENSE).description("gas").build()
+    );
+
+    when(categoryCache.findAll(eq(mockUser.getId()), anyCollection()))
+        .thenReturn(Map.of(1L, toRow(groceries), 2L, toRow(car)));
+    when(categoryRepository.getReferenceById(1L)).thenReturn(groceries);
+    when(categoryRepository.getReferenceById(2L)).thenReturn(car);
+    when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+      List<Transaction> transactions = invocation.getArgument(0);
+      long id = 100L;
+      for (Transaction transaction : transactions) {
+        transaction.setId(id++);
+      }
+      return transactions;
+    });
+
+    // Act
+    TransactionBatchResultDTO result = transactionService.createAll(dtos);
+
+    // Assert
+    verify(categoryCache).findAll(mockUser.getId(), Set.of(1L, 2L, 99L));
+    verify(categoryRepository, never()).findByIdAndUserId(any(), any());
+    verify(monthlyRollupService).recordAll(anyList());
+    verify(eventPublisher).publishEvent(DataChangedEvent.bulkCreated(mockUser.getId(), ResourceType.TRANSACTION, 2));
+    verifyNoMoreInteractions(eventPublisher);
+
+    assertEquals(2, result.getCreated());
+    assertEquals(2, result.getFailed());
+    assertEquals(4, result.getResults().size());
+
+    assertEquals(BatchItemStatus.CREATED, result.getResults().get(0).getStatus());
+    assertEquals(100L, result.getResults().get(0).getTransaction().getId());
+    assertEquals("Groceries", result.getResults().get(0).getTransaction().getCategory().getName());
+
+    assertEquals(BatchItemStatus.FAILED, result.getResults().get(1).getStatus());
+    assertEquals("Category not found", result.getResults().get(1).getError());
+
+    assertEquals(BatchItemStatus.FAILED, result.getResults().get(2).getStatus());
+    assertEquals(2, result.getResults().get(2).getIndex());
+    assertTrue(result.getResults().get(2).getError().startsWith("amount"));
+
+    assertEquals(BatchItemStatus.CREATED, result.getResults().get(3).getStatus());
+    assertEquals(101L, result.getResults().get(3).getTransaction().getId());
+    assertEquals(LocalDate.now(), result.getResults().get(3).getTransaction().getDate());
+  }
+
+  @Test
+  void testCreateAll_WithManyItems_FlushesAndClearsEachJdbcBatch() {
+    // Arrange
+    Category groceries = Category.builder().id(1L).name("Groceries").type(TransactionType.EXPENSE).user(mockUser).build();
+    TransactionCreateDTO dto = TransactionCreateDTO.builder()
+        .amount(BigDecimal.ONE)
+        .categoryId(1L)
+        .type(TransactionType.EXPENSE)
+        .date(LocalDate.of(2025, 6, 1))
+        .build();
+    List<TransactionCreateDTO> dtos = Collections.nCopies(TransactionServiceImpl.FLUSH_SIZE * 2 + 1, dto);
+
+    when(categoryCache.findAll(eq(mockUser.getId()), anyCollection())).thenReturn(Map.of(1L, toRow(groceries)));
+    when(categoryRepository.getReferenceById(1L)).thenReturn(groceries);
+    when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    TransactionBatchResultDTO result = transactionService.createAll(dtos);
+
+    // Assert
+    ArgumentCaptor<List<Transaction>> chunkCaptor = ArgumentCaptor.captor();
+    verify(transactionRepository, times(3)).saveAll(chunkCaptor.capture());
+    assertEquals(List.of(TransactionServiceImpl.FLUSH_SIZE, TransactionServiceImpl.FLUSH_SIZE, 1),
+        chunkCaptor.getAllValues().stream().map(List::size).toList());
+    verify(entityManager, times(3)).flush();
+    verify(entityManager, times(3)).clear();
+    verify(monthlyRollupService).recordAll(argThat(saved -> saved.size() == dtos.size()));
+    assertEquals(dtos.size(), result.getCreated());
+  }
+
+  @Test
+  void testCreateAll_WithEmptyOrOversizedBatch_ThrowsIllegalArgumentException() {
+    // Arrange
+    TransactionCreateDTO dto = TransactionCreateDTO.builder()
+        .amount(BigDecimal.ONE)
+        .categoryId(1L)
+        .type(TransactionType.EXPENSE)
+        .build();
+    List<TransactionCreateDTO> oversized = Collections.nCopies(TransactionServiceImpl.MAX_BATCH_SIZE + 1, dto);
+
+    // Act and Assert
+    assertThrows(IllegalArgumentException.class, () -> transactionService.createAll(List.of()));
+    assertThrows(IllegalArgumentException.class, () -> transactionService.createAll(oversized));
+
+    verifyNoInteractions(transactionRepository, categoryRepository, monthlyRollupService);
+  }
+
   @Test
   void testGetAll_WithEntries_ReturnsListofTransactionDTO() {
     // Arrange
     TransactionType type = TransactionType.EXPENSE;
 
-    BigDecimal amount1 = BigDecimal.valueOf(100.00);
+    BigDecimal amount1 = new BigDecimal("100.00");
     LocalDate date1 = LocalDate.of(2025, 6, 5);
     String description1 = "food";
 
-    BigDecimal amount2 = BigDecimal.valueOf(50.00);
+    BigDecimal amount2 = new BigDecimal("50.00");
     LocalDate date2 = LocalDate.of(2025, 5, 1);
     String description2 = "gas";
 
@@ -294,7 +451,7 @@ public class TransactionServiceImplTest {
     
     Transaction savedTransaction1 = Transaction.builder()
         .id(1L)
-        .amount(amount1)
+        .amount(Money.of(amount1))
         .category(savedCategory1)
         .type(type)
         .date(date1)
@@ -304,7 +461,7 @@ public class TransactionServiceImplTest {
 
     Transaction savedTransaction2 = Transaction.builder()
         .id(2L)
-        .amount(amount2)
+        .amount(Money.of(amount2))
         .category(savedCategory2)
         .type(type)
         .date(date2)
@@ -314,7 +471,7 @@ public class TransactionServiceImplTest {
 
     List<Transaction> transactionList = new ArrayList<>(Arrays.asList(savedTransaction1, savedTransaction2));
 
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(transactionList);
+    when(transactionRepository.findRowsByUserId(mockUser.getId())).thenReturn(toRows(transactionList));
 
     // Act
     List<TransactionDTO> dtos = transactionService.getAll();
@@ -342,20 +499,20 @@ public class TransactionServiceImplTest {
     assertEquals(type, categoryDTO1.getType());
     assertEquals(type, categoryDTO2.getType());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
   void testGetAll_WithNoEntries_ReturnsEmptyList() {
     // Arrange
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(Collections.emptyList());
+    when(transactionRepository.findRowsByUserId(mockUser.getId())).thenReturn(Collections.emptyList());
 
     // Act
     List<TransactionDTO> dtos = transactionService.getAll();
 
     // Assert
     assertTrue(dtos.isEmpty());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
@@ -380,7 +537,7 @@ public class TransactionServiceImplTest {
     
     Transaction existingTransaction = Transaction.builder()
         .id(1L)
-        .amount(BigDecimal.valueOf(100.00))
+        .amount(Money.of(BigDecimal.valueOf(100.00)))
         .category(category1)
         .type(type1)
         .date(LocalDate.of(2025, 6, 24))
@@ -390,7 +547,7 @@ public class TransactionServiceImplTest {
     
     Transaction updatedTransaction = Transaction.builder()
         .id(1L)
-        .amount(BigDecimal.valueOf(1200.00))
+        .amount(Money.of(BigDecimal.valueOf(1200.00)))
         .category(category2)
         .type(type2)
         .date(LocalDate.of(2024, 4, 23))
@@ -406,8 +563,9 @@ public class TransactionServiceImplTest {
         .description("Job")
         .build();
 
-    when(transactionRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(existingTransaction));
-    when(categoryRepository.findByIdAndUser(dto.getCategoryId(), mockUser)).thenReturn(Optional.of(category2));
+    when(transactionRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(existingTransaction));
+    when(categoryCache.find(mockUser.getId(), dto.getCategoryId())).thenReturn(Optional.of(toRow(category2)));
+    when(categoryRepository.getReferenceById(dto.getCategoryId())).thenReturn(category2);
     when(transactionRepository.save(any(Transaction.class))).thenReturn(updatedTransaction);
     
     // Act
@@ -415,7 +573,7 @@ public class TransactionServiceImplTest {
 
     // Assert
     assertEquals(1L, result.getId());
-    assertEquals(BigDecimal.valueOf(1200.00), result.getAmount());
+    assertEquals(new BigDecimal("1200.00"), result.getAmount());
     assertEquals(2L, result.getCategory().getId());
     assertEquals(TransactionType.INCOME, result.getType());
     assertEquals(LocalDate.of(2024, 4, 23), result.getDate());
@@ -423,6 +581,14 @@ public class TransactionServiceImplTest {
 
     verify(userService).getAuthenticatedUser();
     verify(transactionRepository).save(any(Transaction.class));
+
+    ArgumentCaptor<Transaction> previousCaptor = ArgumentCaptor.forClass(Transaction.class);
+    verify(monthlyRollupService).replace(previousCaptor.capture(), eq(updatedTransaction));
+    Transaction previous = previousCaptor.getValue();
+    assertEquals(Money.ofCents(10_000), previous.getAmount());
+    assertEquals(1L, previous.getCategory().getId());
+    assertEquals(TransactionType.EXPENSE, previous.getType());
+    assertEquals(LocalDate.of(2025, 6, 24), previous.getDate());
   }
 
   @Test
@@ -436,7 +602,7 @@ public class TransactionServiceImplTest {
         .description("Job")
         .build();
 
-    when(transactionRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.empty());
+    when(transactionRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
 
     // Act and Assert
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -462,7 +628,7 @@ public class TransactionServiceImplTest {
 
     Transaction existingTransaction = Transaction.builder()
         .id(1L)
-        .amount(BigDecimal.valueOf(100.00))
+        .amount(Money.of(BigDecimal.valueOf(100.00)))
         .category(category)
         .type(TransactionType.EXPENSE)
         .date(LocalDate.of(2025, 6, 24))
@@ -478,8 +644,8 @@ public class TransactionServiceImplTest {
         .description("Job")
         .build();
 
-    when(transactionRepository.findByIdAndUser(1L, mockUser)).thenReturn(Optional.of(existingTransaction));
-    when(categoryRepository.findByIdAndUser(2L, mockUser)).thenReturn(Optional.empty());
+    when(transactionRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(existingTransaction));
+    when(categoryCache.find(mockUser.getId(), 2L)).thenReturn(Optional.empty());
 
     // Act and Assert
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -487,8 +653,8 @@ public class TransactionServiceImplTest {
     });
     
     verify(userService).getAuthenticatedUser();
-    verify(transactionRepository).findByIdAndUser(1L, mockUser);
-    verify(categoryRepository).findByIdAndUser(2L, mockUser);
+    verify(transactionRepository).findByIdAndUserId(1L, mockUser.getId());
+    verify(categoryCache).find(mockUser.getId(), 2L);
 
     assertEquals("Category not found", exception.getMessage());
 
@@ -496,86 +662,142 @@ public class TransactionServiceImplTest {
   }
 
   @Test
-  void testDeleteById_WithValidId_DeletesTransactionByUser() {
+  void testDeleteById_WithValidId_DeletesTransactionAndReversesRollup() {
+    // Arrange
+    Transaction transaction = transactionBatch.get(0);
+    when(transactionRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.of(transaction));
+
     // Act
     transactionService.deleteById(1L);
 
     // Assert
-    verify(userService).getAuthenticatedUser();
-    verify(transactionRepository).deleteByIdAndUser(1L, mockUser);
+    verify(userService).getAuthenticatedUserId();
+    verify(monthlyRollupService).reverse(transaction);
+    verify(transactionRepository).delete(transaction);
+    verify(dataVersionService).increment();
+    verify(eventPublisher).publishEvent(DataChangedEvent.of(mockUser.getId(), ResourceType.TRANSACTION, ChangeType.DELETED, 1L, null));
   }
 
   @Test
-  void testFilter_NoFilterCriteria_ReturnsAllTransactions() {
-    //Arrange
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(transactionBatch);
+  void testDeleteById_TransactionDoesNotExist_DoesNothing() {
+    // Arrange
+    when(transactionRepository.findByIdAndUserId(1L, mockUser.getId())).thenReturn(Optional.empty());
 
     // Act
-    List<TransactionDTO> dtos = transactionService.filter(new TransactionFilter()); 
+    transactionService.deleteById(1L);
 
     // Assert
-    assertEquals(4, dtos.size());
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
+    verifyNoInteractions(monthlyRollupService);
+    verify(transactionRepository, never()).delete(any(Transaction.class));
+    verifyNoInteractions(dataVersionService, eventPublisher);
   }
 
   @Test
-  void testFilter_FilterByExpenseType_ReturnsAllExpenses() {
+  void testGetAllPaged_WithMoreRowsThanLimit_ReturnsPageAndNextCursor() {
     // Arrange
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(transactionBatch);
-    TransactionFilter filter = new TransactionFilter(TransactionType.EXPENSE, null, null, null);
+    when(transactionRepository.findRows(ArgumentMatchers.<Specification<Transaction>>any(), eq(TransactionSpecifications.NEWEST_FIRST), eq(3)))
+      .thenReturn(toRows(transactionBatch.subList(0, 3)));
 
     // Act
-    List<TransactionDTO> dtos = transactionService.filter(filter);
+    TransactionPageDTO page = transactionService.getAll(2, null);
 
     // Assert
-    assertEquals(3, dtos.size());
-    assertEquals(TransactionType.EXPENSE, dtos.get(0).getType());
-    assertEquals(TransactionType.EXPENSE, dtos.get(1).getType());
-    assertEquals(TransactionType.EXPENSE, dtos.get(2).getType());
+    assertEquals(2, page.getItems().size());
+    assertEquals(1L, page.getItems().get(0).getId());
+    assertEquals(2L, page.getItems().get(1).getId());
 
-    verify(userService).getAuthenticatedUser();
+    Transaction last = transactionBatch.get(1);
+    assertEquals(new TransactionCursor(last.getDate(), last.getId()), TransactionCursor.decode(page.getNext()));
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
-  void testFilter_FilterByCategoryId2_ReturnsTransactionsWithCategoryId2() {
+  void testFilterPaged_OnLastPage_ReturnsNullNextCursor() {
     // Arrange
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(transactionBatch);
-    TransactionFilter filter = new TransactionFilter(null, 2L, null, null);
+    String cursor = new TransactionCursor(LocalDate.of(2025, 6, 1), 10L).encode();
+    when(transactionRepository.findRows(ArgumentMatchers.<Specification<Transaction>>any(), eq(TransactionSpecifications.NEWEST_FIRST), eq(6)))
+      .thenReturn(toRows(transactionBatch.subList(2, 4)));
 
     // Act
-    List<TransactionDTO> dtos = transactionService.filter(filter);
+    TransactionPageDTO page = transactionService.filter(new TransactionFilter(), 5, cursor);
 
     // Assert
-    assertEquals(2, dtos.size());
-    assertEquals(2L, dtos.get(0).getCategory().getId());
-    assertEquals(2L, dtos.get(1).getCategory().getId());
+    assertEquals(2, page.getItems().size());
+    assertNull(page.getNext());
+  }
 
-    verify(userService).getAuthenticatedUser();
+  @Test
+  void testFilterPaged_WithLimitOutOfRange_ThrowsIllegalArgumentException() {
+    // Act and Assert
+    assertThrows(IllegalArgumentException.class, () -> transactionService.filter(new TransactionFilter(), 0, null));
+    assertThrows(IllegalArgumentException.class,
+      () -> transactionService.filter(new TransactionFilter(), TransactionServiceImpl.MAX_PAGE_SIZE + 1, null));
+
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  void testFilterPaged_WithMalformedCursor_ThrowsIllegalArgumentException() {
+    // Act and Assert
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+      () -> transactionService.getAll(10, "%%%"));
+
+    assertEquals("Invalid cursor", exception.getMessage());
+    verifyNoInteractions(transactionRepository);
   }
 
   @Test
-  void testFilter_FilterByDate_ReturnsTransactionsBetweenStartAndEndDates() {
+  void testStreamAll_WithEntries_PassesEachDTOInOrder() {
     // Arrange
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(transactionBatch);
-    TransactionFilter filter = new TransactionFilter(null, null, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 5, 1));
+    when(transactionRepository.streamByUserId(mockUser.getId())).thenReturn(toRows(transactionBatch).stream());
+    List<TransactionDTO> received = new ArrayList<>();
 
     // Act
-    List<TransactionDTO> dtos = transactionService.filter(filter);
+    transactionService.streamAll(received::add);
 
     // Assert
-    assertEquals(2, dtos.size());
-    assertTrue(!dtos.get(0).getDate().isBefore(filter.getStartDate()));
-    assertTrue(!dtos.get(0).getDate().isAfter(filter.getEndDate()));
-    assertTrue(!dtos.get(1).getDate().isBefore(filter.getStartDate()));
-    assertTrue(!dtos.get(1).getDate().isAfter(filter.getEndDate()));
+    assertEquals(4, received.size());
+    assertEquals(1L, received.get(0).getId());
+    assertEquals(4L, received.get(3).getId());
+    assertEquals("Salary", received.get(3).getCategory().getName());
 
-    verify(userService).getAuthenticatedUser();
+    verify(userService).getAuthenticatedUserId();
+  }
+
+  @Test
+  void testStreamAll_ClosesStreamWhenDone() {
+    // Arrange
+    boolean[] closed = {false};
+    when(transactionRepository.streamByUserId(mockUser.getId()))
+      .thenReturn(Stream.<TransactionRow>empty().onClose(() -> closed[0] = true));
+
+    // Act
+    transactionService.streamAll(dto -> {});
+
+    // Assert
+    assertTrue(closed[0]);
+  }
+
+  @Test
+  void testFilter_NoFilterCriteria_ReturnsAllTransactions() {
+    //Arrange
+    when(transactionRepository.findRows(ArgumentMatchers.<Specification<Transaction>>any(), eq(TransactionSpecifications.NEWEST_FIRST)))
+      .thenReturn(toRows(transactionBatch));
+
+    // Act
+    List<TransactionDTO> dtos = transactionService.filter(new TransactionFilter()); 
+
+    // Assert
+    assertEquals(4, dtos.size());
+    verify(userService).getAuthenticatedUserId();
   }
 
   @Test
-  void testFilter_FilterByAllCriteria_ReturnsCorrectlyFilteredTransactions() {
+  void testFilter_WithCriteria_QueriesDatabaseInsteadOfLoadingLedger() {
     // Arrange
-    when(transactionRepository.findByUserOrderByDateDesc(mockUser)).thenReturn(transactionBatch);
+    when(transactionRepository.findRows(ArgumentMatchers.<Specification<Transaction>>any(), eq(TransactionSpecifications.NEWEST_FIRST)))
+      .thenReturn(toRows(transactionBatch.subList(1, 3)));
     TransactionFilter filter = new TransactionFilter(TransactionType.EXPENSE, 2L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
 
     // Act
@@ -586,7 +808,18 @@ public class TransactionServiceImplTest {
     assertEquals(2L, dtos.get(0).getId());
     assertEquals(3L, dtos.get(1).getId());
 
-    verify(userService).getAuthenticatedUser();
+    verify(transactionRepository, never()).findByUserIdOrderByDateDesc(any());
+    verify(userService).getAuthenticatedUserId();
   }
 
+  private static List<TransactionRow> toRows(List<Transaction> transactions) {
+    return transactions.stream()
+            .map(t -> new TransactionRow(t.getId(), t.getAmount(), t.getType(), t.getDate(), t.getDescription(),
+                        t.getCategory().getId(), t.getCategory().getName(), t.getCategory().getType()))
+            .toList();
+  }
+
+  private static CategoryRow toRow(Category category) {
+    return new CategoryRow(category.getId(), category.getName(), category.getType());
+  }
 }
@@ -1,14 +1,17 @@
 package com.stephenlindstrom.financeapp.budget_tool.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -17,11 +20,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.stephenlindstrom.financeapp.budget_tool.dto.UserRegistrationDTO;
 import com.stephenlindstrom.financeapp.budget_tool.model.User;
 import com.stephenlindstrom.financeapp.budget_tool.repository.UserRepository;
+import com.stephenlindstrom.financeapp.budget_tool.security.AuthenticatedUser;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -116,4 +123,27 @@ public class UserServiceTest {
     verify(passwordEncoder).matches("rawPassword", user.getPassword());
   }
 
+  @Test
+  void testGetAuthenticatedUser_returnsReferenceWithoutLookingUpUsername() {
+    User reference = User.builder().id(42L).build();
+    SecurityContextHolder.getContext().setAuthentication(
+      new UsernamePasswordAuthenticationToken(new AuthenticatedUser(42L, "testuser"), null, List.of()));
+    when(userRepository.getReferenceById(42L)).thenReturn(reference);
+
+    User user = userService.getAuthenticatedUser();
+
+    assertSame(reference, user);
+    verify(userRepository, never()).findByUsername(any());
+  }
+
+  @Test
+  void testGetAuthenticatedUserId_whenNotAuthenticated_throwsUsernameNotFoundException() {
+    assertThrows(UsernameNotFoundException.class, () -> userService.getAuthenticatedUserId());
+  }
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
 }